@@ -0,0 +1,221 @@
+package benchmark;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
+import data.unit.packet.ARPPacket;
+import data.unit.packet.IPPacket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프레임, 패킷, 주소 변환 비용 측정 클래스
+ * <p>
+ * data 패키지의 패킷당 비용(연산당 시간, 할당 바이트)을 JMH 로 측정하여 성능 회귀를 추적한다.
+ * 벤치마크마다 새 JVM 을 띄우므로 앞선 벤치마크의 JIT 프로파일이 결과에 영향을 주지 않으며,
+ * 할당 바이트는 GC 프로파일러의 {@code gc.alloc.rate.norm} 값이다.
+ * 이름을 인자로 주면 해당 정규식과 일치하는 벤치마크만 실행한다.
+ * <pre>
+ * java -cp ... benchmark.CodecBenchmark [filter]
+ * java -cp ... org.openjdk.jmh.Main CodecBenchmark -prof gc [JMH options]
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private final String[] ipStrings = new String[SIZE];
+    private final String[] macStrings = new String[SIZE];
+    private final byte[][] ipBytes = new byte[SIZE][];
+    private final byte[][] macBytes = new byte[SIZE][];
+    private final IPAddress[] ipAddresses = new IPAddress[SIZE];
+    private final IPAddress[] ipCopies = new IPAddress[SIZE];
+    private final MACAddress[] macAddresses = new MACAddress[SIZE];
+    private final MACAddress[] macCopies = new MACAddress[SIZE];
+    private final IPAddress[] netmasks = new IPAddress[SIZE];
+    private final byte[][] ipPackets = new byte[SIZE][];
+    private final byte[][] arpPackets = new byte[SIZE][];
+    private final byte[][] frames = new byte[SIZE][];
+    private final IPPacket[] ipPacketObjects = new IPPacket[SIZE];
+    private final ARPPacket[] arpPacketObjects = new ARPPacket[SIZE];
+    private final EthernetFrame[] frameObjects = new EthernetFrame[SIZE];
+
+    /**
+     * 호출 순번, 입력 배열을 순환하여 분기 예측과 캐시가 한 입력에 고정되지 않게 한다
+     */
+    private int index;
+
+    public static void main(String[] args) throws RunnerException {
+        String filter = args.length > 0 ? args[0] : "";
+        new Runner(new OptionsBuilder()
+                .include(CodecBenchmark.class.getName() + ".*" + filter)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * 입력 데이터 준비 메서드
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        for (int index = 0; index < SIZE; index++) {
+            int address = random.nextInt();
+            ipAddresses[index] = new IPAddress(address);
+            ipCopies[index] = new IPAddress(address);
+            ipStrings[index] = ipAddresses[index].toString();
+            ipBytes[index] = ipAddresses[index].toBytes();
+
+            byte[] mac = new byte[6];
+            random.nextBytes(mac);
+            macAddresses[index] = new MACAddress(mac);
+            macCopies[index] = new MACAddress(mac.clone());
+            macStrings[index] = macAddresses[index].toString();
+            macBytes[index] = macAddresses[index].toBytes();
+
+            netmasks[index] = IPAddress.netmask(random.nextInt(33));
+        }
+        for (int index = 0; index < SIZE; index++) {
+            IPPacket ipPacket = new IPPacket();
+            ipPacket.setSource(ipAddresses[index]);
+            ipPacket.setDestination(ipAddresses[(index + 1) & MASK]);
+            ipPacket.setProtocol(IPPacket.Protocol.UDP);
+            ipPacket.setData(new byte[64 + random.nextInt(1400)]);
+            ipPackets[index] = ipPacket.toBytes();
+            ipPacketObjects[index] = new IPPacket(ipPackets[index]);
+
+            ARPPacket arpPacket = new ARPPacket();
+            arpPacket.setOperation(ARPPacket.Operation.REQUEST);
+            arpPacket.setSourceMAC(macAddresses[index]);
+            arpPacket.setSourceIP(ipAddresses[index]);
+            arpPacket.setDestinationMAC(MACAddress.ZERO);
+            arpPacket.setDestinationIP(ipAddresses[(index + 1) & MASK]);
+            arpPackets[index] = arpPacket.toBytes();
+            arpPacketObjects[index] = new ARPPacket(arpPackets[index]);
+
+            EthernetFrame frame = new EthernetFrame();
+            frame.setDestination(macAddresses[(index + 1) & MASK]);
+            frame.setSource(macAddresses[index]);
+            frame.setType(EthernetFrame.Type.IP);
+            frame.setData(ipPackets[index]);
+            frames[index] = frame.toBytes();
+            frameObjects[index] = new EthernetFrame(frames[index]);
+        }
+    }
+
+    private int next() {
+        return index++ & MASK;
+    }
+
+    @Benchmark
+    public EthernetFrame ethernetFrameParse() {
+        return new EthernetFrame(frames[next()]);
+    }
+
+    @Benchmark
+    public byte[] ethernetFrameToBytes() {
+        return frameObjects[next()].toBytes();
+    }
+
+    @Benchmark
+    public int ethernetFrameGetType() {
+        return EthernetFrame.getType(frames[next()]);
+    }
+
+    @Benchmark
+    public IPPacket ipPacketParse() {
+        return new IPPacket(ipPackets[next()]);
+    }
+
+    @Benchmark
+    public byte[] ipPacketToBytes() {
+        return ipPacketObjects[next()].toBytes();
+    }
+
+    @Benchmark
+    public ARPPacket arpPacketParse() {
+        return new ARPPacket(arpPackets[next()]);
+    }
+
+    @Benchmark
+    public byte[] arpPacketToBytes() {
+        return arpPacketObjects[next()].toBytes();
+    }
+
+    @Benchmark
+    public IPAddress ipAddressFromString() {
+        return new IPAddress(ipStrings[next()]);
+    }
+
+    @Benchmark
+    public IPAddress ipAddressFromBytes() {
+        return new IPAddress(ipBytes[next()]);
+    }
+
+    @Benchmark
+    public int ipAddressHashCode() {
+        return ipAddresses[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean ipAddressEquals() {
+        int index = next();
+        return ipAddresses[index].equals(ipCopies[(index >>> 1) & MASK]);
+    }
+
+    @Benchmark
+    public IPAddress ipAddressToNetwork() {
+        int index = next();
+        return ipAddresses[index].toNetwork(netmasks[index]);
+    }
+
+    @Benchmark
+    public boolean ipAddressIsNetmask() {
+        int index = next();
+        return ipAddresses[index].isNetmask() || netmasks[index].isNetmask();
+    }
+
+    @Benchmark
+    public MACAddress macAddressFromString() {
+        return new MACAddress(macStrings[next()]);
+    }
+
+    @Benchmark
+    public MACAddress macAddressFromBytes() {
+        return new MACAddress(macBytes[next()]);
+    }
+
+    @Benchmark
+    public int macAddressHashCode() {
+        return macAddresses[next()].hashCode();
+    }
+
+    @Benchmark
+    public boolean macAddressEquals() {
+        int index = next();
+        return macAddresses[index].equals(macCopies[(index >>> 1) & MASK]);
+    }
+
+}
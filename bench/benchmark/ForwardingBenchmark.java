@@ -0,0 +1,256 @@
+package benchmark;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
+import data.unit.packet.ARPPacket;
+import data.unit.packet.IPPacket;
+import launch.HeadlessRouterMain;
+import launch.StaticRouterMain;
+import layer.application.HeadlessRouter;
+import layer.application.RouteEntry;
+import layer.controller.InterfaceContext;
+import layer.controller.LatencyHistogram;
+import layer.controller.LayerManager;
+import layer.internet.ARPLayer;
+import layer.link.NILayer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세스 내 포워딩 처리량 측정 클래스
+ * <p>
+ * {@link HeadlessRouterMain#createLayers(List)} 로 라우터와 같은 계층 구성을 만들고, 네트워크 인터페이스 계층 대신
+ * 메모리 링크를 연결한다. 인터페이스 설정, 라우팅 테이블, ARP 캐시를 미리 채운 뒤 인터페이스 1 에 IPv4 프레임을
+ * 최대 속도로 넣고 인터페이스 2 로 나오는 프레임을 센다. 프레임 크기별로 초당 패킷 수, 초당 비트 수, 손실,
+ * 할당률, 스레드 개수, 송신 큐에 들어가기까지의 지연 시간을 출력한다.
+ * 손실은 송신 큐와 작업 스레드 수신 링에서 버려진 프레임을 합한 값이다.
+ * {@code ni.rx.workers} 를 2 이상으로 설정하면 입력 인터페이스의 작업 스레드들이 흐름별로 나누어 처리한다.
+ * <pre>
+ * java -cp ... [-Dbench.warmup=1000] [-Dbench.time=3000] [-Dbench.mtu=1500] [-Dni.rx.workers=1] benchmark.ForwardingBenchmark [frame size,...]
+ * </pre>
+ */
+public class ForwardingBenchmark {
+
+    private static final int[] DEFAULT_SIZES = {64, 128, 512, 1024, 1514};
+
+    private static final long WARMUP_MILLIS = Long.getLong("bench.warmup", 1000);
+    private static final long MEASURE_MILLIS = Long.getLong("bench.time", 3000);
+
+    /**
+     * 두 인터페이스의 MTU, 점보 프레임 측정 시 9000 등으로 설정
+     */
+    private static final int MTU = Integer.getInteger("bench.mtu", EthernetFrame.MTU);
+
+    /**
+     * 미리 만들어 두는 입력 프레임 개수
+     */
+    private static final int FRAMES = 256;
+    private static final int HOSTS = 64;
+
+    private static final MACAddress ROUTER_MAC_1 = new MACAddress("02:00:00:00:01:01");
+    private static final MACAddress ROUTER_MAC_2 = new MACAddress("02:00:00:00:02:01");
+    private static final MACAddress SOURCE_MAC = new MACAddress("02:00:00:00:01:64");
+    private static final MACAddress GATEWAY_MAC = new MACAddress("02:00:00:00:02:FE");
+    private static final IPAddress ROUTER_IP_1 = new IPAddress("192.168.1.1");
+    private static final IPAddress ROUTER_IP_2 = new IPAddress("192.168.2.1");
+    private static final IPAddress SOURCE_IP = new IPAddress("192.168.1.100");
+    private static final IPAddress GATEWAY_IP = new IPAddress("192.168.2.254");
+
+    private static volatile boolean running;
+
+    public static void main(String[] args) throws InterruptedException {
+        int[] sizes = args.length > 0 ? Arrays.stream(args[0].split(",")).mapToInt(Integer::parseInt).toArray() : DEFAULT_SIZES;
+
+        // 계층 구성 (인터페이스 1: 입력, 인터페이스 2: 출력)
+        MemoryLink ingress = new MemoryLink(1);
+        MemoryLink egress = new MemoryLink(2);
+        HeadlessRouter router = HeadlessRouterMain.createLayers(List.of(ingress, egress));
+        LayerManager manager = LayerManager.getInstance();
+        ARPLayer arpLayer = (ARPLayer) manager.get(StaticRouterMain.ARP, 0);
+
+        // 인터페이스 설정
+        IPAddress netmask = IPAddress.netmask(24);
+        manager.putInterfaceContext(new InterfaceContext(1, ROUTER_MAC_1, ROUTER_IP_1, netmask, MTU, ingress));
+        manager.putInterfaceContext(new InterfaceContext(2, ROUTER_MAC_2, ROUTER_IP_2, netmask, MTU, egress));
+
+        // 라우팅 테이블: 직접 연결된 두 네트워크와 게이트웨이를 통한 10.0.0.0/8
+        router.getRoutingTable().addAll(List.of(
+                new RouteEntry(ROUTER_IP_1.toNetwork(netmask), netmask, IPAddress.ZERO, true, false, false, 1, 0),
+                new RouteEntry(ROUTER_IP_2.toNetwork(netmask), netmask, IPAddress.ZERO, true, false, false, 2, 0),
+                new RouteEntry(new IPAddress("10.0.0.0"), IPAddress.netmask(8), GATEWAY_IP, true, true, false, 2, 0)));
+
+        // ARP 캐시: 게이트웨이와 출력 네트워크의 호스트, 재확인 요청에는 메모리 링크가 응답한다
+        Map<IPAddress, MACAddress> cache = new HashMap<>();
+        cache.put(GATEWAY_IP, GATEWAY_MAC);
+        for (int host = 0; host < HOSTS; host++) {
+            cache.put(hostIP(host), hostMAC(host));
+        }
+        egress.neighbors.putAll(cache);
+        ingress.neighbors.put(SOURCE_IP, SOURCE_MAC);
+        arpLayer.restoreCache(cache);
+
+        ingress.startCapture();
+        egress.startCapture();
+
+        System.out.printf("%6s %12s %12s %10s %10s %10s %10s %10s %8s %9s %9s%n",
+                "size", "offered/s", "forwarded/s", "Mbit/s", "drops", "B/pkt", "MB/s", "threads", "peak", "p50 us", "p99 us");
+        for (int size : sizes) {
+            run(ingress, egress, size);
+        }
+        System.exit(0);
+    }
+
+    private static void run(MemoryLink ingress, MemoryLink egress, int size) throws InterruptedException {
+        byte[][] frames = createFrames(size);
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        LongAdder offered = new LongAdder();
+
+        // 수신 스레드와 같이 한 스레드가 프레임을 분배
+        running = true;
+        Thread sender = new Thread(() -> {
+            int index = 0;
+            while (running) {
+                ingress.dispatch(frames[index++ & (FRAMES - 1)], System.nanoTime());
+                offered.increment();
+            }
+        }, ingress + "-rx");
+        sender.start();
+
+        TimeUnit.MILLISECONDS.sleep(WARMUP_MILLIS);
+        threadBean.resetPeakThreadCount();
+        egress.getLatencyHistogram().snapshotAndReset();
+        long offeredStart = offered.sum();
+        long forwardedStart = egress.forwarded.sum();
+        long bytesStart = egress.bytes.sum();
+        long dropStart = egress.getEgressDropCount() + ingress.steeringDrops.sum();
+        long allocatedStart = Harness.totalAllocatedBytes();
+        long start = System.nanoTime();
+
+        TimeUnit.MILLISECONDS.sleep(MEASURE_MILLIS);
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long allocated = Harness.totalAllocatedBytes() - allocatedStart;
+        long forwarded = egress.forwarded.sum() - forwardedStart;
+        long bytes = egress.bytes.sum() - bytesStart;
+        long drops = egress.getEgressDropCount() + ingress.steeringDrops.sum() - dropStart;
+        long sent = offered.sum() - offeredStart;
+        int threads = threadBean.getThreadCount();
+        int peak = threadBean.getPeakThreadCount();
+        LatencyHistogram.Snapshot latency = egress.getLatencyHistogram().snapshotAndReset();
+
+        running = false;
+        sender.join();
+        // 송신 큐가 빌 때까지 대기
+        long last;
+        do {
+            last = egress.forwarded.sum();
+            TimeUnit.MILLISECONDS.sleep(10);
+        } while (egress.forwarded.sum() != last);
+
+        System.out.printf("%6d %12.0f %12.0f %10.1f %10d %10.0f %10.1f %10d %8d %9.1f %9.1f%n",
+                size, sent / seconds, forwarded / seconds, bytes * 8 / seconds / 1e6, drops,
+                forwarded > 0 ? (double) allocated / forwarded : 0, allocated / seconds / 1e6, threads, peak,
+                latency.percentile(50) / 1e3, latency.percentile(99) / 1e3);
+    }
+
+    /**
+     * 입력 프레임 생성 메서드
+     * <p>
+     * 절반은 게이트웨이를 통한 10.0.0.0/8 로, 절반은 출력 네트워크의 호스트로 향한다.
+     *
+     * @param size 이더넷 헤더를 포함한 프레임 크기
+     */
+    private static byte[][] createFrames(int size) {
+        byte[][] frames = new byte[FRAMES][];
+        for (int index = 0; index < FRAMES; index++) {
+            IPPacket packet = new IPPacket();
+            packet.setSource(SOURCE_IP);
+            packet.setDestination(index % 2 == 0 ? new IPAddress(0x0A000000 | index * 0x10101) : hostIP(index % HOSTS));
+            packet.setProtocol(IPPacket.Protocol.UDP);
+            packet.setData(new byte[Math.max(0, size - EthernetFrame.HEADER_LENGTH - 20)]);
+
+            EthernetFrame frame = new EthernetFrame();
+            frame.setDestination(ROUTER_MAC_1);
+            frame.setSource(SOURCE_MAC);
+            frame.setType(EthernetFrame.Type.IP);
+            frame.setData(packet.toBytes(), MTU);
+            frames[index] = frame.toBytes();
+        }
+        return frames;
+    }
+
+    private static IPAddress hostIP(int host) {
+        return new IPAddress(ROUTER_IP_2.toInt() + 9 + host);
+    }
+
+    private static MACAddress hostMAC(int host) {
+        return new MACAddress(new byte[]{0x02, 0x00, 0x00, 0x00, 0x03, (byte) host});
+    }
+
+    /**
+     * 메모리 링크 클래스
+     * <p>
+     * pcap 장치 대신 메모리 송신 장치를 연결한 {@link NILayer} 이며, 송신 큐와 송신 스레드, 카운터는 그대로 동작한다.
+     * 송신된 IP 프레임을 세고, 이웃 테이블에 있는 주소에 대한 ARP 요청에는 해당 이웃으로서 ARP 응답을 수신한다.
+     */
+    private static final class MemoryLink extends NILayer {
+
+        private final Map<IPAddress, MACAddress> neighbors = new HashMap<>();
+        private final LongAdder forwarded = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * 작업 스레드의 수신 링이 가득 차서 버려진 프레임 개수 ({@link NILayer#dispatch(byte[], long)})
+         */
+        private final LongAdder steeringDrops = getCounters().counter("SteeringDrops");
+
+        private MemoryLink(int layerNumber) {
+            super(StaticRouterMain.NETWORK_INTERFACE, layerNumber);
+            setSink(this::transmit);
+        }
+
+        /**
+         * 송신 스레드에서 프레임을 내보내는 메서드
+         */
+        private boolean transmit(byte[] data) {
+            int type = EthernetFrame.getType(data);
+            if (type == EthernetFrame.Type.IP.value()) {
+                forwarded.increment();
+                bytes.add(data.length);
+            } else if (type == EthernetFrame.Type.ARP.value()) {
+                reply(data);
+            }
+            return true;
+        }
+
+        /**
+         * 이웃에 대한 ARP 요청에 응답하는 메서드
+         */
+        private void reply(byte[] data) {
+            ARPPacket request = new ARPPacket(Arrays.copyOfRange(data, EthernetFrame.HEADER_LENGTH, data.length));
+            MACAddress macAddress = neighbors.get(request.getDestinationIP());
+            if (!request.getOperation().equals(ARPPacket.Operation.REQUEST) || macAddress == null) {
+                return;
+            }
+            ARPPacket reply = new ARPPacket();
+            reply.setOperation(ARPPacket.Operation.REPLY);
+            reply.setSourceMAC(macAddress);
+            reply.setSourceIP(request.getDestinationIP());
+            reply.setDestinationMAC(request.getSourceMAC());
+            reply.setDestinationIP(request.getSourceIP());
+
+            EthernetFrame frame = new EthernetFrame();
+            frame.setDestination(request.getSourceMAC());
+            frame.setSource(macAddress);
+            frame.setType(EthernetFrame.Type.ARP);
+            frame.setData(reply.toBytes());
+            receive(getLayerNumber(), frame.toBytes());
+        }
+    }
+
+}
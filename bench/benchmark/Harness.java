@@ -0,0 +1,53 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 벤치마크 공통 측정 유틸리티 클래스
+ * <p>
+ * 연산당 시간과 할당 바이트를 측정하는 마이크로 벤치마크는 JMH 로 작성하며,
+ * 이 클래스는 JMH 로 측정하기 어려운 프로세스 단위 벤치마크의 할당량과 힙 사용량 측정만 제공한다.
+ * 할당량은 {@link com.sun.management.ThreadMXBean} 으로 측정한다.
+ */
+final class Harness {
+
+    private static final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Harness() {
+    }
+
+    /**
+     * 살아 있는 모든 스레드가 할당한 누적 바이트 수 반환 메서드
+     * <p>
+     * 측정 구간 동안 종료된 스레드의 할당은 포함되지 않는다.
+     *
+     * @return 할당 바이트 수
+     */
+    static long totalAllocatedBytes() {
+        long total = 0;
+        for (long bytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * GC 수행 후 사용 중인 힙 크기 반환 메서드
+     * <p>
+     * 객체 크기 추정에 사용하며, 측정 대상 객체는 호출 전후로 강하게 참조되어 있어야 한다.
+     *
+     * @return 사용 중인 힙 크기 (바이트)
+     */
+    static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int count = 0; count < 4; count++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+}
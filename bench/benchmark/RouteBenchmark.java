@@ -0,0 +1,305 @@
+package benchmark;
+
+import data.address.IPAddress;
+import layer.application.ForwardingTable;
+import layer.application.RouteEntry;
+import layer.application.RoutingTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우팅 엔트리 검색 성능 측정 클래스
+ * <p>
+ * 인터넷 라우팅 테이블과 비슷한 넷마스크 길이 분포로 라우팅 테이블을 생성하고,
+ * 균등 분포, Zipf 분포, 모두 불일치인 목적지 주소열에 대해 검색 엔진별 검색 시간과 지연 시간 백분위를 JMH 로 측정한다.
+ * 검색 시간은 {@link Mode#AverageTime}, 백분위는 {@link Mode#SampleTime}, 할당 바이트는 GC 프로파일러 결과이다.
+ * 측정 전에 테이블 크기별 메모리 사용량과 테이블 생성 시간을 출력한다.
+ * <ul>
+ *     <li>{@code table} - {@link RoutingTable#findEntry(IPAddress)} (라우터 계층의 검색 경로)</li>
+ *     <li>{@code fib} - {@link ForwardingTable#lookup(int)}</li>
+ *     <li>{@code linear} - 넷마스크 길이 내림차순 선형 탐색 (비교 기준)</li>
+ * </ul>
+ * <pre>
+ * java -cp ... [-Dbench.linear.max=10000] benchmark.RouteBenchmark [size,...]
+ * java -cp ... org.openjdk.jmh.Main RouteBenchmark -prof gc -p size=1000 [JMH options]
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RouteBenchmark {
+
+    private static final String[] DEFAULT_SIZES = {"100", "1000", "10000", "100000", "1000000"};
+
+    /**
+     * 목적지 주소열 길이
+     */
+    private static final int STREAM = 1 << 16;
+    private static final int MASK = STREAM - 1;
+
+    /**
+     * 선형 탐색을 측정하는 최대 라우팅 엔트리 개수
+     */
+    private static final int LINEAR_MAX = Integer.getInteger("bench.linear.max", 10_000);
+
+    /**
+     * 넷마스크 길이 분포 (길이, 비율 %)
+     */
+    private static final int[][] PREFIX_DISTRIBUTION = {
+            {8, 1}, {12, 1}, {14, 1}, {15, 1}, {16, 4}, {17, 2}, {18, 3}, {19, 5}, {20, 6}, {21, 5},
+            {22, 10}, {23, 8}, {24, 50}, {28, 1}, {32, 2}
+    };
+
+    @Param({"100", "1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"uniform", "zipf", "miss"})
+    public String stream;
+
+    private RoutingTable routingTable;
+    private ForwardingTable forwardingTable;
+    private LinearTable linearTable;
+    private int[] destinations;
+    private IPAddress[] addresses;
+
+    /**
+     * 호출 순번
+     */
+    private int index;
+
+    public static void main(String[] args) throws RunnerException {
+        String[] sizes = args.length > 0 ? args[0].split(",") : DEFAULT_SIZES;
+        for (String size : sizes) {
+            report(Integer.parseInt(size));
+        }
+
+        new Runner(new OptionsBuilder()
+                .include(RouteBenchmark.class.getName() + ".(table|fib)$")
+                .param("size", sizes)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+
+        // 선형 탐색은 작은 테이블에서만 측정
+        String[] linearSizes = Arrays.stream(sizes).filter(size -> Integer.parseInt(size) <= LINEAR_MAX).toArray(String[]::new);
+        if (linearSizes.length > 0) {
+            new Runner(new OptionsBuilder()
+                    .include(RouteBenchmark.class.getName() + ".linear$")
+                    .param("size", linearSizes)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+
+    /**
+     * 테이블 크기별 메모리 사용량과 테이블 생성 시간 출력 메서드
+     */
+    private static void report(int size) {
+        Random random = new Random(size);
+
+        // 라우팅 엔트리 생성
+        long heap = Harness.usedHeap();
+        List<RouteEntry> routes = generate(random, size);
+        long routeBytes = Harness.usedHeap() - heap;
+
+        // 테이블 생성 시간 및 메모리 사용량
+        long start = System.nanoTime();
+        RoutingTable routingTable = new RoutingTable();
+        routingTable.addAll(routes);
+        long tableNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ForwardingTable forwardingTable = ForwardingTable.build(routes);
+        long fibNanos = System.nanoTime() - start;
+        heap = Harness.usedHeap();
+        ForwardingTable footprint = ForwardingTable.build(routes);
+        long fibBytes = Harness.usedHeap() - heap;
+        Reference.reachabilityFence(footprint);
+
+        System.out.printf("# %d routes (%d unique): entries %.1f MB, routing table build %.1f ms, fib build %.1f ms, fib %.1f MB%n",
+                size, forwardingTable.size(), routeBytes / 1e6, tableNanos / 1e6, fibNanos / 1e6, fibBytes / 1e6);
+        Reference.reachabilityFence(routingTable);
+    }
+
+    /**
+     * 라우팅 테이블과 목적지 주소열 준비 메서드
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(size);
+        List<RouteEntry> routes = generate(random, size);
+        routingTable = new RoutingTable();
+        routingTable.addAll(routes);
+        forwardingTable = ForwardingTable.build(routes);
+        linearTable = new LinearTable(routes);
+
+        destinations = switch (stream) {
+            case "uniform" -> uniform(random, routes);
+            case "zipf" -> zipf(random, routes);
+            case "miss" -> miss(random);
+            default -> throw new IllegalArgumentException("unknown stream: " + stream);
+        };
+        addresses = new IPAddress[STREAM];
+        for (int position = 0; position < STREAM; position++) {
+            addresses[position] = new IPAddress(destinations[position]);
+        }
+    }
+
+    @Benchmark
+    public int table() {
+        return hash(routingTable.findEntry(addresses[index++ & MASK]));
+    }
+
+    @Benchmark
+    public int fib() {
+        return hash(forwardingTable.lookup(destinations[index++ & MASK]));
+    }
+
+    @Benchmark
+    public int linear() {
+        return hash(linearTable.lookup(destinations[index++ & MASK]));
+    }
+
+    private static int hash(RouteEntry entry) {
+        return entry != null ? entry.interfaceNumber() : -1;
+    }
+
+    /**
+     * 라우팅 엔트리 생성 메서드
+     * <p>
+     * 목적지는 1.0.0.0 ~ 223.255.255.255 범위에서 선택하고, 240.0.0.0/4 는 불일치 주소로 남겨둔다.
+     */
+    private static List<RouteEntry> generate(Random random, int size) {
+        int[] cumulative = new int[PREFIX_DISTRIBUTION.length];
+        for (int index = 0, sum = 0; index < PREFIX_DISTRIBUTION.length; index++) {
+            sum += PREFIX_DISTRIBUTION[index][1];
+            cumulative[index] = sum;
+        }
+        int total = cumulative[cumulative.length - 1];
+
+        IPAddress[] netmasks = new IPAddress[33];
+        for (int length = 0; length <= 32; length++) {
+            netmasks[length] = IPAddress.netmask(length);
+        }
+        IPAddress gateway = new IPAddress("10.0.0.1");
+
+        List<RouteEntry> routes = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            int pick = random.nextInt(total);
+            int bucket = 0;
+            while (cumulative[bucket] <= pick) {
+                bucket++;
+            }
+            int length = PREFIX_DISTRIBUTION[bucket][0];
+            int address = ((1 + random.nextInt(223)) << 24) | random.nextInt(1 << 24);
+            IPAddress netmask = netmasks[length];
+            IPAddress destination = new IPAddress(address & netmask.toInt());
+            routes.add(new RouteEntry(destination, netmask, gateway, true, true, length == 32, 1 + (index & 1), 0));
+        }
+        return routes;
+    }
+
+    /**
+     * 라우팅 엔트리를 균등하게 선택하여 그 네트워크 안의 주소를 생성하는 메서드
+     */
+    private static int[] uniform(Random random, List<RouteEntry> routes) {
+        int[] stream = new int[STREAM];
+        for (int index = 0; index < STREAM; index++) {
+            stream[index] = hostOf(random, routes.get(random.nextInt(routes.size())));
+        }
+        return stream;
+    }
+
+    /**
+     * 라우팅 엔트리를 Zipf 분포(s = 1)로 선택하여 그 네트워크 안의 주소를 생성하는 메서드
+     */
+    private static int[] zipf(Random random, List<RouteEntry> routes) {
+        double[] cumulative = new double[routes.size()];
+        double sum = 0;
+        for (int rank = 0; rank < cumulative.length; rank++) {
+            sum += 1.0 / (rank + 1);
+            cumulative[rank] = sum;
+        }
+
+        int[] stream = new int[STREAM];
+        for (int index = 0; index < STREAM; index++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            rank = Math.min(rank < 0 ? -rank - 1 : rank, cumulative.length - 1);
+            stream[index] = hostOf(random, routes.get(rank));
+        }
+        return stream;
+    }
+
+    /**
+     * 어떤 라우팅 엔트리와도 일치하지 않는 240.0.0.0/4 주소를 생성하는 메서드
+     */
+    private static int[] miss(Random random) {
+        int[] stream = new int[STREAM];
+        for (int index = 0; index < STREAM; index++) {
+            stream[index] = 0xF0000000 | random.nextInt(1 << 28);
+        }
+        return stream;
+    }
+
+    private static int hostOf(Random random, RouteEntry entry) {
+        int netmask = entry.netmask().toInt();
+        return entry.destination().toInt() | (random.nextInt() & ~netmask);
+    }
+
+    /**
+     * 선형 탐색 라우팅 테이블 클래스
+     * <p>
+     * 넷마스크 길이 내림차순으로 정렬된 엔트리를 처음부터 비교하므로 첫 일치가 최장 접두사 일치가 된다.
+     */
+    private static final class LinearTable {
+
+        private final int[] networks;
+        private final int[] netmasks;
+        private final RouteEntry[] entries;
+
+        private LinearTable(List<RouteEntry> routes) {
+            List<RouteEntry> sorted = new ArrayList<>(routes);
+            sorted.sort(Comparator.comparingInt((RouteEntry entry) -> Integer.bitCount(entry.netmask().toInt())).reversed());
+            networks = new int[sorted.size()];
+            netmasks = new int[sorted.size()];
+            entries = sorted.toArray(new RouteEntry[0]);
+            for (int index = 0; index < entries.length; index++) {
+                netmasks[index] = entries[index].netmask().toInt();
+                networks[index] = entries[index].destination().toInt() & netmasks[index];
+            }
+        }
+
+        private RouteEntry lookup(int address) {
+            for (int index = 0; index < entries.length; index++) {
+                if ((address & netmasks[index]) == networks[index]) {
+                    return entries[index];
+                }
+            }
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package benchmark;
+
+import launch.HeadlessRouterMain;
+import launch.RouterConfig;
+import launch.StaticRouterMain;
+import layer.Layer;
+import layer.controller.LayerManager;
+import layer.link.NILayer;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우터 시작 시간 측정 클래스
+ * <p>
+ * 설정 파일로 Headless 라우터를 시작하고, JVM 시작부터 첫 IP 패킷이 포워딩될 때까지의 시간을 단계별로 출력한다.
+ * 측정 중에는 라우터를 통과하는 트래픽(예: 양쪽 호스트 간 ping)을 외부에서 발생시켜야 한다.
+ * <pre>
+ * java -cp ... benchmark.StartupBenchmark &lt;config file&gt; [timeout seconds]
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        long mainTime = System.nanoTime();
+        long jvmStartMillis = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long jvmStartTime = mainTime - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis() - jvmStartMillis);
+
+        if (args.length < 1) {
+            System.err.println("usage: StartupBenchmark <config file> [timeout seconds]");
+            System.exit(1);
+        }
+        long timeout = TimeUnit.SECONDS.toNanos(args.length > 1 ? Long.parseLong(args[1]) : 60);
+
+        RouterConfig config = RouterConfig.load(Path.of(args[0]));
+        long configTime = System.nanoTime();
+
+        NILayer.loadLibrary();
+        long libraryTime = System.nanoTime();
+
+        HeadlessRouterMain.start(config);
+        long startTime = System.nanoTime();
+
+        // 첫 IP 패킷 포워딩 대기
+        long forwardTime = 0;
+        while (forwardTime == 0 && System.nanoTime() - startTime < timeout) {
+            for (Layer layer : LayerManager.getInstance().getList(StaticRouterMain.NETWORK_INTERFACE)) {
+                long time = ((NILayer) layer).getFirstForwardTime();
+                if (time != 0 && (forwardTime == 0 || time < forwardTime)) {
+                    forwardTime = time;
+                }
+            }
+            TimeUnit.MILLISECONDS.sleep(1);
+        }
+
+        System.out.printf("jvm start -> main        : %8.2f ms%n", millis(mainTime - jvmStartTime));
+        System.out.printf("config load              : %8.2f ms%n", millis(configTime - mainTime));
+        System.out.printf("native library load      : %8.2f ms%n", millis(libraryTime - configTime));
+        System.out.printf("router start             : %8.2f ms%n", millis(startTime - libraryTime));
+        if (forwardTime != 0) {
+            System.out.printf("start -> first forward   : %8.2f ms%n", millis(forwardTime - startTime));
+            System.out.printf("jvm start -> first fwd   : %8.2f ms%n", millis(forwardTime - jvmStartTime));
+        } else {
+            System.out.println("no packet forwarded within timeout");
+        }
+        System.exit(0);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
@@ -15,32 +15,36 @@ public class IPAddress implements Address {
 
     private final byte[] address = new byte[4];
 
+    /**
+     * 넷마스크 길이별 넷마스크 객체
+     */
+    private static final IPAddress[] NETMASKS = new IPAddress[33];
+
+    static {
+        for (int length = 0; length <= 32; length++) {
+            NETMASKS[length] = new IPAddress(length == 0 ? 0 : -1 << (32 - length));
+        }
+    }
+
     /**
      * IP 주소 객체 생성자
      *
      * @param address IP 주소 문자열
      */
     public IPAddress(String address) {
-        // 주소 문자열 나누기
-        String[] array = address.split("\\.");
-
-        // 문자열 유효성 확인
-        if (array.length != 4 || address.length() != (Arrays.stream(array).mapToInt(String::length).sum() + 3)) {
-            throw new RuntimeException("illegal address string");
-        }
-
-        for (int index = 0; index < array.length; index++) {
-            int parsed = Integer.parseInt(array[index]);
-
-            // 문자열의 숫자 Parse 유효성 확인
-            if (parsed < 0 || parsed > 255) {
-                // 지원하는 주소의 범위를 넘음
-                throw new RuntimeException("out of range");
-            }
+        this(parse(address, 0, address.length()));
+    }
 
-            // 주소 저장
-            this.address[index] = (byte) parsed;
-        }
+    /**
+     * IP 주소 객체 생성자
+     *
+     * @param address 정수형 IP 주소 (네트워크 바이트 순서)
+     */
+    public IPAddress(int address) {
+        this.address[0] = (byte) (address >>> 24);
+        this.address[1] = (byte) (address >>> 16);
+        this.address[2] = (byte) (address >>> 8);
+        this.address[3] = (byte) address;
     }
 
     /**
@@ -58,28 +62,116 @@ public class IPAddress implements Address {
         System.arraycopy(address, 0, this.address, 0, 4);
     }
 
-    public boolean isNetmask() {
-        for (int index = 3; index >= 0; index--) {
-            for (int shift = 0; shift < 8; shift++) {
-                if (((address[index] >> shift) & 0x01) == 0x01) {
-                    // Network 주소 체크됨
-                    for (int checkShift = shift; checkShift < 8; checkShift++) {
-                        if (((address[index] >> checkShift & 0x01) == 0x00)) {
-                            return false;
-                        }
-                    }
-                    for (int checkIndex = index - 1; checkIndex >= 0; checkIndex--) {
-                        for (int checkShift = 0; checkShift < 8; checkShift++) {
-                            if (((address[checkIndex] >> checkShift & 0x01) == 0x00)) {
-                                return false;
-                            }
-                        }
-                    }
-                    return true;
+    /**
+     * 문자열의 일부를 정수형 IP 주소로 변환하는 메서드
+     * <p>
+     * 객체를 생성하지 않고 한 번의 순회로 변환한다.
+     *
+     * @param text 주소 문자열
+     * @param from 주소 시작 위치
+     * @param to   주소 끝 위치 (미포함)
+     * @return 정수형 IP 주소
+     */
+    public static int parse(CharSequence text, int from, int to) {
+        return parse(text, null, from, to);
+    }
+
+    /**
+     * 바이트 배열의 일부(ASCII 문자열)를 정수형 IP 주소로 변환하는 메서드
+     *
+     * @param text ASCII 문자열 바이트 배열
+     * @param from 주소 시작 위치
+     * @param to   주소 끝 위치 (미포함)
+     * @return 정수형 IP 주소
+     */
+    public static int parse(byte[] text, int from, int to) {
+        return parse(null, text, from, to);
+    }
+
+    /**
+     * 문자열 또는 ASCII 바이트 배열 중 하나를 정수형 IP 주소로 변환하는 메서드
+     *
+     * @param chars 주소 문자열, 바이트 배열을 변환할 경우 {@code null}
+     * @param bytes ASCII 문자열 바이트 배열, 문자열을 변환할 경우 {@code null}
+     * @param from  주소 시작 위치
+     * @param to    주소 끝 위치 (미포함)
+     * @return 정수형 IP 주소
+     */
+    private static int parse(CharSequence chars, byte[] bytes, int from, int to) {
+        int result = 0;
+        int octet = 0;
+        int digits = 0;
+        int dots = 0;
+        for (int index = from; index < to; index++) {
+            int c = bytes != null ? bytes[index] : chars.charAt(index);
+            if (c >= '0' && c <= '9') {
+                octet = octet * 10 + (c - '0');
+                if (++digits > 3 || octet > 255) {
+                    // 지원하는 주소의 범위를 넘음
+                    throw new RuntimeException("out of range");
                 }
+            } else if (c == '.' && digits > 0 && dots < 3) {
+                result = (result << 8) | octet;
+                octet = 0;
+                digits = 0;
+                dots++;
+            } else {
+                throw new RuntimeException("illegal address string");
             }
         }
-        return true;
+        if (dots != 3 || digits == 0) {
+            throw new RuntimeException("illegal address string");
+        }
+        return (result << 8) | octet;
+    }
+
+    /**
+     * 정수형 주소가 넷마스크인지 확인하는 메서드
+     * <p>
+     * 넷마스크의 반전 값에 1을 더하면 0 또는 2의 거듭제곱이 된다.
+     *
+     * @param netmask 정수형 넷마스크
+     * @return {@code true} if netmask is contiguous
+     */
+    public static boolean isNetmask(int netmask) {
+        int inverse = ~netmask;
+        return (inverse & (inverse + 1)) == 0;
+    }
+
+    /**
+     * 넷마스크 길이에 해당하는 넷마스크 객체를 반환하는 메서드
+     *
+     * @param length 넷마스크 길이 (0 ~ 32)
+     * @return 공유되는 넷마스크 객체
+     */
+    public static IPAddress netmask(int length) {
+        return NETMASKS[length];
+    }
+
+    /**
+     * 정수형 IP 주소를 반환하는 메서드
+     *
+     * @return 정수형 IP 주소 (네트워크 바이트 순서)
+     */
+    public int toInt() {
+        return ((address[0] & 0xFF) << 24) | ((address[1] & 0xFF) << 16) | ((address[2] & 0xFF) << 8) | (address[3] & 0xFF);
+    }
+
+    /**
+     * 바이트 배열의 IP 주소를 정수로 변환하는 메서드
+     * <p>
+     * 패킷 바이트 배열에서 객체를 생성하지 않고 주소를 비교하기 위해 사용한다.
+     *
+     * @param data   IP 주소가 포함된 바이트 배열
+     * @param offset IP 주소 시작 위치
+     * @return 정수형 IP 주소 (네트워크 바이트 순서)
+     */
+    public static int toInt(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24) | ((data[offset + 1] & 0xFF) << 16) | ((data[offset + 2] & 0xFF) << 8) | (data[offset + 3] & 0xFF);
+    }
+
+    public boolean isNetmask() {
+        return isNetmask(toInt());
     }
 
     public IPAddress toNetwork(IPAddress netmask) {
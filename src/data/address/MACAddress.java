@@ -68,6 +68,46 @@ public class MACAddress implements Address {
         return address;
     }
 
+    /**
+     * MAC 주소를 정수로 반환하는 메서드
+     *
+     * @return 하위 48 비트에 저장된 MAC 주소
+     */
+    public long toLong() {
+        return toLong(address, 0);
+    }
+
+    /**
+     * 바이트 배열의 MAC 주소를 정수로 변환하는 메서드
+     * <p>
+     * 프레임 바이트 배열에서 객체를 생성하지 않고 주소를 비교하기 위해 사용한다.
+     *
+     * @param data   MAC 주소가 포함된 바이트 배열
+     * @param offset MAC 주소 시작 위치
+     * @return 하위 48 비트에 저장된 MAC 주소
+     */
+    public static long toLong(byte[] data, int offset) {
+        long value = 0;
+        for (int index = offset; index < offset + 6; index++) {
+            value = (value << 8) | (data[index] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * 정수 MAC 주소를 바이트 배열에 기록하는 메서드
+     *
+     * @param address 하위 48 비트에 저장된 MAC 주소
+     * @param data    기록할 바이트 배열
+     * @param offset  MAC 주소 시작 위치
+     */
+    public static void write(long address, byte[] data, int offset) {
+        for (int index = offset + 5; index >= offset; index--) {
+            data[index] = (byte) address;
+            address >>>= 8;
+        }
+    }
+
     /**
      * MAC 주소 객체 비교를 위한 hashCode 생성 메서드
      * 내부 변수인 byte[] address 의 내용을 기반으로 한 hashCode를 생성한다
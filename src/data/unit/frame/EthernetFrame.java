@@ -9,8 +9,31 @@ import java.util.Arrays;
  */
 public class EthernetFrame implements Frame {
 
+    /**
+     * 기본 MTU
+     */
     public static final int MTU = 1500;
 
+    /**
+     * 인터페이스에 설정할 수 있는 최소 MTU (RFC 791)
+     */
+    public static final int MIN_MTU = 68;
+
+    /**
+     * 인터페이스에 설정할 수 있는 최대 MTU (점보 프레임)
+     */
+    public static final int MAX_MTU = 9216;
+
+    /**
+     * 최소 데이터 길이, 짧은 데이터는 0 으로 채운다
+     */
+    public static final int MIN_DATA_LENGTH = 46;
+
+    /**
+     * 이더넷 헤더 길이
+     */
+    public static final int HEADER_LENGTH = 14;
+
     private MACAddress destination;
     private MACAddress source;
     private Type type;
@@ -37,6 +60,18 @@ public class EthernetFrame implements Frame {
         data = Arrays.copyOfRange(frame, 14, frame.length);
     }
 
+    /**
+     * 프레임 바이트 배열에서 이더넷 타입 값을 읽는 메서드
+     * <p>
+     * 프레임 객체를 생성하지 않고 역다중화에 사용한다.
+     *
+     * @param frame 이더넷 프레임 바이트 배열
+     * @return 이더넷 타입 값 (0 ~ 0xFFFF)
+     */
+    public static int getType(byte[] frame) {
+        return ((frame[12] & 0xFF) << 8) | (frame[13] & 0xFF);
+    }
+
     /**
      * 수신자 MAC 주소 접근 메서드
      *
@@ -101,14 +136,26 @@ public class EthernetFrame implements Frame {
      * @param data 설정할 이더넷 프레임 데이터 바이트 배열
      */
     public void setData(byte[] data) {
+        setData(data, MTU);
+    }
+
+    /**
+     * 인터페이스 MTU 에 맞춘 이더넷 프레임 데이터 설정 메서드
+     * <p>
+     * MTU 보다 긴 데이터는 잘라낸다. 상위 계층은 MTU 보다 긴 패킷을 미리 조각으로 나누어야 한다.
+     *
+     * @param data 설정할 이더넷 프레임 데이터 바이트 배열
+     * @param mtu  송신 인터페이스 MTU
+     */
+    public void setData(byte[] data, int mtu) {
         if (data == null) {
-            this.data = new byte[MTU];
-        } else if (data.length < 46) {
-            this.data = new byte[46];
+            this.data = new byte[mtu];
+        } else if (data.length < MIN_DATA_LENGTH) {
+            this.data = new byte[MIN_DATA_LENGTH];
             System.arraycopy(data, 0, this.data, 0, data.length);
-        } else if (MTU < data.length) {
-            this.data = new byte[MTU];
-            System.arraycopy(data, 0, this.data, 0, MTU);
+        } else if (mtu < data.length) {
+            this.data = new byte[mtu];
+            System.arraycopy(data, 0, this.data, 0, mtu);
         } else {
             this.data = data;
         }
@@ -155,7 +202,7 @@ public class EthernetFrame implements Frame {
         }
 
         public Type(byte[] type) {
-            this.type = (type[0] << 8) | type[1];
+            this.type = ((type[0] & 0xFF) << 8) | (type[1] & 0xFF);
         }
 
         public int value() {
@@ -0,0 +1,114 @@
+package launch;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import layer.application.HeadlessRouter;
+import layer.application.HeadlessSetting;
+import layer.controller.LayerManager;
+import layer.internet.ARPLayer;
+import layer.internet.IPLayer;
+import layer.link.EthernetLayer;
+import layer.link.NILayer;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 설정 파일 기반 Headless 라우터 실행 클래스
+ * <p>
+ * GUI 창을 생성하지 않으며 AWT/Swing 클래스를 불러오지 않는다.
+ * 설정 파일의 인터페이스, 정적 라우팅, 프록시 ARP 를 적용한 즉시 포워딩을 시작한다.
+ */
+public class HeadlessRouterMain {
+
+    /**
+     * 설정을 적용하고 라우터를 시작하는 메서드
+     *
+     * @param config 라우터 설정 객체
+     */
+    public static void start(RouterConfig config) {
+        LayerManager manager = LayerManager.getInstance();
+
+        // 설정된 장치만 병렬로 조회
+        Map<String, NILayer.PcapIfWrapper> interfaceMap = NILayer.findInterfaces(config.getInterfaceList().stream().map(RouterConfig.InterfaceConfig::device).toList());
+
+        // Link Layer
+        List<NILayer> niLayerList = new ArrayList<>();
+        for (RouterConfig.InterfaceConfig interfaceConfig : config.getInterfaceList()) {
+            NILayer niLayer = new NILayer(StaticRouterMain.NETWORK_INTERFACE, interfaceConfig.number());
+            Launcher.setCapture(niLayer);
+            niLayerList.add(niLayer);
+        }
+
+        HeadlessRouter router = createLayers(niLayerList);
+        ARPLayer arpLayer = (ARPLayer) manager.get(StaticRouterMain.ARP, 0);
+        Launcher.setLatencyReport(niLayerList);
+
+        // Static Route, Proxy ARP
+        router.getRoutingTable().addAll(config.getRouteList());
+        config.getProxyList().forEach(proxy -> arpLayer.addProxy(proxy.ipAddress(), proxy.macAddress(), proxy.interfaceNumber()));
+        Launcher.setSnapshot(router, arpLayer);
+
+        // Interface Setting
+        for (RouterConfig.InterfaceConfig interfaceConfig : config.getInterfaceList()) {
+            NILayer.PcapIfWrapper wrapper = interfaceMap.get(interfaceConfig.device());
+            if (wrapper == null) {
+                throw new IllegalArgumentException("network interface not found: " + interfaceConfig.device());
+            }
+            MACAddress macAddress = interfaceConfig.macAddress() != null ? interfaceConfig.macAddress() : wrapper.getMACAddress();
+            IPAddress ipAddress = interfaceConfig.ipAddress() != null ? interfaceConfig.ipAddress() : wrapper.getIPAddress();
+            ((HeadlessSetting) manager.get(StaticRouterMain.SETTING, interfaceConfig.number())).apply(wrapper, macAddress, ipAddress, interfaceConfig.mtu());
+        }
+    }
+
+    /**
+     * 네트워크 인터페이스 계층 위에 나머지 계층을 생성하고 연결하는 메서드
+     * <p>
+     * 인터페이스마다 설정 계층을 생성하지만 인터페이스 설정은 적용하지 않는다.
+     *
+     * @param niLayerList 네트워크 인터페이스 계층 List
+     * @return 라우터 계층 객체
+     */
+    public static HeadlessRouter createLayers(List<NILayer> niLayerList) {
+        LayerManager manager = LayerManager.getInstance();
+
+        // Link Layer
+        for (NILayer niLayer : niLayerList) {
+            manager.put(niLayer, niLayer.getLayerNumber());
+        }
+        EthernetLayer ethernetLayer = new EthernetLayer(StaticRouterMain.ETHERNET);
+        manager.put(ethernetLayer);
+
+        // Internet Layer
+        ARPLayer arpLayer = new ARPLayer(StaticRouterMain.ARP);
+        manager.put(arpLayer);
+        IPLayer ipLayer = new IPLayer(StaticRouterMain.IP);
+        manager.put(ipLayer);
+
+        // Application Layer (L3, Router)
+        HeadlessRouter router = new HeadlessRouter(StaticRouterMain.ROUTER);
+        manager.put(router);
+        for (NILayer niLayer : niLayerList) {
+            manager.put(new HeadlessSetting(StaticRouterMain.SETTING, niLayer.getLayerNumber()), niLayer.getLayerNumber());
+        }
+
+        Launcher.connectLayers(manager, niLayerList, ethernetLayer, arpLayer, ipLayer, router);
+        return router;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1) {
+            System.err.println("usage: HeadlessRouterMain <config file>");
+            System.exit(1);
+        }
+
+        start(RouterConfig.load(Path.of(args[0])));
+
+        // 수신 스레드가 동작하는 동안 대기
+        Thread.currentThread().join();
+    }
+
+}
@@ -0,0 +1,146 @@
+package launch;
+
+import layer.Layer;
+import layer.application.RouterLayer;
+import layer.application.RouterSnapshot;
+import layer.controller.LayerManager;
+import layer.internet.ARPLayer;
+import layer.link.NILayer;
+import layer.link.capture.PcapRingWriter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GUI 실행과 Headless 실행이 공유하는 계층 구성 클래스
+ * <p>
+ * Swing/AWT 클래스를 참조하지 않아야 한다.
+ */
+final class Launcher {
+
+    private Launcher() {
+    }
+
+    /**
+     * 프레임 캡처 설정 메서드
+     * <p>
+     * {@code capture.dir} 시스템 속성이 설정된 경우에만 인터페이스별 pcap 링 기록을 활성화한다.
+     * 파일 개수, 크기(MB), 교체 주기(초)는 각각 {@code capture.files}, {@code capture.size}, {@code capture.rotate} 로 설정한다.
+     *
+     * @param niLayer 캡처를 설정할 네트워크 인터페이스 계층
+     */
+    static void setCapture(NILayer niLayer) {
+        String directory = System.getProperty("capture.dir");
+        if (directory == null) {
+            return;
+        }
+        try {
+            int fileCount = Integer.getInteger("capture.files", 4);
+            int fileSize = Integer.getInteger("capture.size", 64) * 1024 * 1024;
+            long rotateSeconds = Long.getLong("capture.rotate", 60);
+            PcapRingWriter capture = new PcapRingWriter(Path.of(directory), niLayer.toString(), fileCount, fileSize, rotateSeconds, 64 * 1024);
+            niLayer.setCapture(capture);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    capture.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 상태 스냅샷 설정 메서드
+     * <p>
+     * {@code snapshot.file} 시스템 속성이 설정된 경우에만 동작한다.
+     * 파일이 존재하면 라우팅 테이블, ARP 캐시, 프록시 ARP 를 복원하고,
+     * 이후 {@code snapshot.interval} 초(기본 60초)마다, 그리고 종료 시에 스냅샷을 기록한다.
+     *
+     * @param routerLayer 라우터 계층
+     * @param arpLayer    ARP 계층
+     */
+    static void setSnapshot(RouterLayer routerLayer, ARPLayer arpLayer) {
+        String file = System.getProperty("snapshot.file");
+        if (file == null) {
+            return;
+        }
+        Path path = Path.of(file);
+
+        // Warm Restart
+        if (Files.exists(path)) {
+            try {
+                RouterSnapshot.read(path).restore(routerLayer, arpLayer);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        Runnable writer = () -> {
+            try {
+                RouterSnapshot.capture(routerLayer, arpLayer).write(path);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        };
+        long interval = Long.getLong("snapshot.interval", 60);
+        if (interval > 0) {
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleWithFixedDelay(writer, interval, interval, TimeUnit.SECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(writer));
+    }
+
+    /**
+     * 지연 시간 보고 설정 메서드
+     * <p>
+     * {@code latency.interval} 초(기본 10초)마다 인터페이스별 송신 지연 시간 히스토그램을 스냅샷으로 교체하고 출력한다.
+     * 0 이하일 경우 보고하지 않으며, 히스토그램은 계속 누적된다.
+     *
+     * @param niLayerList 네트워크 인터페이스 계층 List
+     */
+    static void setLatencyReport(List<NILayer> niLayerList) {
+        long interval = Long.getLong("latency.interval", 10);
+        if (interval <= 0) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "latency");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(() -> niLayerList.forEach(NILayer::rollLatency), interval, interval, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 계층 간 연결 메서드
+     *
+     * @param manager       계층 관리 객체
+     * @param niLayerList   네트워크 인터페이스 계층 List
+     * @param ethernetLayer 이더넷 계층
+     * @param arpLayer      ARP 계층
+     * @param ipLayer       IP 계층
+     * @param routerLayer   라우터 계층
+     */
+    static void connectLayers(LayerManager manager, List<NILayer> niLayerList, Layer ethernetLayer, Layer arpLayer, Layer ipLayer, Layer routerLayer) {
+        // Physical <-> Data Link
+        for (NILayer niLayer : niLayerList) {
+            manager.connectLayers(String.format("%s ( +%s )", niLayer, ethernetLayer));
+        }
+
+        // Data Link <-> Network Layer <-> L3 Application Layer
+        manager.connectLayers(String.format("%s ( +%s +%s ( -%s +%s ) )", ethernetLayer, arpLayer, ipLayer, arpLayer, routerLayer));
+    }
+
+}
@@ -0,0 +1,164 @@
+package launch;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
+import layer.application.RouteEntry;
+import layer.application.RouteLoader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 라우터 설정 파일 클래스
+ * <p>
+ * 한 줄에 하나의 설정을 공백으로 구분하여 기록하며, {@code #} 이후는 주석으로 무시한다.
+ * <pre>
+ * # interface &lt;번호&gt; &lt;장치 이름&gt; [mac &lt;MAC 주소&gt;] [ip &lt;IP 주소&gt;] [mtu &lt;MTU&gt;]
+ * interface 0 eth0 ip 192.168.1.1
+ * interface 1 eth1 mac 00:11:22:33:44:55 ip 10.0.0.1 mtu 9000
+ *
+ * # route &lt;목적지&gt; &lt;넷마스크&gt; &lt;게이트웨이&gt; &lt;플래그(U/G/H)&gt; &lt;인터페이스 번호&gt; [메트릭]
+ * route 192.168.1.0 255.255.255.0 0.0.0.0 U 0
+ * route 0.0.0.0 0.0.0.0 10.0.0.254 UG 1
+ *
+ * # routes &lt;라우팅 엔트리 파일&gt; (텍스트 또는 바이너리 형식, {@link RouteLoader} 참고)
+ * routes routes.csv
+ *
+ * # proxy &lt;IP 주소&gt; &lt;MAC 주소&gt; &lt;인터페이스 번호&gt;
+ * proxy 192.168.1.100 00:11:22:33:44:66 0
+ * </pre>
+ * MAC 주소와 IP 주소를 생략한 인터페이스는 장치에 할당된 주소를 사용하며, MTU 를 생략한 인터페이스는 1500 을 사용한다.
+ */
+public class RouterConfig {
+
+    private final List<InterfaceConfig> interfaceList = new ArrayList<>();
+    private final List<RouteEntry> routeList = new ArrayList<>();
+    private final List<ProxyConfig> proxyList = new ArrayList<>();
+
+    private RouterConfig() {
+    }
+
+    /**
+     * 설정 파일을 읽어 설정 객체를 생성하는 메서드
+     *
+     * @param path 설정 파일 경로
+     * @return 설정 객체
+     */
+    public static RouterConfig load(Path path) throws IOException {
+        RouterConfig config = new RouterConfig();
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                line = line.trim();
+                if (line.isEmpty()) {
+                    continue;
+                }
+                try {
+                    config.parseLine(path, line.split("\\s+"));
+                } catch (RuntimeException e) {
+                    throw new IllegalArgumentException(String.format("%s:%d: %s", path, lineNumber, e.getMessage()), e);
+                }
+            }
+        }
+        return config;
+    }
+
+    private void parseLine(Path path, String[] tokens) throws IOException {
+        switch (tokens[0]) {
+            case "interface" -> {
+                if (tokens.length < 3 || tokens.length % 2 == 0) {
+                    throw new IllegalArgumentException("illegal interface line");
+                }
+                MACAddress macAddress = null;
+                IPAddress ipAddress = null;
+                int mtu = EthernetFrame.MTU;
+                for (int index = 3; index < tokens.length; index += 2) {
+                    switch (tokens[index]) {
+                        case "mac" -> macAddress = new MACAddress(tokens[index + 1]);
+                        case "ip" -> ipAddress = new IPAddress(tokens[index + 1]);
+                        case "mtu" -> mtu = Integer.parseInt(tokens[index + 1]);
+                        default -> throw new IllegalArgumentException("unknown interface option " + tokens[index]);
+                    }
+                }
+                if (mtu < EthernetFrame.MIN_MTU || mtu > EthernetFrame.MAX_MTU) {
+                    throw new IllegalArgumentException("illegal mtu " + mtu);
+                }
+                interfaceList.add(new InterfaceConfig(Integer.parseInt(tokens[1]), tokens[2], macAddress, ipAddress, mtu));
+            }
+            case "route" -> {
+                if (tokens.length != 6 && tokens.length != 7) {
+                    throw new IllegalArgumentException("illegal route line");
+                }
+                IPAddress destination = new IPAddress(tokens[1]);
+                IPAddress netmask = new IPAddress(tokens[2]);
+                if (!netmask.isNetmask()) {
+                    throw new IllegalArgumentException("invalid netmask");
+                }
+                String flags = tokens[4].toUpperCase();
+                int metric = tokens.length == 7 ? Integer.parseInt(tokens[6]) : 1;
+                routeList.add(new RouteEntry(destination, netmask, new IPAddress(tokens[3]), flags.contains("U"), flags.contains("G"), flags.contains("H"), Integer.parseInt(tokens[5]), metric));
+            }
+            case "routes" -> {
+                if (tokens.length != 2) {
+                    throw new IllegalArgumentException("illegal routes line");
+                }
+                Path routePath = path.resolveSibling(tokens[1]);
+                routeList.addAll(RouteLoader.read(routePath));
+            }
+            case "proxy" -> {
+                if (tokens.length != 4) {
+                    throw new IllegalArgumentException("illegal proxy line");
+                }
+                proxyList.add(new ProxyConfig(new IPAddress(tokens[1]), new MACAddress(tokens[2]), Integer.parseInt(tokens[3])));
+            }
+            default -> throw new IllegalArgumentException("unknown keyword " + tokens[0]);
+        }
+    }
+
+    public List<InterfaceConfig> getInterfaceList() {
+        return Collections.unmodifiableList(interfaceList);
+    }
+
+    public List<RouteEntry> getRouteList() {
+        return Collections.unmodifiableList(routeList);
+    }
+
+    public List<ProxyConfig> getProxyList() {
+        return Collections.unmodifiableList(proxyList);
+    }
+
+    /**
+     * 인터페이스 설정
+     *
+     * @param number     인터페이스 계층 식별 번호
+     * @param device     네트워크 장치 이름 또는 설명
+     * @param macAddress 인터페이스 MAC 주소, 생략된 경우 {@code null}
+     * @param ipAddress  인터페이스 IP 주소, 생략된 경우 {@code null}
+     * @param mtu        인터페이스 MTU
+     */
+    public record InterfaceConfig(int number, String device, MACAddress macAddress, IPAddress ipAddress, int mtu) {
+    }
+
+    /**
+     * 프록시 ARP 설정
+     *
+     * @param ipAddress       프록시 IP 주소
+     * @param macAddress      프록시 MAC 주소
+     * @param interfaceNumber 인터페이스 계층 식별 번호
+     */
+    public record ProxyConfig(IPAddress ipAddress, MACAddress macAddress, int interfaceNumber) {
+    }
+}
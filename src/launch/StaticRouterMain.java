@@ -18,8 +18,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 import java.util.Scanner;
 
 public class StaticRouterMain {
@@ -76,11 +77,17 @@ public class StaticRouterMain {
 
         LayerManager manager = LayerManager.getInstance();
 
+        // 인터페이스 개수
+        int interfaceCount = Integer.getInteger("interfaces", 2);
+
         // Link Layer
-        NILayer niLayer0 = new NILayer(NETWORK_INTERFACE, 0);
-        NILayer niLayer1 = new NILayer(NETWORK_INTERFACE, 1);
-        manager.put(niLayer0, 0);
-        manager.put(niLayer1, 1);
+        List<NILayer> niLayerList = new ArrayList<>();
+        for (int number = 0; number < interfaceCount; number++) {
+            NILayer niLayer = new NILayer(NETWORK_INTERFACE, number);
+            manager.put(niLayer, number);
+            Launcher.setCapture(niLayer);
+            niLayerList.add(niLayer);
+        }
         EthernetLayer ethernetLayer = new EthernetLayer(ETHERNET);
         manager.put(ethernetLayer);
 
@@ -93,18 +100,14 @@ public class StaticRouterMain {
         // Application Layer (L3, Router)
         GUILayer routerApp = new RouterApp(ROUTER);
         manager.put(routerApp);
-        GUILayer settingApp0 = new SettingApp(SETTING, 0);
-        GUILayer settingApp1 = new SettingApp(SETTING, 1);
-        manager.put(settingApp0, 0);
-        manager.put(settingApp1, 1);
-
-        // Physical <-> Data Link
-        for (NILayer niLayer : Arrays.asList(niLayer0, niLayer1)) {
-            manager.connectLayers(String.format("%s ( +%s )", niLayer, ethernetLayer));
+        for (int number = 0; number < interfaceCount; number++) {
+            manager.put(new SettingApp(SETTING, number), number);
         }
 
-        // Data Link <-> Network Layer <-> L3 Application Layer
-        manager.connectLayers(String.format("%s ( +%s +%s ( -%s +%s ) )", ethernetLayer, arpLayer, ipLayer, arpLayer, routerApp));
+        // Physical <-> Data Link <-> Network Layer <-> L3 Application Layer
+        Launcher.setLatencyReport(niLayerList);
+        Launcher.connectLayers(manager, niLayerList, ethernetLayer, arpLayer, ipLayer, routerApp);
+        Launcher.setSnapshot((RouterApp) routerApp, arpLayer);
 
         routerApp.show();
         Scanner scanner = new Scanner(System.in);
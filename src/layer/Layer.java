@@ -85,6 +85,13 @@ public interface Layer {
      */
     void removeUnderLayer(String underLayerName, int layerNumber);
 
+    /**
+     * 계층 연결 완료 메서드
+     * <p>
+     * 상/하위 계층 연결이 끝난 뒤 호출되며, 이후의 계층 조회는 이 시점의 연결을 기준으로 한다.
+     */
+    void compile();
+
     /**
      * 계층간 바이트 배열 송신 메서드
      *
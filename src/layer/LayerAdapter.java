@@ -1,18 +1,42 @@
 package layer;
 
+import layer.controller.CounterSet;
+import layer.controller.LogWriter;
+
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class LayerAdapter implements Layer {
 
+    private static final Layer[] EMPTY_LAYERS = new Layer[0];
+
     private final Map<String, Map<Integer, Layer>> upperLayers = new HashMap<>();
     private final Map<String, Map<Integer, Layer>> underLayers = new HashMap<>();
+
+    /**
+     * {@link #compile()} 시점의 상/하위 계층 배열과 List
+     * <p>
+     * 계층 연결은 수신 스레드가 시작되기 전에 끝나므로 별도의 동기화 없이 읽는다.
+     */
+    private Layer[] upperLayerArray = EMPTY_LAYERS;
+    private Layer[] underLayerArray = EMPTY_LAYERS;
+    private List<Layer> upperLayerList = List.of();
+    private List<Layer> underLayerList = List.of();
+
     private final String layerName;
     private final int layerNumber;
 
-    private int printLineNumber = 0;
+    /**
+     * 로그에 표시되는 계층 이름 ({@link #toString()})
+     */
+    private final String logSource;
+    private final AtomicInteger printLineNumber = new AtomicInteger();
+    private volatile LogWriter.Level logLevel;
+    private CounterSet counters;
 
     /**
      * 계층 객체 생성자
@@ -33,16 +57,71 @@ public abstract class LayerAdapter implements Layer {
     public LayerAdapter(String layerName, int layerNumber) {
         this.layerName = layerName;
         this.layerNumber = layerNumber;
+        this.logSource = layerName + layerNumber;
+        this.logLevel = LogWriter.getDefaultLevel(layerName);
         print("initialize " + this);
     }
 
+    /**
+     * 로그 레벨 설정 메서드
+     *
+     * @param logLevel 이 계층에서 출력할 최소 로그 레벨
+     */
+    public void setLogLevel(LogWriter.Level logLevel) {
+        this.logLevel = logLevel;
+    }
+
+    /**
+     * 계층 카운터 모음 접근 메서드
+     * <p>
+     * 처음 호출될 때 {@code static-router:type=<클래스 이름>,name=<계층 이름>} 으로 JMX 에 등록된다.
+     * 카운터는 필드 초기화 시점에 받아 두고 패킷마다 이 메서드를 호출하지 않는다.
+     *
+     * @return 카운터 모음 객체
+     */
+    protected final synchronized CounterSet getCounters() {
+        if (counters == null) {
+            counters = CounterSet.register(getClass().getSimpleName(), logSource);
+        }
+        return counters;
+    }
+
+    /**
+     * 로그 출력 여부 확인 메서드
+     * <p>
+     * 메시지를 만드는 비용이 큰 경우 출력 전에 확인한다.
+     *
+     * @param level 확인할 로그 레벨
+     * @return {@code true} if this layer logs the level
+     */
+    protected boolean isLoggable(LogWriter.Level level) {
+        return level.compareTo(logLevel) >= 0 && level != LogWriter.Level.OFF;
+    }
+
     /**
      * 문자열 콘솔 출력 메서드
      *
      * @param str 출력하려는 문자열
      */
-    protected synchronized void print(String str) {
-        System.out.printf("[%s - %04d] %s\n", this, printLineNumber++, str);
+    protected void print(String str) {
+        if (isLoggable(LogWriter.Level.INFO)) {
+            LogWriter.getInstance().log(LogWriter.Level.INFO, logSource, printLineNumber.getAndIncrement(), str, null);
+        }
+    }
+
+    /**
+     * 포맷 문자열 콘솔 출력 메서드
+     * <p>
+     * 포맷은 로그 기록 스레드에서 수행된다.
+     *
+     * @param level     로그 레벨
+     * @param format    포맷 문자열
+     * @param arguments 포맷 인자
+     */
+    protected void print(LogWriter.Level level, String format, Object... arguments) {
+        if (isLoggable(level)) {
+            LogWriter.getInstance().log(level, logSource, printLineNumber.getAndIncrement(), format, arguments);
+        }
     }
 
     /**
@@ -50,30 +129,23 @@ public abstract class LayerAdapter implements Layer {
      *
      * @param errStr 출력하려는 오류 문자열
      */
-    protected synchronized void printError(String errStr) {
-        System.err.printf(String.format("[%s - %04d] %s\n", this, printLineNumber++, errStr));
+    protected void printError(String errStr) {
+        if (isLoggable(LogWriter.Level.ERROR)) {
+            LogWriter.getInstance().log(LogWriter.Level.ERROR, logSource, printLineNumber.getAndIncrement(), errStr, null);
+        }
     }
 
     /**
      * 바이트 배열을 16진수 문자열로 출력하는 메서드
+     * <p>
+     * {@link LogWriter.Level#DEBUG} 레벨이며, 16진수 변환은 로그 기록 스레드에서 수행된다.
      *
      * @param dataArray 출력하려는 데이터 바이트 배열
      */
-    protected synchronized void printHex(byte[] dataArray) {
-        String prefix = String.format("[%s - %04d] ", this, printLineNumber++);
-        StringBuilder stringBuilder = new StringBuilder();
-
-        for (int index = 0; index < dataArray.length; index++) {
-            if (index % 8 == 0) {
-                stringBuilder.append(prefix);
-            }
-            stringBuilder.append(String.format("%02X", dataArray[index]));
-            if (index + 1 < dataArray.length) {
-                stringBuilder.append((index + 1) % 8 != 0 ? " " : "\n");
-            }
+    protected void printHex(byte[] dataArray) {
+        if (isLoggable(LogWriter.Level.DEBUG)) {
+            LogWriter.getInstance().hex(LogWriter.Level.DEBUG, logSource, printLineNumber.getAndIncrement(), dataArray);
         }
-
-        System.out.println(stringBuilder);
     }
 
     @Override
@@ -88,28 +160,87 @@ public abstract class LayerAdapter implements Layer {
 
     @Override
     public Layer getUpperLayer(String upperLayerName, int layerNumber) {
-        return upperLayers.computeIfAbsent(upperLayerName, k -> new HashMap<>()).get(layerNumber);
+        return find(upperLayerArray, upperLayerName, layerNumber);
     }
 
     @Override
     public List<Layer> getUpperLayerList() {
-        List<Layer> upperLayerList = new ArrayList<>();
-        upperLayers.forEach((name, layerMap) -> layerMap.forEach((number, layer) -> upperLayerList.add(layer)));
         return upperLayerList;
     }
 
     @Override
     public Layer getUnderLayer(String underLayerName, int layerNumber) {
-        return underLayers.computeIfAbsent(underLayerName, k -> new HashMap<>()).get(layerNumber);
+        return find(underLayerArray, underLayerName, layerNumber);
     }
 
     @Override
     public List<Layer> getUnderLayerList() {
-        List<Layer> underLayerList = new ArrayList<>();
-        underLayers.forEach((name, layerMap) -> layerMap.forEach((number, layer) -> underLayerList.add(layer)));
         return underLayerList;
     }
 
+    /**
+     * 상위 계층 배열 접근 메서드
+     * <p>
+     * 패킷마다 호출되는 경로에서 객체 생성 없이 순회하기 위해 사용하며, 반환된 배열은 수정하면 안 된다.
+     *
+     * @return 상위 계층 배열
+     */
+    protected final Layer[] getUpperLayerArray() {
+        return upperLayerArray;
+    }
+
+    /**
+     * 하위 계층 배열 접근 메서드
+     * <p>
+     * 패킷마다 호출되는 경로에서 객체 생성 없이 순회하기 위해 사용하며, 반환된 배열은 수정하면 안 된다.
+     *
+     * @return 하위 계층 배열
+     */
+    protected final Layer[] getUnderLayerArray() {
+        return underLayerArray;
+    }
+
+    private static Layer find(Layer[] layerArray, String layerName, int layerNumber) {
+        for (Layer layer : layerArray) {
+            if (layer.getLayerNumber() == layerNumber && layer.getLayerName().equals(layerName)) {
+                return layer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 계층 연결 Map 을 이름, 번호 순으로 정렬된 배열로 변환하는 메서드
+     */
+    private static Layer[] flatten(Map<String, Map<Integer, Layer>> layers) {
+        List<Layer> layerList = new ArrayList<>();
+        layers.forEach((name, layerMap) -> layerList.addAll(layerMap.values()));
+        layerList.sort(Comparator.comparing(Layer::getLayerName).thenComparingInt(Layer::getLayerNumber));
+        return layerList.toArray(EMPTY_LAYERS);
+    }
+
+    /**
+     * 계층 연결 완료 메서드
+     * <p>
+     * 이름과 번호로 구성된 연결 Map 을 배열로 변환하고 {@link #onCompile()} 을 호출한다.
+     */
+    @Override
+    public void compile() {
+        upperLayerArray = flatten(upperLayers);
+        underLayerArray = flatten(underLayers);
+        upperLayerList = List.of(upperLayerArray);
+        underLayerList = List.of(underLayerArray);
+        onCompile();
+    }
+
+    /**
+     * 계층 연결 완료 후 호출되는 메서드
+     * <p>
+     * 하위 클래스는 패킷마다 조회하는 계층을 필드에 저장하기 위해 재정의한다.
+     */
+    protected void onCompile() {
+    }
+
     @Override
     public void addUpperLayer(Layer upperLayer) {
         upperLayers.putIfAbsent(upperLayer.getLayerName(), new HashMap<>());
@@ -128,6 +259,7 @@ public abstract class LayerAdapter implements Layer {
             value.remove(layerNumber);
             return value;
         });
+        compile();
     }
 
     @Override
@@ -136,6 +268,7 @@ public abstract class LayerAdapter implements Layer {
             value.remove(layerNumber);
             return value;
         });
+        compile();
     }
 
     @Override
@@ -0,0 +1,93 @@
+package layer.application;
+
+import data.address.IPAddress;
+
+/**
+ * 테이블 검색 조건 클래스
+ * <p>
+ * {@code a.b.c.d} 형식은 주소 하나, {@code a.b.c.d/n} 형식은 네트워크를 나타낸다.
+ */
+final class AddressFilter {
+
+    private final int network;
+    private final int length;
+    private final boolean host;
+
+    private AddressFilter(int network, int length, boolean host) {
+        this.network = network;
+        this.length = length;
+        this.host = host;
+    }
+
+    /**
+     * 검색 문자열 변환 메서드
+     *
+     * @param text 검색 문자열
+     * @return 검색 조건 객체, 빈 문자열일 경우 {@code null}
+     * @throws RuntimeException 주소 또는 넷마스크 길이가 올바르지 않을 경우
+     */
+    static AddressFilter parse(String text) {
+        String trimmed = text.trim();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        int slash = trimmed.indexOf('/');
+        if (slash < 0) {
+            return new AddressFilter(IPAddress.parse(trimmed, 0, trimmed.length()), 32, true);
+        }
+        int address = IPAddress.parse(trimmed, 0, slash);
+        int length;
+        try {
+            length = Integer.parseInt(trimmed.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("illegal netmask length");
+        }
+        if (length < 0 || length > 32) {
+            throw new RuntimeException("illegal netmask length");
+        }
+        return new AddressFilter(address & mask(length), length, false);
+    }
+
+    /**
+     * 넷마스크 길이에 해당하는 정수형 넷마스크 계산 메서드
+     *
+     * @param length 넷마스크 길이 (0 ~ 32)
+     * @return 정수형 넷마스크
+     */
+    static int mask(int length) {
+        return length == 0 ? 0 : -1 << (32 - length);
+    }
+
+    /**
+     * 정수형 네트워크 주소 접근 메서드
+     *
+     * @return 주소 하나일 경우 그 주소, 네트워크일 경우 네트워크 주소
+     */
+    int network() {
+        return network;
+    }
+
+    int length() {
+        return length;
+    }
+
+    /**
+     * 주소 하나에 대한 검색인지 확인하는 메서드
+     *
+     * @return 넷마스크 길이 없이 입력된 경우 {@code true}
+     */
+    boolean isHost() {
+        return host;
+    }
+
+    /**
+     * 주소가 검색 범위에 포함되는지 확인하는 메서드
+     *
+     * @param address 정수형 IP 주소
+     * @return 포함될 경우 {@code true}
+     */
+    boolean matches(int address) {
+        return (address & mask(length)) == network;
+    }
+
+}
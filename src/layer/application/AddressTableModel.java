@@ -0,0 +1,355 @@
+package layer.application;
+
+import data.address.IPAddress;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * IP 주소를 Key 로 하는 증분 갱신 테이블 모델 클래스
+ * <p>
+ * 변경은 어느 스레드에서나 {@link #put(IPAddress, Object...)}, {@link #remove(IPAddress)}, {@link #clear()} 로
+ * 잠금 없는 큐에 게시되며, EDT 에서 {@link #apply()} 가 호출될 때 Key 별로 병합되어 한 번에 반영된다.
+ * 셀 문자열은 화면에 그려지는 행에 대해서만 생성된다.
+ * 검색 조건이 설정된 경우 주소 순으로 정렬된 색인에서 이진 검색으로 조건에 맞는 구간을 찾아 표시한다.
+ * 행이 추가되거나 변경되기만 한 경우에는 조건에 맞는 행만 표시 배열에 반영하고 행 단위 이벤트를 발생시키며,
+ * 행이 제거된 경우에만 색인과 표시 배열을 다시 만든다.
+ */
+final class AddressTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 행 단위 이벤트 대신 전체 갱신 이벤트를 발생시키는 변경 개수
+     */
+    private static final int BULK_THRESHOLD = 64;
+
+    /**
+     * 제거된 행을 나타내는 값
+     */
+    private static final Object[] REMOVED = new Object[0];
+
+    private final String[] header;
+    private final Queue<Change> changes = new ConcurrentLinkedQueue<>();
+    private final List<IPAddress> keys = new ArrayList<>();
+    private final List<Object[]> rows = new ArrayList<>();
+    private final Map<IPAddress, Integer> index = new HashMap<>();
+    private AddressFilter filter;
+
+    /**
+     * 검색 조건에 맞는 행 번호 배열 (주소 순), 검색 조건이 없을 경우 {@code null}
+     */
+    private int[] view;
+
+    /**
+     * 부호 없는 주소 32 비트와 행 번호 31 비트를 묶어 정렬한 색인, 행이 추가되거나 제거되면 {@code null}
+     */
+    private long[] sorted;
+
+    /**
+     * 테이블 모델 객체 생성자
+     *
+     * @param header 열 이름 배열
+     */
+    AddressTableModel(String[] header) {
+        this.header = header;
+    }
+
+    /**
+     * 행 추가 또는 변경 메서드
+     *
+     * @param key    행의 IP 주소 객체
+     * @param values 열 값 배열, {@code null} 은 빈 문자열로 표시
+     */
+    void put(IPAddress key, Object... values) {
+        changes.add(new Change(key, values));
+    }
+
+    /**
+     * 행 제거 메서드
+     *
+     * @param key 제거하려는 행의 IP 주소 객체
+     */
+    void remove(IPAddress key) {
+        changes.add(new Change(key, REMOVED));
+    }
+
+    /**
+     * 모든 행 제거 메서드
+     */
+    void clear() {
+        changes.add(new Change(null, REMOVED));
+    }
+
+    /**
+     * 게시된 변경을 반영하는 메서드
+     * <p>
+     * EDT 에서만 호출해야 한다. 같은 Key 에 대한 변경은 마지막 변경만 반영된다.
+     */
+    void apply() {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // Key 별 변경 병합
+        Map<IPAddress, Object[]> merged = new LinkedHashMap<>();
+        boolean structural = false;
+        Change change;
+        while ((change = changes.poll()) != null) {
+            if (change.key() == null) {
+                merged.clear();
+                keys.clear();
+                rows.clear();
+                index.clear();
+                structural = true;
+            } else {
+                merged.put(change.key(), change.values());
+            }
+        }
+        structural |= merged.size() > BULK_THRESHOLD;
+
+        // 변경 반영
+        int firstInserted = rows.size();
+        int firstUpdated = Integer.MAX_VALUE;
+        int lastUpdated = -1;
+        int[] updated = new int[merged.size()];
+        int updatedCount = 0;
+        for (Map.Entry<IPAddress, Object[]> entry : merged.entrySet()) {
+            Integer row = index.get(entry.getKey());
+            if (entry.getValue() == REMOVED) {
+                if (row != null) {
+                    removeRow(row);
+                    structural = true;
+                }
+            } else if (row != null) {
+                rows.set(row, entry.getValue());
+                firstUpdated = Math.min(firstUpdated, row);
+                lastUpdated = Math.max(lastUpdated, row);
+                updated[updatedCount++] = row;
+            } else {
+                index.put(entry.getKey(), rows.size());
+                keys.add(entry.getKey());
+                rows.add(entry.getValue());
+            }
+        }
+
+        if (structural || rows.size() > firstInserted) {
+            sorted = null;
+        }
+
+        // 변경 통지
+        if (filter != null) {
+            if (structural) {
+                updateView();
+            } else {
+                applyToView(firstInserted, updated, updatedCount);
+            }
+            return;
+        }
+        if (structural) {
+            fireTableDataChanged();
+            return;
+        }
+        if (rows.size() > firstInserted) {
+            fireTableRowsInserted(firstInserted, rows.size() - 1);
+        }
+        if (lastUpdated >= 0) {
+            fireTableRowsUpdated(firstUpdated, lastUpdated);
+        }
+    }
+
+    /**
+     * 검색 조건 설정 메서드
+     * <p>
+     * EDT 에서만 호출해야 한다.
+     *
+     * @param filter 검색 조건, {@code null} 일 경우 모든 행 표시
+     */
+    void setFilter(AddressFilter filter) {
+        this.filter = filter;
+        updateView();
+    }
+
+    private void updateView() {
+        if (filter == null) {
+            view = null;
+        } else {
+            if (sorted == null) {
+                buildIndex();
+            }
+            int network = filter.network();
+            int last = network | ~AddressFilter.mask(filter.length());
+            int from = lowerBound(network);
+            int to = last == -1 ? sorted.length : lowerBound(last + 1);
+            int[] matched = new int[to - from];
+            for (int position = from; position < to; position++) {
+                matched[position - from] = (int) (sorted[position] & Integer.MAX_VALUE);
+            }
+            view = matched;
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * 추가되거나 변경된 행 중 검색 조건에 맞는 행만 표시 배열에 반영하는 메서드
+     *
+     * @param firstInserted 처음 추가된 행 번호
+     * @param updated       변경된 행 번호 배열
+     * @param updatedCount  변경된 행 개수
+     */
+    private void applyToView(int firstInserted, int[] updated, int updatedCount) {
+        int insertedCount = 0;
+        for (int row = firstInserted; row < rows.size(); row++) {
+            if (filter.matches(keys.get(row).toInt())) {
+                insertedCount++;
+            }
+        }
+        if (insertedCount > BULK_THRESHOLD) {
+            updateView();
+            return;
+        }
+
+        // 추가된 행은 주소 순 위치에 삽입
+        for (int row = firstInserted; row < rows.size(); row++) {
+            int address = keys.get(row).toInt();
+            if (!filter.matches(address)) {
+                continue;
+            }
+            int position = viewPosition(address);
+            int[] expanded = new int[view.length + 1];
+            System.arraycopy(view, 0, expanded, 0, position);
+            expanded[position] = row;
+            System.arraycopy(view, position, expanded, position + 1, view.length - position);
+            view = expanded;
+            fireTableRowsInserted(position, position);
+        }
+
+        // 변경된 행은 표시 위치 범위로 통지
+        int firstPosition = Integer.MAX_VALUE;
+        int lastPosition = -1;
+        for (int index = 0; index < updatedCount; index++) {
+            int address = keys.get(updated[index]).toInt();
+            if (filter.matches(address)) {
+                int position = viewPosition(address);
+                firstPosition = Math.min(firstPosition, position);
+                lastPosition = Math.max(lastPosition, position);
+            }
+        }
+        if (lastPosition >= 0) {
+            fireTableRowsUpdated(firstPosition, lastPosition);
+        }
+    }
+
+    /**
+     * 주소 순 표시 배열에서 주소가 {@code address} 이상인 첫 위치 검색 메서드 (부호 없는 비교)
+     */
+    private int viewPosition(int address) {
+        int low = 0;
+        int high = view.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Integer.compareUnsigned(keys.get(view[middle]).toInt(), address) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 주소와 행 번호를 하나의 long 으로 묶어 기본형 배열로 정렬하는 메서드
+     */
+    private void buildIndex() {
+        long[] array = new long[keys.size()];
+        for (int row = 0; row < array.length; row++) {
+            array[row] = (Integer.toUnsignedLong(keys.get(row).toInt()) << 31) | row;
+        }
+        Arrays.sort(array);
+        sorted = array;
+    }
+
+    /**
+     * 색인에서 주소가 {@code address} 이상인 첫 위치 검색 메서드 (부호 없는 비교)
+     */
+    private int lowerBound(int address) {
+        long key = Integer.toUnsignedLong(address) << 31;
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (sorted[middle] < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 마지막 행을 제거된 행의 위치로 옮겨 행을 제거하는 메서드
+     */
+    private void removeRow(int row) {
+        int last = rows.size() - 1;
+        index.remove(keys.get(row));
+        if (row != last) {
+            keys.set(row, keys.get(last));
+            rows.set(row, rows.get(last));
+            index.put(keys.get(row), row);
+        }
+        keys.remove(last);
+        rows.remove(last);
+    }
+
+    /**
+     * 행의 IP 주소 접근 메서드
+     *
+     * @param row 행 번호
+     * @return 행의 IP 주소 객체
+     */
+    IPAddress getKey(int row) {
+        return keys.get(view != null ? view[row] : row);
+    }
+
+    /**
+     * 전체 행 개수 반환 메서드
+     *
+     * @return 검색 조건과 관계없는 행 개수
+     */
+    int getTotalCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return view != null ? view.length : rows.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return header.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return header[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        Object value = rows.get(view != null ? view[row] : row)[column];
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * 게시된 변경
+     *
+     * @param key    행의 IP 주소 객체, {@code null} 일 경우 모든 행 제거
+     * @param values 열 값 배열 또는 {@link #REMOVED}
+     */
+    private record Change(IPAddress key, Object[] values) {
+    }
+
+}
@@ -0,0 +1,374 @@
+package layer.application;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 포워딩 테이블(FIB) 클래스
+ * <p>
+ * 라우팅 엔트리를 넷마스크 길이별 open addressing 해시 테이블로 구성한 불변 객체이다.
+ * 검색은 존재하는 넷마스크 길이만 긴 순서대로 확인하므로 최장 접두사 일치(longest prefix match)가 되며,
+ * 검색 중에는 객체를 생성하지 않는다.
+ * <p>
+ * 목적지와 넷마스크가 같고 게이트웨이 또는 인터페이스가 다른 엔트리는 하나의 경로 묶음이 되며,
+ * 그 중 가장 좋은 엔트리들이 흐름 해시로 트래픽을 나누는 ECMP 경로가 되고, 그 다음 순위의 엔트리들이 예비 경로가 된다.
+ * 예비 경로는 테이블 생성 시 미리 정렬되어 있으므로, 인터페이스나 다음 홉을 사용할 수 없게 되면
+ * 테이블을 다시 생성하지 않고 검색 시점에 바로 예비 경로가 선택된다.
+ */
+public final class ForwardingTable {
+
+    /**
+     * 빈 포워딩 테이블
+     */
+    public static final ForwardingTable EMPTY = build(List.of());
+
+    /**
+     * 넷마스크 길이별 네트워크 주소 테이블
+     */
+    private final int[][] keys;
+
+    /**
+     * 넷마스크 길이별 라우팅 엔트리 또는 {@link Group} 테이블, {@code null} 은 빈 슬롯
+     * <p>
+     * 경로가 하나뿐인 대부분의 접두사에 묶음 객체를 만들지 않기 위해 엔트리를 그대로 저장한다.
+     */
+    private final Object[][] values;
+
+    /**
+     * 엔트리가 존재하는 넷마스크 길이 (내림차순)
+     */
+    private final int[] lengths;
+
+    private final int size;
+
+    private ForwardingTable(int[][] keys, Object[][] values, int[] lengths, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.lengths = lengths;
+        this.size = size;
+    }
+
+    /**
+     * 포워딩 테이블 생성 메서드
+     * <p>
+     * 목적지, 넷마스크, 게이트웨이, 인터페이스가 모두 같은 엔트리가 여러 개일 경우 나중의 엔트리가 사용된다.
+     *
+     * @param routes 라우팅 엔트리 Collection
+     * @return 포워딩 테이블 객체
+     */
+    public static ForwardingTable build(Collection<RouteEntry> routes) {
+        // 넷마스크 길이별 개수
+        int[] counts = new int[33];
+        for (RouteEntry entry : routes) {
+            counts[Integer.bitCount(entry.netmask().toInt())]++;
+        }
+
+        int[][] keys = new int[33][];
+        Object[][] values = new Object[33][];
+        int present = 0;
+        for (int length = 0; length <= 32; length++) {
+            if (counts[length] > 0) {
+                int capacity = tableSize(counts[length]);
+                keys[length] = new int[capacity];
+                values[length] = new Object[capacity];
+                present++;
+            }
+        }
+
+        int[] lengths = new int[present];
+        for (int length = 32, index = 0; length >= 0; length--) {
+            if (counts[length] > 0) {
+                lengths[index++] = length;
+            }
+        }
+
+        // 엔트리 삽입 (경로가 여러 개인 접두사는 임시로 List 에 모음)
+        int size = 0;
+        boolean grouped = false;
+        for (RouteEntry entry : routes) {
+            int netmask = entry.netmask().toInt();
+            int length = Integer.bitCount(netmask);
+            int key = entry.destination().toInt() & netmask;
+            int[] keyTable = keys[length];
+            Object[] valueTable = values[length];
+            int mask = keyTable.length - 1;
+            int slot = hash(key) & mask;
+            while (valueTable[slot] != null && keyTable[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            Object value = valueTable[slot];
+            if (value == null) {
+                keyTable[slot] = key;
+                valueTable[slot] = entry;
+                size++;
+            } else if (value instanceof RouteEntry existing) {
+                if (isSamePath(existing, entry)) {
+                    valueTable[slot] = entry;
+                } else {
+                    valueTable[slot] = new ArrayList<>(List.of(existing, entry));
+                    size++;
+                    grouped = true;
+                }
+            } else {
+                @SuppressWarnings("unchecked")
+                List<RouteEntry> list = (List<RouteEntry>) value;
+                int index = 0;
+                while (index < list.size() && !isSamePath(list.get(index), entry)) {
+                    index++;
+                }
+                if (index < list.size()) {
+                    list.set(index, entry);
+                } else {
+                    list.add(entry);
+                    size++;
+                }
+            }
+        }
+
+        // 임시 List 를 경로 묶음으로 변환
+        if (grouped) {
+            for (Object[] valueTable : values) {
+                if (valueTable == null) {
+                    continue;
+                }
+                for (int slot = 0; slot < valueTable.length; slot++) {
+                    if (valueTable[slot] instanceof List<?> list) {
+                        valueTable[slot] = new Group(list.toArray(new RouteEntry[0]));
+                    }
+                }
+            }
+        }
+
+        return new ForwardingTable(keys, values, lengths, size);
+    }
+
+    /**
+     * 같은 접두사의 두 엔트리가 같은 다음 홉을 가리키는지 확인하는 메서드
+     */
+    private static boolean isSamePath(RouteEntry a, RouteEntry b) {
+        return a.interfaceNumber() == b.interfaceNumber() && a.gateway().equals(b.gateway());
+    }
+
+    /**
+     * 적재율 50% 이하를 만족하는 2의 거듭제곱 테이블 크기 계산 메서드
+     */
+    private static int tableSize(int count) {
+        return Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * 최장 접두사 일치 검색 메서드
+     *
+     * @param address 정수형 목적지 IP 주소
+     * @return 검색된 접두사의 가장 좋은 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    public RouteEntry lookup(int address) {
+        return lookup(address, 0);
+    }
+
+    /**
+     * 흐름 해시로 ECMP 경로를 선택하는 최장 접두사 일치 검색 메서드
+     * <p>
+     * 해시가 같은 패킷은 항상 같은 엔트리가 선택되므로 흐름 안의 패킷 순서가 유지된다.
+     *
+     * @param address 정수형 목적지 IP 주소
+     * @param hash    패킷의 흐름 해시
+     * @return 검색된 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    public RouteEntry lookup(int address, int hash) {
+        return lookup(address, hash, entry -> true);
+    }
+
+    /**
+     * 사용할 수 있는 경로만 선택하는 최장 접두사 일치 검색 메서드
+     * <p>
+     * 접두사의 ECMP 경로 중 해시로 선택된 엔트리를 사용할 수 없으면 같은 순위의 다음 엔트리를,
+     * 같은 순위에 사용할 수 있는 엔트리가 없으면 다음 순위의 예비 경로를 선택한다.
+     * 접두사의 모든 경로를 사용할 수 없으면 더 짧은 접두사를 검색한다.
+     *
+     * @param address 정수형 목적지 IP 주소
+     * @param hash    패킷의 흐름 해시
+     * @param usable  엔트리를 사용할 수 있는지 확인하는 조건
+     * @return 검색된 라우팅 엔트리, 사용할 수 있는 엔트리가 없을 경우 가장 긴 접두사의 엔트리, 없을 경우 {@code null}
+     */
+    public RouteEntry lookup(int address, int hash, Predicate<RouteEntry> usable) {
+        RouteEntry unusable = null;
+        for (int length : lengths) {
+            Object value = find(address & (length == 0 ? 0 : -1 << (32 - length)), length);
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Group group) {
+                RouteEntry entry = group.select(hash, usable);
+                if (entry != null) {
+                    return entry;
+                }
+                if (unusable == null) {
+                    unusable = group.select(hash);
+                }
+            } else {
+                RouteEntry entry = (RouteEntry) value;
+                if (usable.test(entry)) {
+                    return entry;
+                }
+                if (unusable == null) {
+                    unusable = entry;
+                }
+            }
+        }
+        return unusable;
+    }
+
+    /**
+     * 목적지와 넷마스크 길이가 정확히 일치하는 엔트리 검색 메서드
+     *
+     * @param network 정수형 네트워크 주소
+     * @param length  넷마스크 길이
+     * @return 검색된 접두사의 가장 좋은 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    public RouteEntry get(int network, int length) {
+        Object value = find(network, length);
+        return value instanceof Group group ? group.entries[0] : (RouteEntry) value;
+    }
+
+    /**
+     * 목적지와 넷마스크 길이가 정확히 일치하는 모든 엔트리 검색 메서드
+     *
+     * @param network 정수형 네트워크 주소
+     * @param length  넷마스크 길이
+     * @return 좋은 경로 순으로 정렬된 라우팅 엔트리 List, 없을 경우 빈 List
+     */
+    public List<RouteEntry> getAll(int network, int length) {
+        Object value = find(network, length);
+        if (value == null) {
+            return List.of();
+        }
+        return value instanceof Group group ? List.of(group.entries) : List.of((RouteEntry) value);
+    }
+
+    /**
+     * 엔트리가 포워딩 테이블에 채택되었는지 확인하는 메서드
+     *
+     * @param entry 라우팅 엔트리
+     * @return 같은 객체가 테이블에 존재할 경우 {@code true}
+     */
+    public boolean contains(RouteEntry entry) {
+        int netmask = entry.netmask().toInt();
+        Object value = find(entry.destination().toInt() & netmask, Integer.bitCount(netmask));
+        if (value instanceof Group group) {
+            for (RouteEntry member : group.entries) {
+                if (member == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return value == entry;
+    }
+
+    private Object find(int network, int length) {
+        int[] keyTable = keys[length];
+        if (keyTable == null) {
+            return null;
+        }
+        Object[] valueTable = values[length];
+        int mask = keyTable.length - 1;
+        int slot = hash(network) & mask;
+        Object value;
+        while ((value = valueTable[slot]) != null) {
+            if (keyTable[slot] == network) {
+                return value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 포워딩 테이블의 엔트리 개수 반환 메서드
+     *
+     * @return 중복이 제거된 엔트리 개수
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 목적지와 넷마스크가 같은 라우팅 엔트리 묶음
+     * <p>
+     * 엔트리는 UP 플래그가 설정된 엔트리, 직접 연결된 엔트리, 메트릭이 작은 엔트리 순으로 정렬되며 (같으면 추가된 순서),
+     * 세 기준이 모두 같은 연속된 엔트리들이 하나의 순위가 된다.
+     * 첫 순위의 엔트리들이 ECMP 경로, 이후 순위의 엔트리들이 차례로 예비 경로가 된다.
+     */
+    private static final class Group {
+
+        private static final Comparator<RouteEntry> ORDER = Comparator.comparing((RouteEntry entry) -> !entry.isUp())
+                .thenComparing(RouteEntry::isGateway).thenComparingInt(RouteEntry::metric);
+
+        private final RouteEntry[] entries;
+
+        /**
+         * 순위별 마지막 엔트리 다음 위치 (오름차순)
+         */
+        private final int[] ends;
+
+        private Group(RouteEntry[] entries) {
+            Arrays.sort(entries, ORDER);
+            int[] ends = new int[entries.length];
+            int count = 0;
+            for (int index = 1; index <= entries.length; index++) {
+                if (index == entries.length || ORDER.compare(entries[index - 1], entries[index]) != 0) {
+                    ends[count++] = index;
+                }
+            }
+            this.entries = entries;
+            this.ends = Arrays.copyOf(ends, count);
+        }
+
+        /**
+         * 첫 순위의 ECMP 경로 선택 메서드
+         * <p>
+         * 나머지 연산 대신 해시의 상위 비트를 곱셈으로 경로 개수 범위에 대응시킨다.
+         */
+        private RouteEntry select(int hash) {
+            return entries[index(hash, 0, ends[0])];
+        }
+
+        /**
+         * 사용할 수 있는 경로 선택 메서드
+         * <p>
+         * 순위 안에서는 해시로 선택된 위치부터 차례로 확인하므로, 사용할 수 없는 엔트리의 흐름만 다른 엔트리로 옮겨진다.
+         *
+         * @return 선택된 엔트리, 사용할 수 있는 엔트리가 없을 경우 {@code null}
+         */
+        private RouteEntry select(int hash, Predicate<RouteEntry> usable) {
+            int start = 0;
+            for (int end : ends) {
+                int index = index(hash, start, end);
+                for (int count = end - start; count > 0; count--) {
+                    RouteEntry entry = entries[index];
+                    if (usable.test(entry)) {
+                        return entry;
+                    }
+                    index = index + 1 == end ? start : index + 1;
+                }
+                start = end;
+            }
+            return null;
+        }
+
+        private static int index(int hash, int start, int end) {
+            return start + (int) ((Integer.toUnsignedLong(hash) * (end - start)) >>> 32);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package layer.application;
+
+import data.address.Address;
+import data.address.IPAddress;
+import data.address.MACAddress;
+import layer.LayerAdapter;
+
+import java.util.function.Predicate;
+
+/**
+ * GUI 없이 동작하는 라우터 계층 클래스
+ * <p>
+ * 라우팅 테이블만 보유하며, ARP 캐시 및 프록시 테이블 변경 통지는 무시한다.
+ */
+public class HeadlessRouter extends LayerAdapter implements RouterLayer {
+
+    private final RoutingTable routingTable = new RoutingTable();
+
+    /**
+     * 라우터 계층 객체 생성자
+     *
+     * @param layerName 계층 이름 문자열
+     */
+    public HeadlessRouter(String layerName) {
+        this(layerName, 0);
+    }
+
+    public HeadlessRouter(String layerName, int layerNumber) {
+        super(layerName, layerNumber);
+    }
+
+    @Override
+    public RoutingTable getRoutingTable() {
+        return routingTable;
+    }
+
+    @Override
+    public RouteEntry findEntry(IPAddress destination) {
+        return routingTable.findEntry(destination);
+    }
+
+    @Override
+    public RouteEntry findEntry(IPAddress destination, int hash, Predicate<RouteEntry> usable) {
+        return routingTable.findEntry(destination, hash, usable);
+    }
+
+    @Override
+    public void updateCacheEntry(IPAddress ipAddress, MACAddress macAddress) {
+    }
+
+    @Override
+    public void removeCacheEntry(IPAddress ipAddress) {
+    }
+
+    @Override
+    public void clearCacheEntries() {
+    }
+
+    @Override
+    public void updateProxyEntry(IPAddress ipAddress, MACAddress macAddress, int interfaceNumber) {
+    }
+
+    @Override
+    public void removeProxyEntry(IPAddress ipAddress) {
+    }
+
+    @Override
+    public void updateRouteTable() {
+    }
+
+    @Override
+    public void send(int interfaceLayerTo, Address address, byte[] data) {
+    }
+
+    @Override
+    public void receive(int interfaceLayerFrom, byte[] data) {
+    }
+
+}
@@ -0,0 +1,85 @@
+package layer.application;
+
+import data.address.Address;
+import data.address.IPAddress;
+import data.address.MACAddress;
+import launch.StaticRouterMain;
+import layer.LayerAdapter;
+import layer.controller.InterfaceContext;
+import layer.controller.LayerManager;
+import layer.link.NILayer;
+import org.jnetpcap.PcapIf;
+
+/**
+ * GUI 없이 동작하는 인터페이스 설정 계층 클래스
+ * <p>
+ * 설정 파일로부터 읽은 장치와 주소를 {@link SettingApp} 의 "Apply" 와 동일한 방식으로 적용한다.
+ */
+public class HeadlessSetting extends LayerAdapter implements SettingLayer {
+
+    private PcapIf pcapIf;
+    private MACAddress macAddress;
+    private IPAddress ipAddress;
+
+    /**
+     * 인터페이스 설정 계층 객체 생성자
+     *
+     * @param layerName   계층 이름 문자열
+     * @param layerNumber 계층 식별 번호
+     */
+    public HeadlessSetting(String layerName, int layerNumber) {
+        super(layerName, layerNumber);
+    }
+
+    /**
+     * 인터페이스 설정 적용 메서드
+     *
+     * @param wrapper    적용할 네트워크 장치
+     * @param macAddress 인터페이스 MAC 주소 객체
+     * @param ipAddress  인터페이스 IP 주소 객체
+     * @param mtu        인터페이스 MTU
+     */
+    public void apply(NILayer.PcapIfWrapper wrapper, MACAddress macAddress, IPAddress ipAddress, int mtu) {
+        NILayer niLayer = (NILayer) LayerManager.getInstance().get(StaticRouterMain.NETWORK_INTERFACE, getLayerNumber());
+        try {
+            niLayer.setInterface(wrapper.get(), mtu);
+            this.macAddress = macAddress;
+            this.ipAddress = ipAddress;
+            this.pcapIf = wrapper.get();
+            print(wrapper.toString());
+            LayerManager.getInstance().putInterfaceContext(new InterfaceContext(getLayerNumber(), macAddress, ipAddress, wrapper.getNetmask(), mtu, niLayer));
+            niLayer.startCapture();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            LayerManager.getInstance().removeInterfaceContext(getLayerNumber());
+            niLayer.resetInterface();
+            this.macAddress = null;
+            this.ipAddress = null;
+            this.pcapIf = null;
+        }
+    }
+
+    @Override
+    public PcapIf getInterface() {
+        return pcapIf;
+    }
+
+    @Override
+    public MACAddress getMyMACAddress() {
+        return macAddress;
+    }
+
+    @Override
+    public IPAddress getMyIPAddress() {
+        return ipAddress;
+    }
+
+    @Override
+    public void send(int interfaceLayerTo, Address address, byte[] data) {
+    }
+
+    @Override
+    public void receive(int interfaceLayerFrom, byte[] data) {
+    }
+
+}
@@ -0,0 +1,102 @@
+package layer.application;
+
+import data.address.IPAddress;
+
+import java.util.Objects;
+
+/**
+ * 라우팅 테이블 엔트리 클래스
+ */
+public final class RouteEntry {
+    private final IPAddress destination;
+    private final IPAddress netmask;
+    private final IPAddress gateway;
+    private final boolean flagUp;
+    private final boolean flagGateway;
+    private final boolean flagHost;
+    private final int interfaceNumber;
+    private final int metric;
+
+    /**
+     * 라우팅 엔트리 객체 생성자
+     *
+     * @param destination     목적지 네트워크 주소
+     * @param netmask         목적지 넷마스크
+     * @param gateway         게이트웨이 주소
+     * @param isUp            UP 플래그
+     * @param isGateway       G/W 플래그
+     * @param isHost          Host 플래그
+     * @param interfaceNumber 패킷을 내보낼 네트워크 인터페이스 계층 식별 번호
+     * @param metric          메트릭
+     */
+    public RouteEntry(IPAddress destination, IPAddress netmask, IPAddress gateway, boolean isUp, boolean isGateway, boolean isHost, int interfaceNumber, int metric) {
+        this.destination = destination;
+        this.netmask = netmask;
+        this.gateway = gateway;
+        this.flagUp = isUp;
+        this.flagGateway = isGateway;
+        this.flagHost = isHost;
+        this.interfaceNumber = interfaceNumber;
+        this.metric = metric;
+    }
+
+    public IPAddress destination() {
+        return destination;
+    }
+
+    public IPAddress netmask() {
+        return netmask;
+    }
+
+    public IPAddress gateway() {
+        return gateway;
+    }
+
+    public boolean isUp() {
+        return flagUp;
+    }
+
+    public boolean isGateway() {
+        return flagGateway;
+    }
+
+    public boolean isHost() {
+        return flagHost;
+    }
+
+    public int interfaceNumber() {
+        return interfaceNumber;
+    }
+
+    public int metric() {
+        return metric;
+    }
+
+    /**
+     * 플래그 문자열 반환 메서드
+     *
+     * @return U, G, H 조합의 플래그 문자열
+     */
+    public String flags() {
+        return String.format("%s%s%s", flagUp ? "U" : "", flagGateway ? "G" : "", flagHost ? "H" : "");
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) return true;
+        if (obj == null || obj.getClass() != this.getClass()) return false;
+        var that = (RouteEntry) obj;
+        return Objects.equals(this.destination, that.destination) && Objects.equals(this.netmask, that.netmask) && Objects.equals(this.gateway, that.gateway) && this.flagUp == that.flagUp && this.flagGateway == that.flagGateway && this.flagHost == that.flagHost && this.interfaceNumber == that.interfaceNumber && this.metric == that.metric;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(destination, netmask, gateway, flagUp, flagGateway, flagHost, interfaceNumber, metric);
+    }
+
+    @Override
+    public String toString() {
+        return "RouteEntry[" + "destination=" + destination + ", " + "netmask=" + netmask + ", " + "gateway=" + gateway + ", " + "isUp=" + flagUp + ", " + "isGateway=" + flagGateway + ", " + "isHost=" + flagHost + ", " + "interfaceNumber=" + interfaceNumber + ", " + "metric=" + metric + ']';
+    }
+
+}
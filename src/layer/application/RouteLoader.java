@@ -0,0 +1,344 @@
+package layer.application;
+
+import data.address.IPAddress;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 라우팅 엔트리 일괄 읽기/쓰기 클래스
+ * <p>
+ * 텍스트 형식은 한 줄에 하나의 엔트리를 쉼표 또는 공백으로 구분하여 기록하며, {@code #} 이후는 주석으로 무시한다.
+ * <pre>
+ * # 목적지, 넷마스크, 게이트웨이, 플래그(U/G/H), 인터페이스 번호[, 메트릭]
+ * 192.168.1.0,255.255.255.0,0.0.0.0,U,0
+ * 0.0.0.0 0.0.0.0 10.0.0.254 UG 1 10
+ * </pre>
+ * 바이너리 형식은 16 바이트 헤더({@code "SRRT"}, 버전, 엔트리 개수) 뒤에 14 바이트 고정 길이 레코드가 이어진다.
+ * 두 형식 모두 주소를 문자열이나 중간 객체 없이 바로 정수로 변환하며, 넷마스크 객체는 길이별로 공유한다.
+ */
+public final class RouteLoader {
+
+    /**
+     * 바이너리 형식 식별 값 ("SRRT")
+     */
+    public static final int MAGIC = 0x53525254;
+
+    /**
+     * 바이너리 형식 버전
+     */
+    public static final short VERSION = 1;
+
+    private static final int HEADER_LENGTH = 16;
+    static final int RECORD_LENGTH = 14;
+
+    private static final int FLAG_UP = 0x1;
+    private static final int FLAG_GATEWAY = 0x2;
+    private static final int FLAG_HOST = 0x4;
+
+    /**
+     * 인터페이스 번호와 메트릭의 최대 값 (레코드의 2 바이트 필드)
+     */
+    public static final int MAX_FIELD_VALUE = 0xFFFF;
+
+    private RouteLoader() {
+    }
+
+    /**
+     * 파일 형식을 판별하여 라우팅 엔트리를 읽는 메서드
+     *
+     * @param path 라우팅 엔트리 파일 경로
+     * @return 라우팅 엔트리 List
+     */
+    public static List<RouteEntry> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(4);
+            if (channel.read(header, 0) == 4 && header.getInt(0) == MAGIC) {
+                return readBinary(path);
+            }
+        }
+        return readText(path);
+    }
+
+    /**
+     * 텍스트 형식의 라우팅 엔트리를 읽는 메서드
+     * <p>
+     * 파일을 고정 크기 버퍼 단위로 읽으며 줄 단위로 바로 변환한다.
+     *
+     * @param path 라우팅 엔트리 파일 경로
+     * @return 라우팅 엔트리 List
+     */
+    public static List<RouteEntry> readText(Path path) throws IOException {
+        List<RouteEntry> routeList = new ArrayList<>();
+        TextParser parser = new TextParser(path, routeList);
+        byte[] buffer = new byte[1 << 20];
+        int length = 0;
+
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            while (true) {
+                int read = inputStream.read(buffer, length, buffer.length - length);
+                if (read == -1) {
+                    if (length > 0) {
+                        parser.parseLine(buffer, 0, length);
+                    }
+                    break;
+                }
+
+                int scan = length;
+                length += read;
+                int lineStart = 0;
+                for (int index = scan; index < length; index++) {
+                    if (buffer[index] == '\n') {
+                        parser.parseLine(buffer, lineStart, index);
+                        lineStart = index + 1;
+                    }
+                }
+
+                // 남은 줄을 버퍼 앞으로 이동
+                length -= lineStart;
+                System.arraycopy(buffer, lineStart, buffer, 0, length);
+                if (length == buffer.length) {
+                    throw new IOException(String.format("%s:%d: line too long", path, parser.lineNumber + 1));
+                }
+            }
+        }
+        return routeList;
+    }
+
+    /**
+     * 바이너리 형식의 라우팅 엔트리를 읽는 메서드
+     *
+     * @param path 라우팅 엔트리 파일 경로
+     * @return 라우팅 엔트리 List
+     */
+    public static List<RouteEntry> readBinary(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_LENGTH || buffer.getInt(0) != MAGIC) {
+                throw new IOException(path + ": not a route file");
+            }
+            if (buffer.getShort(4) != VERSION) {
+                throw new IOException(path + ": unsupported version " + buffer.getShort(4));
+            }
+            int count = buffer.getInt(8);
+            if ((long) HEADER_LENGTH + (long) count * RECORD_LENGTH > buffer.capacity()) {
+                throw new IOException(path + ": truncated route file");
+            }
+
+            List<RouteEntry> routeList = new ArrayList<>(count);
+            IPAddress gateway = IPAddress.ZERO;
+            for (int index = 0, position = HEADER_LENGTH; index < count; index++, position += RECORD_LENGTH) {
+                RouteEntry entry = getRecord(buffer, position, gateway);
+                if (entry == null) {
+                    throw new IOException(String.format("%s: record %d: invalid netmask length %d", path, index, buffer.get(position + 8)));
+                }
+                gateway = entry.gateway();
+                routeList.add(entry);
+            }
+            return routeList;
+        }
+    }
+
+    /**
+     * 라우팅 엔트리를 바이너리 형식으로 기록하는 메서드
+     *
+     * @param path    기록할 파일 경로
+     * @param entries 기록할 라우팅 엔트리 Collection
+     */
+    public static void writeBinary(Path path, Collection<RouteEntry> entries) throws IOException {
+        // 파일을 열기 전에 확인하여 잘린 파일이 남지 않게 함
+        for (RouteEntry entry : entries) {
+            checkRange(entry);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(entries.size()).putInt(0);
+            for (RouteEntry entry : entries) {
+                if (buffer.remaining() < RECORD_LENGTH) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                putRecord(buffer, entry);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * 인터페이스 번호와 메트릭이 레코드에 기록 가능한 범위인지 확인하는 메서드
+     *
+     * @param entry 확인할 라우팅 엔트리
+     * @throws IllegalArgumentException 0 ~ {@value #MAX_FIELD_VALUE} 범위를 벗어난 경우
+     */
+    static void checkRange(RouteEntry entry) {
+        if (entry.interfaceNumber() < 0 || entry.interfaceNumber() > MAX_FIELD_VALUE) {
+            throw new IllegalArgumentException("illegal interface number: " + entry.interfaceNumber());
+        }
+        if (entry.metric() < 0 || entry.metric() > MAX_FIELD_VALUE) {
+            throw new IllegalArgumentException("illegal metric: " + entry.metric());
+        }
+    }
+
+    /**
+     * 바이너리 레코드 하나를 읽는 메서드
+     *
+     * @param buffer   레코드를 읽을 버퍼
+     * @param position 레코드 시작 위치
+     * @param gateway  직전 레코드의 게이트웨이 객체, 값이 같을 경우 재사용
+     * @return 라우팅 엔트리, 넷마스크 길이가 잘못된 경우 {@code null}
+     */
+    static RouteEntry getRecord(ByteBuffer buffer, int position, IPAddress gateway) {
+        int destination = buffer.getInt(position);
+        int gatewayValue = buffer.getInt(position + 4);
+        int length = buffer.get(position + 8);
+        int flags = buffer.get(position + 9);
+        int interfaceNumber = Short.toUnsignedInt(buffer.getShort(position + 10));
+        int metric = Short.toUnsignedInt(buffer.getShort(position + 12));
+        if (length < 0 || length > 32) {
+            return null;
+        }
+        if (gateway.toInt() != gatewayValue) {
+            gateway = new IPAddress(gatewayValue);
+        }
+        return new RouteEntry(new IPAddress(destination), IPAddress.netmask(length), gateway, (flags & FLAG_UP) != 0, (flags & FLAG_GATEWAY) != 0, (flags & FLAG_HOST) != 0, interfaceNumber, metric);
+    }
+
+    /**
+     * 바이너리 레코드 하나를 기록하는 메서드
+     *
+     * @param buffer 레코드를 기록할 버퍼, {@value #RECORD_LENGTH} 바이트 이상 남아 있어야 한다
+     * @param entry  기록할 라우팅 엔트리
+     */
+    static void putRecord(ByteBuffer buffer, RouteEntry entry) {
+        checkRange(entry);
+        int flags = (entry.isUp() ? FLAG_UP : 0) | (entry.isGateway() ? FLAG_GATEWAY : 0) | (entry.isHost() ? FLAG_HOST : 0);
+        buffer.putInt(entry.destination().toInt());
+        buffer.putInt(entry.gateway().toInt());
+        buffer.put((byte) Integer.bitCount(entry.netmask().toInt()));
+        buffer.put((byte) flags);
+        buffer.putShort((short) entry.interfaceNumber());
+        buffer.putShort((short) entry.metric());
+    }
+
+    /**
+     * 텍스트 형식 줄 단위 변환 클래스
+     */
+    private static final class TextParser {
+        private final Path path;
+        private final List<RouteEntry> routeList;
+        private final int[] fieldStart = new int[6];
+        private final int[] fieldEnd = new int[6];
+        private int lineNumber;
+        private IPAddress gateway = IPAddress.ZERO;
+
+        private TextParser(Path path, List<RouteEntry> routeList) {
+            this.path = path;
+            this.routeList = routeList;
+        }
+
+        private void parseLine(byte[] buffer, int from, int to) throws IOException {
+            lineNumber++;
+
+            // 주석 및 줄 끝 제거
+            for (int index = from; index < to; index++) {
+                if (buffer[index] == '#') {
+                    to = index;
+                    break;
+                }
+            }
+
+            // 필드 분리
+            int fields = 0;
+            int index = from;
+            while (index < to) {
+                byte c = buffer[index];
+                if (c == ',' || c == ' ' || c == '\t' || c == '\r') {
+                    index++;
+                    continue;
+                }
+                if (fields == fieldStart.length) {
+                    throw error("too many fields");
+                }
+                fieldStart[fields] = index;
+                while (index < to && (c = buffer[index]) != ',' && c != ' ' && c != '\t' && c != '\r') {
+                    index++;
+                }
+                fieldEnd[fields++] = index;
+            }
+            if (fields == 0) {
+                return;
+            }
+            if (fields < 5) {
+                throw error("illegal route line");
+            }
+
+            try {
+                int destination = IPAddress.parse(buffer, fieldStart[0], fieldEnd[0]);
+                int netmask = IPAddress.parse(buffer, fieldStart[1], fieldEnd[1]);
+                int gatewayValue = IPAddress.parse(buffer, fieldStart[2], fieldEnd[2]);
+                if (!IPAddress.isNetmask(netmask)) {
+                    throw error("invalid netmask");
+                }
+                boolean flagUp = false;
+                boolean flagGateway = false;
+                boolean flagHost = false;
+                for (int flag = fieldStart[3]; flag < fieldEnd[3]; flag++) {
+                    switch (buffer[flag]) {
+                        case 'U', 'u' -> flagUp = true;
+                        case 'G', 'g' -> flagGateway = true;
+                        case 'H', 'h' -> flagHost = true;
+                        case '-' -> {
+                        }
+                        default -> throw error("unknown flag " + (char) buffer[flag]);
+                    }
+                }
+                int interfaceNumber = parseInt(buffer, fieldStart[4], fieldEnd[4]);
+                int metric = fields > 5 ? parseInt(buffer, fieldStart[5], fieldEnd[5]) : 1;
+
+                if (gateway.toInt() != gatewayValue) {
+                    gateway = new IPAddress(gatewayValue);
+                }
+                routeList.add(new RouteEntry(new IPAddress(destination), IPAddress.netmask(Integer.bitCount(netmask)), gateway, flagUp, flagGateway, flagHost, interfaceNumber, metric));
+            } catch (RuntimeException e) {
+                throw error(e.getMessage());
+            }
+        }
+
+        private int parseInt(byte[] buffer, int from, int to) {
+            int value = 0;
+            for (int index = from; index < to; index++) {
+                byte c = buffer[index];
+                if (c < '0' || c > '9') {
+                    throw new RuntimeException("illegal number");
+                }
+                value = value * 10 + (c - '0');
+                if (value > MAX_FIELD_VALUE) {
+                    throw new RuntimeException("number out of range");
+                }
+            }
+            if (from == to) {
+                throw new RuntimeException("illegal number");
+            }
+            return value;
+        }
+
+        private IOException error(String message) {
+            return new IOException(String.format("%s:%d: %s", path, lineNumber, message));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package layer.application;
+
+import launch.StaticRouterMain;
+import layer.controller.InterfaceContext;
+import layer.controller.LayerManager;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 라우팅 테이블 모델 클래스
+ * <p>
+ * {@link RoutingTable#entries()} 가 반환한 불변 List 를 복사하지 않고 그대로 읽으며,
+ * 셀 문자열은 화면에 그려지는 행에 대해서만 생성한다.
+ * 검색 조건이 주소 하나일 경우 그 주소를 포함하는 엔트리를 포워딩 테이블에서 넷마스크 길이별로 찾고,
+ * 네트워크일 경우 그 안에 포함되는 엔트리를 네트워크 주소 순으로 정렬된 색인에서 이진 탐색으로 찾는다.
+ */
+final class RouteTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] HEADER = new String[]{"Dest.", "Netmask", "G/W", "Flag", "I/F", "Metric"};
+
+    private List<RouteEntry> entries = List.of();
+    private ForwardingTable forwardingTable = ForwardingTable.EMPTY;
+    private AddressFilter filter;
+
+    /**
+     * 표시 중인 엔트리 List, 검색 조건이 없을 경우 {@link #entries}
+     */
+    private List<RouteEntry> view = List.of();
+
+    /**
+     * 네트워크 주소 순으로 정렬된 엔트리 색인, 필요할 때 생성
+     */
+    private RouteEntry[] sorted;
+    private int[] sortedNetworks;
+
+    /**
+     * 라우팅 엔트리 List 교체 메서드
+     * <p>
+     * EDT 에서만 호출해야 한다.
+     *
+     * @param snapshot 표시할 엔트리 List 와 포워딩 테이블 스냅샷
+     */
+    void setEntries(RoutingTable.Snapshot snapshot) {
+        this.entries = snapshot.entries();
+        this.forwardingTable = snapshot.forwardingTable();
+        sorted = null;
+        sortedNetworks = null;
+        updateView();
+    }
+
+    /**
+     * 검색 조건 설정 메서드
+     * <p>
+     * EDT 에서만 호출해야 한다.
+     *
+     * @param filter 검색 조건, {@code null} 일 경우 모든 엔트리 표시
+     */
+    void setFilter(AddressFilter filter) {
+        this.filter = filter;
+        updateView();
+    }
+
+    private void updateView() {
+        if (filter == null) {
+            view = entries;
+        } else if (filter.isHost()) {
+            // 주소를 포함하는 엔트리 (최장 접두사 순, 같은 접두사는 좋은 경로 순)
+            List<RouteEntry> list = new ArrayList<>();
+            for (int length = 32; length >= 0; length--) {
+                list.addAll(forwardingTable.getAll(filter.network() & AddressFilter.mask(length), length));
+            }
+            view = list;
+        } else {
+            view = findNetwork(filter.network(), filter.length());
+        }
+        fireTableDataChanged();
+    }
+
+    /**
+     * 네트워크에 포함되는 엔트리 검색 메서드
+     * <p>
+     * 색인에서 네트워크 범위에 해당하는 연속된 구간을 복사 없이 반환한다.
+     */
+    private List<RouteEntry> findNetwork(int network, int length) {
+        if (sorted == null) {
+            buildIndex();
+        }
+        int last = network | ~AddressFilter.mask(length);
+        int from = lowerBound(network);
+        int to = last == -1 ? sorted.length : lowerBound(last + 1);
+        // 네트워크 주소가 같지만 더 짧은 넷마스크의 엔트리 제외
+        while (from < to && sortedNetworks[from] == network && Integer.bitCount(sorted[from].netmask().toInt()) < length) {
+            from++;
+        }
+        return Arrays.asList(sorted).subList(from, to);
+    }
+
+    /**
+     * 네트워크 주소, 넷마스크 길이, 엔트리 위치를 하나의 long 으로 묶어 기본형 배열로 정렬하는 메서드
+     * <p>
+     * 부호 없는 네트워크 주소 32 비트, 넷마스크 길이 6 비트, 엔트리 위치 25 비트를 사용한다.
+     */
+    private void buildIndex() {
+        int size = entries.size();
+        long[] keys = new long[size];
+        for (int index = 0; index < size; index++) {
+            RouteEntry entry = entries.get(index);
+            int netmask = entry.netmask().toInt();
+            keys[index] = (Integer.toUnsignedLong(entry.destination().toInt() & netmask) << 31) | ((long) Integer.bitCount(netmask) << 25) | index;
+        }
+        Arrays.sort(keys);
+
+        RouteEntry[] array = new RouteEntry[size];
+        int[] networks = new int[size];
+        for (int index = 0; index < size; index++) {
+            array[index] = entries.get((int) (keys[index] & ((1 << 25) - 1)));
+            networks[index] = (int) (keys[index] >>> 31);
+        }
+        sorted = array;
+        sortedNetworks = networks;
+    }
+
+    /**
+     * 네트워크 주소가 {@code address} 이상인 첫 색인 위치 검색 메서드 (부호 없는 비교)
+     */
+    private int lowerBound(int address) {
+        int low = 0;
+        int high = sortedNetworks.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (Integer.compareUnsigned(sortedNetworks[middle], address) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 행의 라우팅 엔트리 접근 메서드
+     *
+     * @param row 행 번호
+     * @return 라우팅 엔트리
+     */
+    RouteEntry getEntry(int row) {
+        return view.get(row);
+    }
+
+    /**
+     * 전체 라우팅 엔트리 개수 반환 메서드
+     *
+     * @return 검색 조건과 관계없는 엔트리 개수
+     */
+    int getTotalCount() {
+        return entries.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return view.size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return HEADER.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return HEADER[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        RouteEntry entry = view.get(row);
+        return switch (column) {
+            case 0 -> entry.destination().toString();
+            case 1 -> entry.netmask().toString();
+            case 2 -> entry.gateway().toString();
+            case 3 -> entry.flags();
+            case 4 -> interfaceName(entry.interfaceNumber());
+            default -> entry.metric();
+        };
+    }
+
+    /**
+     * 인터페이스 이름 반환 메서드
+     *
+     * @return 인터페이스 이름, DOWN 상태일 경우 상태 표시 포함
+     */
+    private static String interfaceName(int interfaceNumber) {
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceNumber);
+        return StaticRouterMain.NETWORK_INTERFACE + interfaceNumber + (context != null && !context.isUp() ? " (down)" : "");
+    }
+
+}
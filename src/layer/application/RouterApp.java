@@ -3,24 +3,40 @@ package layer.application;
 import data.address.IPAddress;
 import data.address.MACAddress;
 import launch.StaticRouterMain;
+import layer.Layer;
 import layer.controller.LayerManager;
 import layer.internet.ARPLayer;
 import layer.link.NILayer;
-import org.jnetpcap.PcapIf;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.event.MenuEvent;
+import javax.swing.event.MenuListener;
+import javax.swing.table.TableModel;
 import java.awt.*;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
-public class RouterApp extends GUILayer {
+public class RouterApp extends GUILayer implements RouterLayer {
 
     private static final String[] ARP_TABLE_HEADER = new String[]{"IP Address", "MAC Address", "Info"};
-    private static final String[] ROUTER_TABLE_HEADER = new String[]{"Dest.", "Netmask", "G/W", "Flag", "I/F", "Metric"};
-    private static final List<RouteEntry> routeList = new ArrayList<>();
+
+    /**
+     * 테이블 화면 갱신 주기 (밀리초)
+     */
+    private static final int REFRESH_INTERVAL = 100;
+
+    private final RoutingTable routingTable = new RoutingTable();
+    private final AddressTableModel cacheModel = new AddressTableModel(ARP_TABLE_HEADER);
+    private final AddressTableModel proxyModel = new AddressTableModel(ARP_TABLE_HEADER);
+    private final RouteTableModel routeModel = new RouteTableModel();
+    private final AtomicBoolean routeTableChanged = new AtomicBoolean(true);
     private JFrame mainFrame;
     private JFrame staticRouteFrame;
     private JFrame proxyARPFrame;
@@ -65,29 +81,37 @@ public class RouterApp extends GUILayer {
         routeAddButton.addActionListener(e -> staticRouteFrame.setVisible(true));
         routeDeleteButton.addActionListener(e -> {
             if (routeTable.getSelectedRow() != -1) {
-                routeList.remove(routeTable.getSelectedRow());
+                routingTable.remove(routeModel.getEntry(routeTable.getSelectedRow()));
                 updateRouteTable();
             }
         });
+        upButton.addActionListener(e -> setSelectedInterfaceUp(true));
+        downButton.addActionListener(e -> setSelectedInterfaceUp(false));
         cacheDeleteButton.addActionListener(e -> {
             if (cacheTable.getSelectedRow() != -1) {
-                IPAddress address = new IPAddress((String) cacheTable.getValueAt(cacheTable.getSelectedRow(), 0));
+                IPAddress address = cacheModel.getKey(cacheTable.getSelectedRow());
                 ((ARPLayer) LayerManager.getInstance().get(StaticRouterMain.ARP, getLayerNumber())).removeCache(address);
             }
         });
         proxyAddButton.addActionListener(e -> proxyARPFrame.setVisible(true));
         proxyDeleteButton.addActionListener(e -> {
             if (proxyTable.getSelectedRow() != -1) {
-                IPAddress address = new IPAddress((String) proxyTable.getValueAt(proxyTable.getSelectedRow(), 0));
+                IPAddress address = proxyModel.getKey(proxyTable.getSelectedRow());
                 ((ARPLayer) LayerManager.getInstance().get(StaticRouterMain.ARP, getLayerNumber())).removeProxy(address);
             }
         });
-        updateRouteTable();
-        updateCacheTable(null);
-        updateProxyTable(null, null);
+
+        // Table Setting
+        setTableModel(routeTable, routeModel, 120, 120, 120, 25, 0, 40);
+        setTableModel(cacheTable, cacheModel, 100, 120, 130);
+        setTableModel(proxyTable, proxyModel, 100, 120, 130);
+        new Timer(REFRESH_INTERVAL, e -> refreshTables()).start();
 
         // Add Components
-        mainFrame.setContentPane(mainPanel);
+        JPanel contentPanel = new JPanel(new BorderLayout());
+        contentPanel.add(createFilterPanel(), BorderLayout.NORTH);
+        contentPanel.add(mainPanel, BorderLayout.CENTER);
+        mainFrame.setContentPane(contentPanel);
         mainFrame.pack();
 
         // Set Frame Position
@@ -96,16 +120,48 @@ public class RouterApp extends GUILayer {
         proxyARPFrame.setLocationRelativeTo(mainFrame);
     }
 
+    /**
+     * 선택된 라우팅 엔트리의 인터페이스 관리 상태 변경 메서드
+     * <p>
+     * 라우팅 테이블은 다시 생성하지 않으며, DOWN 된 인터페이스를 사용하는 트래픽은 다음 패킷부터 예비 경로로 전달된다.
+     *
+     * @param up UP 상태 여부
+     */
+    private void setSelectedInterfaceUp(boolean up) {
+        int row = routeTable.getSelectedRow();
+        if (row == -1) {
+            return;
+        }
+        if (!LayerManager.getInstance().setInterfaceUp(routeModel.getEntry(row).interfaceNumber(), up)) {
+            printError("interface not applied");
+            return;
+        }
+        routeModel.fireTableRowsUpdated(0, routeModel.getRowCount() - 1);
+    }
+
     private JMenuBar createMenuBar() {
         JMenuBar menuBar = new JMenuBar();
 
         JMenu filemenu = new JMenu("File");
-        JMenuItem settingMenuItem = new JMenuItem(StaticRouterMain.SETTING + 0);
-        settingMenuItem.addActionListener(e -> ((GUILayer) LayerManager.getInstance().get(StaticRouterMain.SETTING, 0)).show());
-        filemenu.add(settingMenuItem);
-        settingMenuItem = new JMenuItem(StaticRouterMain.SETTING + 1);
-        settingMenuItem.addActionListener(e -> ((GUILayer) LayerManager.getInstance().get(StaticRouterMain.SETTING, 1)).show());
-        filemenu.add(settingMenuItem);
+        JMenu settingMenu = new JMenu(StaticRouterMain.SETTING);
+        settingMenu.addMenuListener(new MenuListener() {
+            @Override
+            public void menuSelected(MenuEvent e) {
+                updateSettingMenu(settingMenu);
+            }
+
+            @Override
+            public void menuDeselected(MenuEvent e) {
+            }
+
+            @Override
+            public void menuCanceled(MenuEvent e) {
+            }
+        });
+        filemenu.add(settingMenu);
+        JMenuItem importMenuItem = new JMenuItem("Import Routes");
+        importMenuItem.addActionListener(e -> importRoutes());
+        filemenu.add(importMenuItem);
         JMenuItem exitMenuItem = new JMenuItem("Exit");
         exitMenuItem.addActionListener(e -> System.exit(0));
         filemenu.add(exitMenuItem);
@@ -137,10 +193,85 @@ public class RouterApp extends GUILayer {
         return menuBar;
     }
 
+    /**
+     * 테이블 검색 입력 패널 생성 메서드
+     * <p>
+     * {@code a.b.c.d} 를 입력하면 그 주소를 포함하는 라우팅 엔트리와 그 주소의 ARP 엔트리를,
+     * {@code a.b.c.d/n} 을 입력하면 그 네트워크에 포함되는 엔트리를 표시한다.
+     */
+    private JPanel createFilterPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        JLabel filterLabel = new JLabel("Filter");
+        JTextField filterField = new JTextField();
+        filterLabel.setBorder(BorderFactory.createEmptyBorder(0, 4, 0, 4));
+        filterField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                applyFilter(filterField);
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                applyFilter(filterField);
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+        panel.add(filterLabel, BorderLayout.WEST);
+        panel.add(filterField, BorderLayout.CENTER);
+        return panel;
+    }
+
+    /**
+     * 검색 조건 적용 메서드
+     * <p>
+     * 입력 중인 문자열이 올바르지 않은 경우 이전 검색 조건을 유지하고 글자색만 바꾼다.
+     *
+     * @param filterField 검색 입력 필드
+     */
+    private void applyFilter(JTextField filterField) {
+        AddressFilter filter;
+        try {
+            filter = AddressFilter.parse(filterField.getText());
+        } catch (RuntimeException e) {
+            filterField.setForeground(Color.RED);
+            return;
+        }
+        filterField.setForeground(UIManager.getColor("TextField.foreground"));
+        routeModel.setFilter(filter);
+        cacheModel.setFilter(filter);
+        proxyModel.setFilter(filter);
+    }
+
+    /**
+     * 라우팅 엔트리 파일 일괄 추가 메서드
+     * <p>
+     * 파일은 별도 스레드에서 읽고, 라우팅 테이블 갱신과 화면 갱신은 한 번만 수행한다.
+     */
+    private void importRoutes() {
+        JFileChooser fileChooser = new JFileChooser();
+        if (fileChooser.showOpenDialog(mainFrame) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path path = fileChooser.getSelectedFile().toPath();
+        new Thread(() -> {
+            try {
+                long startTime = System.nanoTime();
+                List<RouteEntry> entries = RouteLoader.read(path);
+                routingTable.addAll(entries);
+                print(String.format("%d routes imported in %d ms", entries.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+                updateRouteTable();
+            } catch (IOException ex) {
+                printError(ex.getMessage());
+            }
+        }).start();
+    }
+
     private JComboBox<NILayer.PcapIfWrapper> createInterfaceComboBox() {
         JComboBox<NILayer.PcapIfWrapper> comboBox = new JComboBox<>();
-        List<PcapIf> interfaceList = NILayer.getInterfaceList();
-        interfaceList.forEach(pcapIf -> comboBox.addItem(new NILayer.PcapIfWrapper(pcapIf)));
+        NILayer.getInterfaceList().forEach(comboBox::addItem);
         comboBox.setSelectedIndex(-1);
         return comboBox;
     }
@@ -155,6 +286,7 @@ public class RouterApp extends GUILayer {
         JLabel gatewayLabel = new JLabel("Gateway");
         JLabel flagLabel = new JLabel("Flag");
         JLabel interfaceLabel = new JLabel("Interface");
+        JLabel metricLabel = new JLabel("Metric");
         JTextField destinationField = new JTextField();
         JTextField netmaskField = new JTextField();
         JTextField gatewayField = new JTextField();
@@ -163,6 +295,7 @@ public class RouterApp extends GUILayer {
         JCheckBox flagGateway = new JCheckBox("G/W");
         JCheckBox flagHost = new JCheckBox("Host");
         JComboBox<NILayer.PcapIfWrapper> interfaceComboBox = createInterfaceComboBox();
+        JTextField metricField = new JTextField("1");
         JButton addButton = new JButton("Add");
         JButton closeButton = new JButton("Close");
 
@@ -171,6 +304,7 @@ public class RouterApp extends GUILayer {
         gatewayLabel.setHorizontalAlignment(JLabel.CENTER);
         flagLabel.setHorizontalAlignment(JLabel.CENTER);
         interfaceLabel.setHorizontalAlignment(JLabel.CENTER);
+        metricLabel.setHorizontalAlignment(JLabel.CENTER);
         interfaceComboBox.addActionListener(e -> {
             NILayer.PcapIfWrapper selectedItem = (NILayer.PcapIfWrapper) interfaceComboBox.getSelectedItem();
             if (selectedItem != null) {
@@ -193,12 +327,25 @@ public class RouterApp extends GUILayer {
                 }
             }
             IPAddress gateway = flagGateway.isSelected() ? new IPAddress(gatewayField.getText()) : IPAddress.ZERO;
+            int interfaceNumber = findInterfaceNumber((NILayer.PcapIfWrapper) interfaceComboBox.getSelectedItem());
+            if (interfaceNumber < 0) {
+                printError("interface not applied");
+                return;
+            }
+            int metric;
+            try {
+                metric = Integer.parseInt(metricField.getText().trim());
+            } catch (NumberFormatException exception) {
+                metric = -1;
+            }
+            if (metric < 0 || metric > RouteLoader.MAX_FIELD_VALUE) {
+                printError("invalid metric");
+                return;
+            }
 
-            // Remove previously added entries with same destination and netmask
-            routeList.removeIf(entry -> entry.destination.equals(destination) && entry.netmask.equals(netmask));
-
-            // Add entry
-            routeList.add(new RouteEntry(destination, netmask, gateway, flagUp.isSelected(), flagGateway.isSelected(), flagHost.isSelected(), (NILayer.PcapIfWrapper) interfaceComboBox.getSelectedItem(), 1));
+            // Add entry (previously added entries with same destination, netmask, gateway and interface are replaced,
+            // entries with other next hops are kept as parallel paths)
+            routingTable.add(new RouteEntry(destination, netmask, gateway, flagUp.isSelected(), flagGateway.isSelected(), flagHost.isSelected(), interfaceNumber, metric));
 
             updateRouteTable();
             frame.dispose();
@@ -212,9 +359,9 @@ public class RouterApp extends GUILayer {
         layout.setAutoCreateGaps(false);
         layout.setAutoCreateContainerGaps(false);
 
-        layout.setHorizontalGroup(layout.createSequentialGroup().addGroup(layout.createParallelGroup().addComponent(destinationLabel).addComponent(netmaskLabel).addComponent(gatewayLabel).addComponent(flagLabel).addComponent(interfaceLabel).addComponent(addButton)).addGroup(layout.createParallelGroup().addComponent(destinationField).addComponent(netmaskField).addComponent(gatewayField).addComponent(flagBoxPanel).addComponent(interfaceComboBox).addComponent(closeButton)));
-        layout.setVerticalGroup(layout.createSequentialGroup().addGroup(layout.createParallelGroup().addComponent(destinationLabel).addComponent(destinationField)).addGroup(layout.createParallelGroup().addComponent(netmaskLabel).addComponent(netmaskField)).addGroup(layout.createParallelGroup().addComponent(gatewayLabel).addComponent(gatewayField)).addGroup(layout.createParallelGroup().addComponent(flagLabel).addComponent(flagBoxPanel)).addGroup(layout.createParallelGroup().addComponent(interfaceLabel).addComponent(interfaceComboBox)).addGroup(layout.createParallelGroup().addComponent(addButton).addComponent(closeButton)));
-        layout.linkSize(destinationLabel, destinationField, netmaskLabel, netmaskField, gatewayLabel, gatewayField, flagLabel, flagBoxPanel, interfaceLabel, interfaceComboBox, addButton, closeButton);
+        layout.setHorizontalGroup(layout.createSequentialGroup().addGroup(layout.createParallelGroup().addComponent(destinationLabel).addComponent(netmaskLabel).addComponent(gatewayLabel).addComponent(flagLabel).addComponent(interfaceLabel).addComponent(metricLabel).addComponent(addButton)).addGroup(layout.createParallelGroup().addComponent(destinationField).addComponent(netmaskField).addComponent(gatewayField).addComponent(flagBoxPanel).addComponent(interfaceComboBox).addComponent(metricField).addComponent(closeButton)));
+        layout.setVerticalGroup(layout.createSequentialGroup().addGroup(layout.createParallelGroup().addComponent(destinationLabel).addComponent(destinationField)).addGroup(layout.createParallelGroup().addComponent(netmaskLabel).addComponent(netmaskField)).addGroup(layout.createParallelGroup().addComponent(gatewayLabel).addComponent(gatewayField)).addGroup(layout.createParallelGroup().addComponent(flagLabel).addComponent(flagBoxPanel)).addGroup(layout.createParallelGroup().addComponent(interfaceLabel).addComponent(interfaceComboBox)).addGroup(layout.createParallelGroup().addComponent(metricLabel).addComponent(metricField)).addGroup(layout.createParallelGroup().addComponent(addButton).addComponent(closeButton)));
+        layout.linkSize(destinationLabel, destinationField, netmaskLabel, netmaskField, gatewayLabel, gatewayField, flagLabel, flagBoxPanel, interfaceLabel, interfaceComboBox, metricLabel, metricField, addButton, closeButton);
 
         frame.setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         frame.setResizable(false);
@@ -223,6 +370,26 @@ public class RouterApp extends GUILayer {
         return frame;
     }
 
+    /**
+     * 등록된 설정 계층으로 설정 메뉴를 구성하는 메서드
+     *
+     * @param settingMenu 설정 메뉴
+     */
+    private void updateSettingMenu(JMenu settingMenu) {
+        settingMenu.removeAll();
+        List<Layer> settingList = LayerManager.getInstance().getList(StaticRouterMain.SETTING);
+        settingList.sort(Comparator.comparingInt(Layer::getLayerNumber));
+        for (Layer layer : settingList) {
+            JMenuItem settingMenuItem = new JMenuItem(layer.toString());
+            if (layer instanceof GUILayer guiLayer) {
+                settingMenuItem.addActionListener(e -> guiLayer.show());
+            } else {
+                settingMenuItem.setEnabled(false);
+            }
+            settingMenu.add(settingMenuItem);
+        }
+    }
+
     private JFrame createProxyARPFrame() {
         JFrame frame = new JFrame("Proxy ARP");
         GroupLayout layout = new GroupLayout(frame.getContentPane());
@@ -252,7 +419,12 @@ public class RouterApp extends GUILayer {
             ARPLayer arpLayer = (ARPLayer) LayerManager.getInstance().get(StaticRouterMain.ARP, getLayerNumber());
             IPAddress ipAddress = new IPAddress(ipField.getText());
             MACAddress macAddress = new MACAddress(macField.getText());
-            arpLayer.addProxy(ipAddress, macAddress, (NILayer.PcapIfWrapper) interfaceComboBox.getSelectedItem());
+            int interfaceNumber = findInterfaceNumber((NILayer.PcapIfWrapper) interfaceComboBox.getSelectedItem());
+            if (interfaceNumber < 0) {
+                printError("interface not applied");
+                return;
+            }
+            arpLayer.addProxy(ipAddress, macAddress, interfaceNumber);
             frame.dispose();
         });
         closeButton.addActionListener(e -> frame.dispose());
@@ -293,166 +465,110 @@ public class RouterApp extends GUILayer {
         return frame;
     }
 
+    /**
+     * 선택된 네트워크 장치가 적용된 인터페이스 번호를 찾는 메서드
+     *
+     * @param wrapper 선택된 네트워크 장치
+     * @return 인터페이스 계층 식별 번호, 적용된 인터페이스가 없을 경우 -1
+     */
+    private int findInterfaceNumber(NILayer.PcapIfWrapper wrapper) {
+        if (wrapper == null) {
+            return -1;
+        }
+        for (Layer layer : LayerManager.getInstance().getList(StaticRouterMain.SETTING)) {
+            if (wrapper.get().equals(((SettingLayer) layer).getInterface())) {
+                return layer.getLayerNumber();
+            }
+        }
+        return -1;
+    }
+
     @Override
     public void show() {
         mainFrame.setVisible(true);
     }
 
-
-    public void updateCacheTable(Map<IPAddress, MACAddress> cache) {
-        // Update ARP Cache Table
-        Object[][] tableData;
-        if (cache != null) {
-            tableData = new Object[cache.keySet().size()][3];
-            List<IPAddress> keyList = new ArrayList<>(cache.keySet());
-            for (int index = 0; index < keyList.size(); index++) {
-                IPAddress key = keyList.get(index);
-                MACAddress value = cache.get(key);
-                // TODO Cache Timeout
-                tableData[index][0] = key.toString();
-                tableData[index][1] = value != null ? value.toString() : "";
-                tableData[index][2] = value != null ? "done" : "requested";
-            }
-        } else {
-            tableData = new Object[0][3];
-        }
-        cacheTable.setModel(new DefaultTableModel(tableData, ARP_TABLE_HEADER));
-        cacheTable.getTableHeader().setReorderingAllowed(false);
-        cacheTable.getTableHeader().setResizingAllowed(false);
-        cacheTable.setDefaultEditor(Object.class, null);
-        cacheTable.getColumnModel().getColumn(0).setPreferredWidth(100);
-        cacheTable.getColumnModel().getColumn(1).setPreferredWidth(120);
-        cacheTable.getColumnModel().getColumn(2).setPreferredWidth(130);
+    @Override
+    public RoutingTable getRoutingTable() {
+        return routingTable;
     }
 
-    public void updateProxyTable(Map<IPAddress, MACAddress> macTable, Map<MACAddress, NILayer.PcapIfWrapper> ifTable) {
-        // Update ARP Cache Table
-        Object[][] tableData;
-        if (macTable != null && ifTable != null) {
-            tableData = new Object[macTable.keySet().size()][3];
-            List<IPAddress> keyList = new ArrayList<>(macTable.keySet());
-            for (int index = 0; index < keyList.size(); index++) {
-                IPAddress ipAddress = keyList.get(index);
-                MACAddress macAddress = macTable.get(ipAddress);
-                NILayer.PcapIfWrapper pcapInterface = ifTable.get(macAddress);
-                tableData[index][0] = ipAddress.toString();
-                tableData[index][1] = macAddress.toString();
-                tableData[index][2] = pcapInterface.toString();
+
+    /**
+     * 테이블 모델 설정 메서드
+     *
+     * @param table  설정할 테이블
+     * @param model  테이블 모델
+     * @param widths 열별 선호 너비, 0 일 경우 기본값
+     */
+    private static void setTableModel(JTable table, TableModel model, int... widths) {
+        table.setModel(model);
+        table.getTableHeader().setReorderingAllowed(false);
+        table.getTableHeader().setResizingAllowed(false);
+        table.setDefaultEditor(Object.class, null);
+        for (int column = 0; column < widths.length; column++) {
+            if (widths[column] > 0) {
+                table.getColumnModel().getColumn(column).setPreferredWidth(widths[column]);
             }
-        } else {
-            tableData = new Object[0][3];
         }
-        proxyTable.setModel(new DefaultTableModel(tableData, ARP_TABLE_HEADER));
-        proxyTable.getTableHeader().setReorderingAllowed(false);
-        proxyTable.getTableHeader().setResizingAllowed(false);
-        proxyTable.setDefaultEditor(Object.class, null);
-        proxyTable.getColumnModel().getColumn(0).setPreferredWidth(100);
-        proxyTable.getColumnModel().getColumn(1).setPreferredWidth(120);
-        proxyTable.getColumnModel().getColumn(2).setPreferredWidth(130);
     }
 
-    private void updateRouteTable() {
-        // Update Route Table
-        Object[][] tableData = new Object[routeList.size()][6];
-        for (int index = 0; index < routeList.size(); index++) {
-            RouteEntry entry = routeList.get(index);
-            tableData[index][0] = entry.destination.toString();
-            tableData[index][1] = entry.netmask.toString();
-            tableData[index][2] = entry.gateway.toString();
-            tableData[index][3] = String.format("%s%s%s", entry.flagUp ? "U" : "", entry.flagGateway ? "G" : "", entry.flagHost ? "H" : "");
-            tableData[index][4] = entry.interfaceWrapper.toString();
-            tableData[index][5] = entry.metric;
+    /**
+     * 게시된 테이블 변경을 화면에 반영하는 메서드
+     * <p>
+     * EDT 에서 {@link #REFRESH_INTERVAL} 마다 호출되므로 변경이 많아도 화면 갱신 빈도는 제한된다.
+     */
+    private void refreshTables() {
+        cacheModel.apply();
+        proxyModel.apply();
+        if (routeTableChanged.getAndSet(false)) {
+            routeModel.setEntries(routingTable.snapshot());
         }
-        routeTable.setModel(new DefaultTableModel(tableData, ROUTER_TABLE_HEADER));
-        routeTable.getTableHeader().setReorderingAllowed(false);
-        routeTable.getTableHeader().setResizingAllowed(false);
-        routeTable.setDefaultEditor(Object.class, null);
-        routeTable.getColumnModel().getColumn(0).setPreferredWidth(120);
-        routeTable.getColumnModel().getColumn(1).setPreferredWidth(120);
-        routeTable.getColumnModel().getColumn(2).setPreferredWidth(120);
-        routeTable.getColumnModel().getColumn(3).setPreferredWidth(25);
-        routeTable.getColumnModel().getColumn(5).setPreferredWidth(40);
     }
 
-    public RouteEntry findEntry(IPAddress destination) {
-        for (RouteEntry entry : routeList) {
-            if (destination.toNetwork(entry.netmask).equals(entry.destination)) {
-                return entry;
-            }
-        }
-        return null;
+    @Override
+    public void updateCacheEntry(IPAddress ipAddress, MACAddress macAddress) {
+        // TODO Cache Timeout
+        cacheModel.put(ipAddress, ipAddress, macAddress, macAddress != null ? "done" : "requested");
     }
 
-    public static final class RouteEntry {
-        private final IPAddress destination;
-        private final IPAddress netmask;
-        private final IPAddress gateway;
-        private final boolean flagUp;
-        private final boolean flagGateway;
-        private final boolean flagHost;
-        private final NILayer.PcapIfWrapper interfaceWrapper;
-        private final int metric;
-
-        private RouteEntry(IPAddress destination, IPAddress netmask, IPAddress gateway, boolean isUp, boolean isGateway, boolean isHost, NILayer.PcapIfWrapper interfaceWrapper, int metric) {
-            this.destination = destination;
-            this.netmask = netmask;
-            this.gateway = gateway;
-            this.flagUp = isUp;
-            this.flagGateway = isGateway;
-            this.flagHost = isHost;
-            this.interfaceWrapper = interfaceWrapper;
-            this.metric = metric;
-        }
-
-        public IPAddress destination() {
-            return destination;
-        }
-
-        public IPAddress netmask() {
-            return netmask;
-        }
-
-        public IPAddress gateway() {
-            return gateway;
-        }
-
-        public boolean isUp() {
-            return flagUp;
-        }
-
-        public boolean isGateway() {
-            return flagGateway;
-        }
-
-        public boolean isHost() {
-            return flagHost;
-        }
+    @Override
+    public void removeCacheEntry(IPAddress ipAddress) {
+        cacheModel.remove(ipAddress);
+    }
 
-        public NILayer.PcapIfWrapper interfaceWrapper() {
-            return interfaceWrapper;
-        }
+    @Override
+    public void clearCacheEntries() {
+        cacheModel.clear();
+    }
 
-        public int metric() {
-            return metric;
-        }
+    @Override
+    public void updateProxyEntry(IPAddress ipAddress, MACAddress macAddress, int interfaceNumber) {
+        proxyModel.put(ipAddress, ipAddress, macAddress, StaticRouterMain.NETWORK_INTERFACE + interfaceNumber);
+    }
 
-        @Override
-        public boolean equals(Object obj) {
-            if (obj == this) return true;
-            if (obj == null || obj.getClass() != this.getClass()) return false;
-            var that = (RouteEntry) obj;
-            return Objects.equals(this.destination, that.destination) && Objects.equals(this.netmask, that.netmask) && Objects.equals(this.gateway, that.gateway) && this.flagUp == that.flagUp && this.flagGateway == that.flagGateway && this.flagHost == that.flagHost && Objects.equals(this.interfaceWrapper, that.interfaceWrapper) && this.metric == that.metric;
-        }
+    @Override
+    public void removeProxyEntry(IPAddress ipAddress) {
+        proxyModel.remove(ipAddress);
+    }
 
-        @Override
-        public int hashCode() {
-            return Objects.hash(destination, netmask, gateway, flagUp, flagGateway, flagHost, interfaceWrapper, metric);
-        }
+    /**
+     * 라우팅 테이블 변경 통지 메서드
+     * <p>
+     * 어느 스레드에서나 호출할 수 있으며, 화면은 다음 갱신 주기에 EDT 에서 한 번만 갱신된다.
+     */
+    @Override
+    public void updateRouteTable() {
+        routeTableChanged.set(true);
+    }
 
-        @Override
-        public String toString() {
-            return "RouteEntry[" + "destination=" + destination + ", " + "netmask=" + netmask + ", " + "gateway=" + gateway + ", " + "isUp=" + flagUp + ", " + "isGateway=" + flagGateway + ", " + "isHost=" + flagHost + ", " + "pcapInterface=" + interfaceWrapper + ", " + "metric=" + metric + ']';
-        }
+    @Override
+    public RouteEntry findEntry(IPAddress destination) {
+        return routingTable.findEntry(destination);
+    }
 
+    @Override
+    public RouteEntry findEntry(IPAddress destination, int hash, Predicate<RouteEntry> usable) {
+        return routingTable.findEntry(destination, hash, usable);
     }
 }
@@ -0,0 +1,87 @@
+package layer.application;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import layer.Layer;
+
+import java.util.function.Predicate;
+
+/**
+ * 라우터 계층 인터페이스
+ * <p>
+ * 라우팅 테이블을 보유하고, ARP 캐시 및 프록시 테이블의 엔트리 단위 변경을 통지받는다.
+ */
+public interface RouterLayer extends Layer {
+
+    /**
+     * 라우팅 테이블 접근 메서드
+     *
+     * @return 라우팅 테이블 객체
+     */
+    RoutingTable getRoutingTable();
+
+    /**
+     * 목적지 주소에 해당하는 라우팅 엔트리 검색 메서드
+     *
+     * @param destination 목적지 IP 주소 객체
+     * @return 검색된 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    RouteEntry findEntry(IPAddress destination);
+
+    /**
+     * 목적지 주소와 흐름 해시에 해당하는 라우팅 엔트리 검색 메서드
+     * <p>
+     * 같은 목적지로 가는 ECMP 경로가 여러 개일 경우 해시가 같은 패킷에는 항상 같은 엔트리를 반환하며,
+     * 사용할 수 없는 경로 대신 예비 경로를 반환한다.
+     *
+     * @param destination 목적지 IP 주소 객체
+     * @param hash        패킷의 흐름 해시
+     * @param usable      엔트리를 사용할 수 있는지 확인하는 조건
+     * @return 검색된 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    RouteEntry findEntry(IPAddress destination, int hash, Predicate<RouteEntry> usable);
+
+    /**
+     * ARP 캐시 엔트리 추가 또는 변경 통지 메서드
+     * <p>
+     * ARP 계층의 잠금을 보유한 채 패킷 처리 스레드에서 호출되므로 바로 반환해야 한다.
+     *
+     * @param ipAddress  IP 주소 객체
+     * @param macAddress MAC 주소 객체, 요청 중인 경우 {@code null}
+     */
+    void updateCacheEntry(IPAddress ipAddress, MACAddress macAddress);
+
+    /**
+     * ARP 캐시 엔트리 제거 통지 메서드
+     *
+     * @param ipAddress 제거된 IP 주소 객체
+     */
+    void removeCacheEntry(IPAddress ipAddress);
+
+    /**
+     * ARP 캐시 전체 제거 통지 메서드
+     */
+    void clearCacheEntries();
+
+    /**
+     * ARP 프록시 엔트리 추가 또는 변경 통지 메서드
+     *
+     * @param ipAddress       프록시 IP 주소 객체
+     * @param macAddress      프록시 MAC 주소 객체
+     * @param interfaceNumber 프록시 인터페이스 번호
+     */
+    void updateProxyEntry(IPAddress ipAddress, MACAddress macAddress, int interfaceNumber);
+
+    /**
+     * ARP 프록시 엔트리 제거 통지 메서드
+     *
+     * @param ipAddress 제거된 프록시 IP 주소 객체
+     */
+    void removeProxyEntry(IPAddress ipAddress);
+
+    /**
+     * 라우팅 테이블 변경 통지 메서드
+     */
+    void updateRouteTable();
+
+}
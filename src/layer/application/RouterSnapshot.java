@@ -0,0 +1,248 @@
+package layer.application;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import layer.internet.ARPLayer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 라우터 상태 스냅샷 클래스
+ * <p>
+ * 라우팅 테이블, ARP 캐시, 프록시 ARP 테이블을 하나의 바이너리 파일로 저장하고 복원한다.
+ * 파일은 32 바이트 헤더({@code "SRSS"}, 버전, 생성 시각, 섹션별 개수) 뒤에 라우팅, 캐시, 프록시 레코드가 순서대로 이어진다.
+ * 라우팅 레코드는 {@link RouteLoader} 의 바이너리 레코드와 같은 형식이다.
+ * <p>
+ * 저장은 임시 파일에 기록한 뒤 이름을 바꾸므로 중간에 종료되어도 이전 스냅샷이 손상되지 않는다.
+ */
+public final class RouterSnapshot {
+
+    /**
+     * 스냅샷 형식 식별 값 ("SRSS")
+     */
+    public static final int MAGIC = 0x53525353;
+
+    /**
+     * 스냅샷 형식 버전
+     */
+    public static final short VERSION = 1;
+
+    private static final int HEADER_LENGTH = 32;
+    private static final int CACHE_RECORD_LENGTH = 10;
+    private static final int PROXY_RECORD_LENGTH = 12;
+
+    private final long createdTime;
+    private final List<RouteEntry> routeList;
+    private final Map<IPAddress, MACAddress> cacheTable;
+    private final Map<IPAddress, MACAddress> proxyMACTable;
+    private final Map<MACAddress, Integer> proxyInterfaceTable;
+
+    /**
+     * 스냅샷 객체 생성자
+     *
+     * @param createdTime         생성 시각 (epoch 밀리초)
+     * @param routeList           라우팅 엔트리 목록
+     * @param cacheTable          ARP 캐시 테이블
+     * @param proxyMACTable       프록시 ARP 주소 테이블
+     * @param proxyInterfaceTable 프록시 ARP 인터페이스 테이블
+     */
+    RouterSnapshot(long createdTime, List<RouteEntry> routeList, Map<IPAddress, MACAddress> cacheTable, Map<IPAddress, MACAddress> proxyMACTable, Map<MACAddress, Integer> proxyInterfaceTable) {
+        this.createdTime = createdTime;
+        this.routeList = routeList;
+        this.cacheTable = cacheTable;
+        this.proxyMACTable = proxyMACTable;
+        this.proxyInterfaceTable = proxyInterfaceTable;
+    }
+
+    /**
+     * 현재 라우터 상태를 복사하여 스냅샷을 생성하는 메서드
+     *
+     * @param routerLayer 라우터 계층
+     * @param arpLayer    ARP 계층
+     * @return 스냅샷 객체
+     */
+    public static RouterSnapshot capture(RouterLayer routerLayer, ARPLayer arpLayer) {
+        return new RouterSnapshot(System.currentTimeMillis(), routerLayer.getRoutingTable().getList(), arpLayer.getCacheTable(), arpLayer.getProxyMACTable(), arpLayer.getProxyInterfaceTable());
+    }
+
+    /**
+     * 스냅샷 파일을 읽는 메서드
+     *
+     * @param path 스냅샷 파일 경로
+     * @return 스냅샷 객체
+     */
+    public static RouterSnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.capacity() < HEADER_LENGTH || buffer.getInt(0) != MAGIC) {
+                throw new IOException(path + ": not a snapshot file");
+            }
+            if (buffer.getShort(4) != VERSION) {
+                throw new IOException(path + ": unsupported version " + buffer.getShort(4));
+            }
+            long createdTime = buffer.getLong(8);
+            int routeCount = buffer.getInt(16);
+            int cacheCount = buffer.getInt(20);
+            int proxyCount = buffer.getInt(24);
+            if (routeCount < 0 || cacheCount < 0 || proxyCount < 0
+                    || HEADER_LENGTH + (long) routeCount * RouteLoader.RECORD_LENGTH + (long) cacheCount * CACHE_RECORD_LENGTH + (long) proxyCount * PROXY_RECORD_LENGTH > buffer.capacity()) {
+                throw new IOException(path + ": truncated snapshot file");
+            }
+
+            int position = HEADER_LENGTH;
+
+            // Route
+            List<RouteEntry> routeList = new ArrayList<>(routeCount);
+            IPAddress gateway = IPAddress.ZERO;
+            for (int index = 0; index < routeCount; index++, position += RouteLoader.RECORD_LENGTH) {
+                RouteEntry entry = RouteLoader.getRecord(buffer, position, gateway);
+                if (entry == null) {
+                    throw new IOException(String.format("%s: route %d: invalid netmask length %d", path, index, buffer.get(position + 8)));
+                }
+                gateway = entry.gateway();
+                routeList.add(entry);
+            }
+
+            // ARP Cache
+            Map<IPAddress, MACAddress> cacheTable = new HashMap<>();
+            for (int index = 0; index < cacheCount; index++, position += CACHE_RECORD_LENGTH) {
+                cacheTable.put(new IPAddress(buffer.getInt(position)), getMACAddress(buffer, position + 4));
+            }
+
+            // Proxy ARP
+            Map<IPAddress, MACAddress> proxyMACTable = new HashMap<>();
+            Map<MACAddress, Integer> proxyInterfaceTable = new HashMap<>();
+            for (int index = 0; index < proxyCount; index++, position += PROXY_RECORD_LENGTH) {
+                MACAddress macAddress = getMACAddress(buffer, position + 4);
+                proxyMACTable.put(new IPAddress(buffer.getInt(position)), macAddress);
+                proxyInterfaceTable.put(macAddress, Short.toUnsignedInt(buffer.getShort(position + 10)));
+            }
+
+            return new RouterSnapshot(createdTime, routeList, cacheTable, proxyMACTable, proxyInterfaceTable);
+        }
+    }
+
+    private static MACAddress getMACAddress(ByteBuffer buffer, int position) {
+        byte[] address = new byte[6];
+        buffer.get(position, address);
+        return new MACAddress(address);
+    }
+
+    /**
+     * 스냅샷 파일 기록 메서드
+     * <p>
+     * 같은 디렉터리의 임시 파일에 기록하고 디스크에 반영한 뒤 대상 파일로 이름을 바꾼다.
+     *
+     * @param path 스냅샷 파일 경로
+     */
+    public void write(Path path) throws IOException {
+        // 인터페이스가 기록되지 않는 프록시는 제외
+        List<Map.Entry<IPAddress, MACAddress>> proxyList = new ArrayList<>();
+        for (Map.Entry<IPAddress, MACAddress> entry : proxyMACTable.entrySet()) {
+            if (proxyInterfaceTable.containsKey(entry.getValue())) {
+                proxyList.add(entry);
+            }
+        }
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putLong(createdTime);
+            buffer.putInt(routeList.size()).putInt(cacheTable.size()).putInt(proxyList.size()).putInt(0);
+
+            for (RouteEntry entry : routeList) {
+                ensureRemaining(channel, buffer, RouteLoader.RECORD_LENGTH);
+                RouteLoader.putRecord(buffer, entry);
+            }
+            for (Map.Entry<IPAddress, MACAddress> entry : cacheTable.entrySet()) {
+                ensureRemaining(channel, buffer, CACHE_RECORD_LENGTH);
+                buffer.putInt(entry.getKey().toInt()).put(entry.getValue().toBytes());
+            }
+            for (Map.Entry<IPAddress, MACAddress> entry : proxyList) {
+                ensureRemaining(channel, buffer, PROXY_RECORD_LENGTH);
+                buffer.putInt(entry.getKey().toInt()).put(entry.getValue().toBytes()).putShort(proxyInterfaceTable.get(entry.getValue()).shortValue());
+            }
+            flush(channel, buffer);
+            channel.force(true);
+        }
+
+        try {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int length) throws IOException {
+        if (buffer.remaining() < length) {
+            flush(channel, buffer);
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * 스냅샷을 라우터에 복원하는 메서드
+     * <p>
+     * 라우팅 엔트리는 기존 테이블에 한 번에 추가되며, 목적지, 넷마스크, 게이트웨이, 인터페이스가 같은 엔트리는 스냅샷의 엔트리로 대체된다.
+     * ARP 캐시는 즉시 사용되며 {@link ARPLayer#restoreCache(Map)} 에 의해 백그라운드에서 재확인된다.
+     *
+     * @param routerLayer 라우터 계층
+     * @param arpLayer    ARP 계층
+     */
+    public void restore(RouterLayer routerLayer, ARPLayer arpLayer) {
+        routerLayer.getRoutingTable().addAll(routeList);
+        proxyMACTable.forEach((ipAddress, macAddress) -> {
+            Integer interfaceNumber = proxyInterfaceTable.get(macAddress);
+            if (interfaceNumber != null) {
+                arpLayer.addProxy(ipAddress, macAddress, interfaceNumber);
+            }
+        });
+        arpLayer.restoreCache(cacheTable);
+        routerLayer.updateRouteTable();
+    }
+
+    /**
+     * 스냅샷 생성 시각 반환 메서드
+     *
+     * @return 생성 시각 (epoch 밀리초)
+     */
+    public long getCreatedTime() {
+        return createdTime;
+    }
+
+    public List<RouteEntry> getRouteList() {
+        return routeList;
+    }
+
+    public Map<IPAddress, MACAddress> getCacheTable() {
+        return cacheTable;
+    }
+
+    public Map<IPAddress, MACAddress> getProxyMACTable() {
+        return proxyMACTable;
+    }
+
+    public Map<MACAddress, Integer> getProxyInterfaceTable() {
+        return proxyInterfaceTable;
+    }
+
+}
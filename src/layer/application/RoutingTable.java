@@ -0,0 +1,204 @@
+package layer.application;
+
+import data.address.IPAddress;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 라우팅 테이블 클래스
+ * <p>
+ * GUI 와 설정 파일 모두에서 사용되며, 패킷 수신 스레드는 잠금 없이 엔트리를 검색한다.
+ * 엔트리가 변경될 때마다 엔트리 List 와 {@link ForwardingTable} 을 다시 생성하여 하나의 {@link Snapshot} 으로 교체하므로,
+ * 화면은 {@link #snapshot()} 으로 복사 없이 서로 일치하는 엔트리 List 와 포워딩 테이블을 읽을 수 있다.
+ */
+public class RoutingTable {
+
+    /**
+     * 한 번에 게시되는 엔트리 List 와 포워딩 테이블
+     *
+     * @param entries         변경할 수 없는 라우팅 엔트리 List
+     * @param forwardingTable 엔트리로 생성된 포워딩 테이블
+     * @param gateways        엔트리들의 게이트웨이 주소 Set
+     */
+    public record Snapshot(List<RouteEntry> entries, ForwardingTable forwardingTable, Set<IPAddress> gateways) {
+    }
+
+    private volatile Snapshot snapshot = new Snapshot(List.of(), ForwardingTable.EMPTY, Set.of());
+
+    /**
+     * 엔트리 List 와 포워딩 테이블 교체 메서드
+     */
+    private void publish(List<RouteEntry> list, ForwardingTable table) {
+        Set<IPAddress> gateways = new HashSet<>();
+        for (RouteEntry entry : list) {
+            if (entry.isGateway()) {
+                gateways.add(entry.gateway());
+            }
+        }
+        snapshot = new Snapshot(Collections.unmodifiableList(list), table, Collections.unmodifiableSet(gateways));
+    }
+
+    /**
+     * 라우팅 엔트리 추가 메서드
+     * <p>
+     * 목적지, 넷마스크, 게이트웨이, 인터페이스가 같은 기존 엔트리는 제거되며,
+     * 다음 홉이 다른 엔트리는 같은 목적지로 가는 병렬 경로로 유지된다.
+     *
+     * @param entry 추가하려는 라우팅 엔트리
+     * @throws IllegalArgumentException 인터페이스 번호나 메트릭이 0 ~ 0xFFFF 범위를 벗어난 경우
+     */
+    public synchronized void add(RouteEntry entry) {
+        RouteLoader.checkRange(entry);
+        List<RouteEntry> list = new ArrayList<>(snapshot.entries());
+        list.removeIf(route -> route.destination().equals(entry.destination()) && route.netmask().equals(entry.netmask())
+                && route.gateway().equals(entry.gateway()) && route.interfaceNumber() == entry.interfaceNumber());
+        list.add(entry);
+        publish(list, ForwardingTable.build(list));
+    }
+
+    /**
+     * 라우팅 엔트리 일괄 추가 메서드
+     * <p>
+     * 포워딩 테이블을 한 번만 생성하며, 목적지, 넷마스크, 게이트웨이, 인터페이스가 같은 엔트리는 나중의 엔트리만 남는다.
+     *
+     * @param entries 추가하려는 라우팅 엔트리 Collection
+     * @throws IllegalArgumentException 인터페이스 번호나 메트릭이 0 ~ 0xFFFF 범위를 벗어난 엔트리가 있는 경우
+     */
+    public synchronized void addAll(Collection<RouteEntry> entries) {
+        for (RouteEntry entry : entries) {
+            RouteLoader.checkRange(entry);
+        }
+        List<RouteEntry> current = snapshot.entries();
+        List<RouteEntry> list = new ArrayList<>(current.size() + entries.size());
+        list.addAll(current);
+        list.addAll(entries);
+        ForwardingTable table = ForwardingTable.build(list);
+
+        // 포워딩 테이블에 채택된 엔트리만 남김
+        if (table.size() != list.size()) {
+            list.removeIf(route -> !table.contains(route));
+        }
+
+        publish(list, table);
+    }
+
+    /**
+     * 라우팅 엔트리 제거 메서드
+     *
+     * @param index 제거하려는 엔트리 번호
+     */
+    public synchronized void remove(int index) {
+        List<RouteEntry> list = new ArrayList<>(snapshot.entries());
+        list.remove(index);
+        publish(list, ForwardingTable.build(list));
+    }
+
+    /**
+     * 라우팅 엔트리 제거 메서드
+     *
+     * @param entry 제거하려는 라우팅 엔트리
+     * @return 엔트리가 제거된 경우 {@code true}
+     */
+    public synchronized boolean remove(RouteEntry entry) {
+        List<RouteEntry> list = new ArrayList<>(snapshot.entries());
+        if (!list.remove(entry)) {
+            return false;
+        }
+        publish(list, ForwardingTable.build(list));
+        return true;
+    }
+
+    /**
+     * 라우팅 엔트리 접근 메서드
+     *
+     * @param index 접근하려는 엔트리 번호
+     * @return 라우팅 엔트리
+     */
+    public RouteEntry get(int index) {
+        return snapshot.entries().get(index);
+    }
+
+    /**
+     * 라우팅 엔트리 개수 반환 메서드
+     *
+     * @return 라우팅 엔트리 개수
+     */
+    public int size() {
+        return snapshot.entries().size();
+    }
+
+    /**
+     * 라우팅 엔트리 List 반환 메서드
+     *
+     * @return 라우팅 엔트리 List 복사본
+     */
+    public List<RouteEntry> getList() {
+        return new ArrayList<>(snapshot.entries());
+    }
+
+    /**
+     * 라우팅 엔트리 List 접근 메서드
+     * <p>
+     * 엔트리가 변경되어도 반환된 List 는 바뀌지 않는다.
+     *
+     * @return 변경할 수 없는 라우팅 엔트리 List
+     */
+    public List<RouteEntry> entries() {
+        return snapshot.entries();
+    }
+
+    /**
+     * 엔트리 List 와 포워딩 테이블 접근 메서드
+     * <p>
+     * 두 값이 모두 필요한 경우 이 메서드로 한 번만 읽어야 사이에 게시된 변경이 섞이지 않는다.
+     *
+     * @return 현재 게시된 스냅샷 객체
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 게이트웨이 주소 확인 메서드
+     *
+     * @param address 확인할 IP 주소 객체
+     * @return 게이트웨이 플래그가 설정된 엔트리의 다음 홉일 경우 {@code true}
+     */
+    public boolean isGateway(IPAddress address) {
+        return snapshot.gateways().contains(address);
+    }
+
+    /**
+     * 목적지 주소에 해당하는 라우팅 엔트리 검색 메서드
+     * <p>
+     * 넷마스크가 가장 긴 엔트리를 반환한다.
+     *
+     * @param destination 목적지 IP 주소 객체
+     * @return 검색된 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    public RouteEntry findEntry(IPAddress destination) {
+        return snapshot.forwardingTable().lookup(destination.toInt());
+    }
+
+    /**
+     * 목적지 주소에 해당하는 라우팅 엔트리 검색 메서드
+     * <p>
+     * 넷마스크가 가장 긴 접두사에 ECMP 경로가 여러 개일 경우 흐름 해시로 하나를 선택하며,
+     * 선택된 경로를 사용할 수 없으면 미리 정렬된 예비 경로를 선택한다.
+     *
+     * @param destination 목적지 IP 주소 객체
+     * @param hash        패킷의 흐름 해시
+     * @param usable      엔트리를 사용할 수 있는지 확인하는 조건
+     * @return 검색된 라우팅 엔트리, 없을 경우 {@code null}
+     */
+    public RouteEntry findEntry(IPAddress destination, int hash, Predicate<RouteEntry> usable) {
+        return snapshot.forwardingTable().lookup(destination.toInt(), hash, usable);
+    }
+
+}
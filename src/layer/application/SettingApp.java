@@ -2,21 +2,23 @@ package layer.application;
 
 import data.address.IPAddress;
 import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
 import launch.StaticRouterMain;
+import layer.controller.InterfaceContext;
 import layer.controller.LayerManager;
 import layer.link.NILayer;
 import org.jnetpcap.PcapIf;
 
 import javax.swing.*;
-import java.util.List;
 
-public class SettingApp extends GUILayer {
+public class SettingApp extends GUILayer implements SettingLayer {
 
     private JFrame mainFrame;
     private JPanel mainPanel;
     private JComboBox<NILayer.PcapIfWrapper> interfaceComboBox;
     private JTextField macTextField;
     private JTextField ipTextField;
+    private JTextField mtuTextField;
     private JButton settingButton;
 
     private PcapIf pcapIf;
@@ -60,8 +62,7 @@ public class SettingApp extends GUILayer {
         NILayer niLayer = (NILayer) LayerManager.getInstance().get(StaticRouterMain.NETWORK_INTERFACE, getLayerNumber());
 
         // Combobox
-        List<PcapIf> interfaceList = NILayer.getInterfaceList();
-        interfaceList.forEach(pcapIf -> interfaceComboBox.addItem(new NILayer.PcapIfWrapper(pcapIf)));
+        NILayer.getInterfaceList().forEach(interfaceComboBox::addItem);
         interfaceComboBox.addActionListener(e -> setSelectedInterfaceItem());
 
         // Config Button
@@ -71,27 +72,36 @@ public class SettingApp extends GUILayer {
                     if (interfaceComboBox.getSelectedItem() != null) {
                         try {
                             NILayer.PcapIfWrapper wrapper = (NILayer.PcapIfWrapper) interfaceComboBox.getSelectedItem();
-                            niLayer.setInterface(wrapper.get());
+                            int mtu = Integer.parseInt(mtuTextField.getText().trim());
+                            if (mtu < EthernetFrame.MIN_MTU || mtu > EthernetFrame.MAX_MTU) {
+                                throw new IllegalArgumentException("illegal mtu " + mtu);
+                            }
+                            niLayer.setInterface(wrapper.get(), mtu);
                             print(wrapper.toString());
                             interfaceComboBox.setEnabled(false);
                             macTextField.setEnabled(false);
                             macAddress = new MACAddress(macTextField.getText());
                             ipTextField.setEnabled(false);
                             ipAddress = new IPAddress(ipTextField.getText());
+                            mtuTextField.setEnabled(false);
                             settingButton.setText("Reset");
                             pcapIf = wrapper.get();
+                            LayerManager.getInstance().putInterfaceContext(new InterfaceContext(getLayerNumber(), macAddress, ipAddress, wrapper.getNetmask(), mtu, niLayer));
                             niLayer.startCapture();
                         } catch (RuntimeException ex) {
                             ex.printStackTrace();
+                            LayerManager.getInstance().removeInterfaceContext(getLayerNumber());
                             niLayer.resetInterface();
                             interfaceComboBox.setEnabled(true);
                             macTextField.setEnabled(true);
                             ipTextField.setEnabled(true);
+                            mtuTextField.setEnabled(true);
                             pcapIf = null;
                         }
                     }
                 }
                 case "Reset" -> {
+                    LayerManager.getInstance().removeInterfaceContext(getLayerNumber());
                     niLayer.resetInterface();
                     setSelectedInterfaceItem();
                     settingButton.setText("Apply");
@@ -100,6 +110,7 @@ public class SettingApp extends GUILayer {
                     macTextField.setEnabled(true);
                     ipAddress = null;
                     ipTextField.setEnabled(true);
+                    mtuTextField.setEnabled(true);
                     pcapIf = null;
                 }
                 default -> throw new IllegalStateException("Unexpected value: " + settingButton.getText());
@@ -115,14 +126,17 @@ public class SettingApp extends GUILayer {
         }
     }
 
+    @Override
     public PcapIf getInterface() {
         return pcapIf;
     }
 
+    @Override
     public MACAddress getMyMACAddress() {
         return macAddress;
     }
 
+    @Override
     public IPAddress getMyIPAddress() {
         return ipAddress;
     }
@@ -0,0 +1,36 @@
+package layer.application;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import layer.Layer;
+import org.jnetpcap.PcapIf;
+
+/**
+ * 인터페이스 설정 계층 인터페이스
+ * <p>
+ * 네트워크 인터페이스 번호별로 하나씩 존재하며, 해당 인터페이스에 적용된 장치와 주소를 제공한다.
+ */
+public interface SettingLayer extends Layer {
+
+    /**
+     * 적용된 네트워크 장치 접근 메서드
+     *
+     * @return 적용된 네트워크 장치, 적용되지 않은 경우 {@code null}
+     */
+    PcapIf getInterface();
+
+    /**
+     * 인터페이스 MAC 주소 접근 메서드
+     *
+     * @return 인터페이스 MAC 주소 객체
+     */
+    MACAddress getMyMACAddress();
+
+    /**
+     * 인터페이스 IP 주소 접근 메서드
+     *
+     * @return 인터페이스 IP 주소 객체
+     */
+    IPAddress getMyIPAddress();
+
+}
@@ -0,0 +1,154 @@
+package layer.controller;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * JMX 로 공개되는 카운터 모음 클래스
+ * <p>
+ * 카운터는 {@link LongAdder} 이므로 여러 수신 스레드가 동시에 증가시켜도 경합하지 않는다.
+ * 각 카운터는 같은 이름의 읽기 전용 {@code long} 속성으로 공개되며, {@code reset} 연산으로 모두 초기화할 수 있다.
+ * 카운터가 아닌 현재 값은 {@link #gauge(String, LongSupplier)} 로 공개한다.
+ */
+public final class CounterSet implements DynamicMBean {
+
+    /**
+     * JMX 도메인
+     */
+    public static final String DOMAIN = "static-router";
+
+    private final Map<String, LongAdder> counters = new ConcurrentSkipListMap<>();
+    private final Map<String, LongSupplier> attributes = new ConcurrentSkipListMap<>();
+    private final String description;
+
+    private CounterSet(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 카운터 모음을 생성하고 플랫폼 MBean 서버에 등록하는 메서드
+     * <p>
+     * 같은 이름의 MBean 이 이미 있을 경우 대체한다.
+     *
+     * @param type 객체 종류 (ObjectName 의 {@code type} 속성)
+     * @param name 객체 이름 (ObjectName 의 {@code name} 속성)
+     * @return 카운터 모음 객체
+     */
+    public static CounterSet register(String type, String name) {
+        CounterSet counterSet = new CounterSet(type + " " + name);
+        try {
+            ObjectName objectName = new ObjectName(DOMAIN, new Hashtable<>(Map.of("type", type, "name", ObjectName.quote(name))));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(counterSet, objectName);
+        } catch (JMException e) {
+            e.printStackTrace();
+        }
+        return counterSet;
+    }
+
+    /**
+     * 카운터 접근 메서드
+     * <p>
+     * 없는 카운터는 생성된다. 반환된 카운터는 필드에 저장하여 패킷마다 조회하지 않도록 한다.
+     *
+     * @param name 카운터 이름
+     * @return 카운터 객체
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> {
+            LongAdder counter = new LongAdder();
+            attributes.put(key, counter::sum);
+            return counter;
+        });
+    }
+
+    /**
+     * 현재 값 속성 등록 메서드
+     * <p>
+     * 속성 값은 JMX 로 조회될 때마다 {@code supplier} 로부터 읽으며, {@link #reset()} 의 영향을 받지 않는다.
+     *
+     * @param name     속성 이름
+     * @param supplier 속성 값 제공 함수
+     */
+    public void gauge(String name, LongSupplier supplier) {
+        attributes.put(name, supplier);
+    }
+
+    /**
+     * 카운터 또는 속성 값 접근 메서드
+     *
+     * @param name 카운터 또는 속성 이름
+     * @return 카운터 또는 속성 값, 없을 경우 0
+     */
+    public long get(String name) {
+        LongSupplier supplier = attributes.get(name);
+        return supplier != null ? supplier.getAsLong() : 0;
+    }
+
+    /**
+     * 모든 카운터 초기화 메서드
+     */
+    public void reset() {
+        counters.values().forEach(LongAdder::reset);
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        LongSupplier supplier = attributes.get(attribute);
+        if (supplier == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return supplier.getAsLong();
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("read-only attribute: " + attribute.getName());
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            LongSupplier supplier = this.attributes.get(attribute);
+            if (supplier != null) {
+                list.add(new Attribute(attribute, supplier.getAsLong()));
+            }
+        }
+        return list;
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        if ("reset".equals(actionName)) {
+            reset();
+            return null;
+        }
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        MBeanAttributeInfo[] attributes = this.attributes.keySet().stream()
+                .map(name -> new MBeanAttributeInfo(name, "long", name, true, false, false))
+                .toArray(MBeanAttributeInfo[]::new);
+        MBeanOperationInfo[] operations = {
+                new MBeanOperationInfo("reset", "reset all counters", new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION)
+        };
+        return new MBeanInfo(getClass().getName(), description, attributes, null, operations, null);
+    }
+
+}
@@ -0,0 +1,136 @@
+package layer.controller;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
+import layer.link.NILayer;
+
+/**
+ * 네트워크 인터페이스 설정 정보 클래스
+ * <p>
+ * 설정 계층이 인터페이스를 적용할 때 생성되어 {@link LayerManager} 에 게시되는 불변 객체이다.
+ * 패킷 처리 경로는 설정 계층(GUI 객체) 대신 이 객체의 정수형 주소를 사용한다.
+ * 관리 상태(UP/DOWN)가 바뀌면 상태만 다른 새 객체가 게시된다.
+ */
+public final class InterfaceContext {
+
+    private final int index;
+    private final long macAddress;
+    private final int ipAddress;
+    private final int netmask;
+    private final int mtu;
+    private final NILayer link;
+    private final MACAddress macAddressObject;
+    private final IPAddress ipAddressObject;
+    private final boolean up;
+
+    /**
+     * 네트워크 인터페이스 설정 정보 객체 생성자
+     *
+     * @param index      인터페이스 번호
+     * @param macAddress 인터페이스 MAC 주소 객체
+     * @param ipAddress  인터페이스 IP 주소 객체
+     * @param netmask    인터페이스 넷마스크 객체
+     * @param mtu        인터페이스 MTU ({@link EthernetFrame#MIN_MTU} ~ {@link EthernetFrame#MAX_MTU})
+     * @param link       인터페이스의 네트워크 인터페이스 계층
+     * @throws IllegalArgumentException MTU 가 범위를 벗어난 경우
+     */
+    public InterfaceContext(int index, MACAddress macAddress, IPAddress ipAddress, IPAddress netmask, int mtu, NILayer link) {
+        if (mtu < EthernetFrame.MIN_MTU || mtu > EthernetFrame.MAX_MTU) {
+            throw new IllegalArgumentException("illegal mtu: " + mtu);
+        }
+        this.index = index;
+        this.macAddress = macAddress.toLong();
+        this.ipAddress = ipAddress.toInt();
+        this.netmask = netmask.toInt();
+        this.mtu = mtu;
+        this.link = link;
+        this.macAddressObject = macAddress;
+        this.ipAddressObject = ipAddress;
+        this.up = true;
+    }
+
+    private InterfaceContext(InterfaceContext context, boolean up) {
+        this.index = context.index;
+        this.macAddress = context.macAddress;
+        this.ipAddress = context.ipAddress;
+        this.netmask = context.netmask;
+        this.mtu = context.mtu;
+        this.link = context.link;
+        this.macAddressObject = context.macAddressObject;
+        this.ipAddressObject = context.ipAddressObject;
+        this.up = up;
+    }
+
+    /**
+     * 관리 상태 변경 메서드
+     *
+     * @param up UP 상태 여부
+     * @return 관리 상태만 다른 인터페이스 설정 정보 객체
+     */
+    public InterfaceContext withUp(boolean up) {
+        return up == this.up ? this : new InterfaceContext(this, up);
+    }
+
+    public int index() {
+        return index;
+    }
+
+    /**
+     * 정수형 MAC 주소 접근 메서드
+     *
+     * @return 하위 48 비트에 저장된 MAC 주소
+     */
+    public long macAddress() {
+        return macAddress;
+    }
+
+    /**
+     * 정수형 IP 주소 접근 메서드
+     *
+     * @return 정수형 IP 주소
+     */
+    public int ipAddress() {
+        return ipAddress;
+    }
+
+    /**
+     * 정수형 넷마스크 접근 메서드
+     *
+     * @return 정수형 넷마스크
+     */
+    public int netmask() {
+        return netmask;
+    }
+
+    public int mtu() {
+        return mtu;
+    }
+
+    public NILayer link() {
+        return link;
+    }
+
+    /**
+     * 관리 상태 접근 메서드
+     *
+     * @return UP 상태일 경우 {@code true}, 관리자가 DOWN 시킨 경우 {@code false}
+     */
+    public boolean isUp() {
+        return up;
+    }
+
+    public MACAddress getMACAddress() {
+        return macAddressObject;
+    }
+
+    public IPAddress getIPAddress() {
+        return ipAddressObject;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d %s %s mtu %d%s", index, macAddressObject, ipAddressObject, mtu, up ? "" : " down");
+    }
+
+}
@@ -0,0 +1,146 @@
+package layer.controller;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그 구간 지연 시간 히스토그램 클래스
+ * <p>
+ * 값(나노초)을 2의 거듭제곱 구간마다 {@value #SUB_BUCKETS} 개의 하위 구간으로 나누어 센다.
+ * 상대 오차는 약 {@code 1 / SUB_BUCKETS} 이며, 기록은 잠금 없이 원자적 증가로 이루어진다.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 구간 개수 (64 비트 값 전체)
+     */
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 지연 시간 기록 메서드
+     *
+     * @param nanos 지연 시간 (나노초), 음수는 0 으로 기록
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts.incrementAndGet(index(value));
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) {
+            // 최대값 갱신 재시도
+        }
+    }
+
+    /**
+     * 값이 속하는 구간 번호를 계산하는 메서드
+     */
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int mantissa = (int) (value >>> exponent) & (SUB_BUCKETS - 1);
+        return (exponent + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    /**
+     * 구간의 상한 값을 계산하는 메서드
+     */
+    private static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS - 1;
+        long mantissa = (index % SUB_BUCKETS) | SUB_BUCKETS;
+        return ((mantissa + 1) << exponent) - 1;
+    }
+
+    /**
+     * 현재 분포를 복사하는 메서드
+     *
+     * @return 히스토그램 스냅샷
+     */
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            copy[index] = counts.get(index);
+        }
+        return new Snapshot(copy, max.get());
+    }
+
+    /**
+     * 현재 분포를 복사하고 초기화하는 메서드
+     * <p>
+     * 구간별로 원자적으로 교체하므로 동시에 기록된 값은 이번 스냅샷 또는 다음 스냅샷 중 하나에만 포함된다.
+     *
+     * @return 히스토그램 스냅샷
+     */
+    public Snapshot snapshotAndReset() {
+        long[] copy = new long[BUCKETS];
+        for (int index = 0; index < BUCKETS; index++) {
+            copy[index] = counts.getAndSet(index, 0);
+        }
+        return new Snapshot(copy, max.getAndSet(0));
+    }
+
+    /**
+     * 히스토그램 스냅샷 클래스
+     */
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long max;
+
+        private Snapshot(long[] counts, long max) {
+            long total = 0;
+            for (long value : counts) {
+                total += value;
+            }
+            this.counts = counts;
+            this.count = total;
+            this.max = max;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long max() {
+            return max;
+        }
+
+        /**
+         * 백분위 값 계산 메서드
+         *
+         * @param percentile 백분위 (0 ~ 100)
+         * @return 해당 백분위가 속한 구간의 상한 값 (나노초), 기록이 없을 경우 0
+         */
+        public long percentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int index = 0; index < counts.length; index++) {
+                seen += counts[index];
+                if (seen >= rank) {
+                    return Math.min(upperBound(index), max);
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count %d p50 %.1fus p99 %.1fus p99.9 %.1fus max %.1fus",
+                    count, percentile(50) / 1e3, percentile(99) / 1e3, percentile(99.9) / 1e3, max / 1e3);
+        }
+    }
+
+}
@@ -4,14 +4,22 @@ package layer.controller;
 import layer.Layer;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 계층 관리 클래스
+ * <p>
+ * 인터페이스별 수신 스레드가 동시에 계층을 조회하므로 동시성 Map 을 사용한다.
  */
 public class LayerManager {
 
     private static final LayerManager instance = new LayerManager();
-    private final Map<String, Map<Integer, Layer>> layers = new HashMap<>();
+    private final Map<String, Map<Integer, Layer>> layers = new ConcurrentHashMap<>();
+
+    /**
+     * 인터페이스 번호로 색인된 설정 정보 배열, 변경 시 배열 전체를 교체한다
+     */
+    private volatile InterfaceContext[] interfaceContexts = new InterfaceContext[0];
 
     public static LayerManager getInstance() {
         return instance;
@@ -28,11 +36,11 @@ public class LayerManager {
      * 계층 접근 메서드
      */
     public Layer get(String name, int number) {
-        return layers.computeIfAbsent(name, k -> new HashMap<>()).get(number);
+        return layers.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).get(number);
     }
 
     public List<Layer> getList(String name) {
-        return new ArrayList<>(layers.computeIfAbsent(name, k -> new HashMap<>()).values());
+        return new ArrayList<>(layers.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).values());
     }
 
     public Layer put(Layer layer) {
@@ -43,7 +51,88 @@ public class LayerManager {
      * 계층 추가 메서드
      */
     public Layer put(Layer layer, int number) {
-        return layers.computeIfAbsent(layer.getLayerName(), k -> new HashMap<>()).put(number, layer);
+        return layers.computeIfAbsent(layer.getLayerName(), k -> new ConcurrentHashMap<>()).put(number, layer);
+    }
+
+    /**
+     * 인터페이스 설정 정보 접근 메서드
+     *
+     * @param number 인터페이스 번호
+     * @return 인터페이스 설정 정보, 적용되지 않은 인터페이스일 경우 {@code null}
+     */
+    public InterfaceContext getInterfaceContext(int number) {
+        InterfaceContext[] contexts = interfaceContexts;
+        return number >= 0 && number < contexts.length ? contexts[number] : null;
+    }
+
+    /**
+     * 적용된 인터페이스 설정 정보 배열 접근 메서드
+     *
+     * @return 인터페이스 번호로 색인된 배열 복사본, 적용되지 않은 인터페이스는 {@code null}
+     */
+    public InterfaceContext[] getInterfaceContexts() {
+        return interfaceContexts.clone();
+    }
+
+    /**
+     * 인터페이스 주소 확인 메서드
+     * <p>
+     * 패킷 처리 경로에서 호출되므로 배열을 복사하지 않고 게시된 배열을 그대로 검색한다.
+     *
+     * @param address 정수형 IP 주소
+     * @return 적용된 인터페이스 중 하나의 주소일 경우 {@code true}
+     */
+    public boolean isInterfaceAddress(int address) {
+        for (InterfaceContext context : interfaceContexts) {
+            if (context != null && context.ipAddress() == address) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 인터페이스 설정 정보 게시 메서드
+     *
+     * @param context 게시할 인터페이스 설정 정보
+     */
+    public synchronized void putInterfaceContext(InterfaceContext context) {
+        InterfaceContext[] contexts = Arrays.copyOf(interfaceContexts, Math.max(interfaceContexts.length, context.index() + 1));
+        contexts[context.index()] = context;
+        interfaceContexts = contexts;
+    }
+
+    /**
+     * 인터페이스 관리 상태 변경 메서드
+     * <p>
+     * 라우팅 테이블을 다시 생성하지 않으며, 패킷 처리 경로는 다음 패킷부터 바뀐 상태를 읽는다.
+     *
+     * @param number 인터페이스 번호
+     * @param up     UP 상태 여부
+     * @return 상태를 변경한 경우 {@code true}, 적용되지 않은 인터페이스일 경우 {@code false}
+     */
+    public synchronized boolean setInterfaceUp(int number, boolean up) {
+        InterfaceContext context = getInterfaceContext(number);
+        if (context == null) {
+            return false;
+        }
+        InterfaceContext[] contexts = interfaceContexts.clone();
+        contexts[number] = context.withUp(up);
+        interfaceContexts = contexts;
+        return true;
+    }
+
+    /**
+     * 인터페이스 설정 정보 제거 메서드
+     *
+     * @param number 인터페이스 번호
+     */
+    public synchronized void removeInterfaceContext(int number) {
+        if (number >= 0 && number < interfaceContexts.length) {
+            InterfaceContext[] contexts = interfaceContexts.clone();
+            contexts[number] = null;
+            interfaceContexts = contexts;
+        }
     }
 
     /**
@@ -53,12 +142,15 @@ public class LayerManager {
      * <p>
      * 첫 문자열은 계층 이름, 괄호는 계층의 상/하위 단계 의미
      * 이후 모든 문자열은 상/하위 계층과의 관계를 의미하는 mode 문자와 계층 문자열을 가짐
+     * <p>
+     * 연결이 끝나면 관련된 모든 계층의 {@link Layer#compile()} 을 호출하여 조회 테이블을 구성한다.
      *
      * @param layerListString 계층 간의 연결을 의미하는 문자열
      */
     public void connectLayers(String layerListString) {
         StringTokenizer tokenizer = new StringTokenizer(layerListString, " ");
         Stack<Layer> layerStack = new Stack<>();
+        Set<Layer> connectedLayers = new LinkedHashSet<>();
         Layer layer = null;
 
         while (tokenizer.hasMoreTokens()) {
@@ -68,6 +160,7 @@ public class LayerManager {
                 String layerName = token.replaceAll("[0-9]", "");
                 int layerNumber = Integer.parseInt(token.replaceAll("[^0-9]", ""));
                 layer = get(layerName, layerNumber);
+                connectedLayers.add(layer);
             } else {
                 String token = tokenizer.nextToken();
                 switch (token) {
@@ -83,6 +176,7 @@ public class LayerManager {
                         int layerNumber = Integer.parseInt(layerToken.replaceAll("[^0-9]", ""));
                         char mode = token.charAt(0);
                         layer = get(layerName, layerNumber);
+                        connectedLayers.add(layer);
                         switch (mode) {
                             case '+' -> {
                                 // Stack 상단 레이어의 위에 현재 layer 추가
@@ -102,6 +196,8 @@ public class LayerManager {
                 }
             }
         }
+
+        connectedLayers.forEach(Layer::compile);
     }
 
 }
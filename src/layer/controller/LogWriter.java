@@ -0,0 +1,221 @@
+package layer.controller;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 로그 기록 클래스
+ * <p>
+ * 계층은 미리 할당된 링 버퍼의 슬롯을 CAS 로 예약하여 메시지와 인자만 기록하고 바로 반환한다.
+ * 문자열 포맷과 16진수 변환, 콘솔 출력은 백그라운드 스레드 하나가 수행한다.
+ * 링이 가득 찬 경우 기록 스레드를 기다리지 않고 메시지를 버린다.
+ */
+public final class LogWriter {
+
+    /**
+     * 로그 레벨
+     */
+    public enum Level {
+        DEBUG, INFO, ERROR, OFF
+    }
+
+    private static final LogWriter instance = new LogWriter(Integer.getInteger("log.capacity", 8192));
+
+    private final Entry[] entries;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropCount = new LongAdder();
+    private long head;
+
+    private LogWriter(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        entries = new Entry[size];
+        sequences = new AtomicLongArray(size);
+        mask = size - 1;
+        for (int index = 0; index < size; index++) {
+            entries[index] = new Entry();
+            sequences.set(index, index);
+        }
+
+        Thread thread = new Thread(this::run, "log-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain));
+    }
+
+    public static LogWriter getInstance() {
+        return instance;
+    }
+
+    /**
+     * 계층의 기본 로그 레벨 반환 메서드
+     * <p>
+     * {@code log.level.<계층 이름>} 시스템 속성, {@code log.level} 시스템 속성, {@link Level#INFO} 순으로 결정한다.
+     * 알 수 없는 레벨 이름은 경고를 남기고 {@link Level#INFO} 로 대체한다.
+     *
+     * @param layerName 계층 이름 문자열
+     * @return 로그 레벨
+     */
+    public static Level getDefaultLevel(String layerName) {
+        String level = System.getProperty("log.level." + layerName, System.getProperty("log.level"));
+        if (level == null) {
+            return Level.INFO;
+        }
+        try {
+            return Level.valueOf(level.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            instance.log(Level.ERROR, layerName, 0, "unknown log level %s, using %s", new Object[]{level, Level.INFO});
+            return Level.INFO;
+        }
+    }
+
+    /**
+     * 로그 메시지 기록 메서드
+     *
+     * @param level     로그 레벨
+     * @param source    로그를 남긴 계층 이름
+     * @param number    계층별 로그 번호
+     * @param message   메시지 문자열, {@code arguments} 가 있을 경우 포맷 문자열
+     * @param arguments 포맷 인자, 없을 경우 {@code null}
+     */
+    public void log(Level level, String source, int number, String message, Object[] arguments) {
+        append(level, source, number, message, arguments, null);
+    }
+
+    /**
+     * 16진수 덤프 기록 메서드
+     * <p>
+     * 바이트 배열은 호출 시점에 복사되며 16진수 변환은 기록 스레드에서 수행된다.
+     *
+     * @param level  로그 레벨
+     * @param source 로그를 남긴 계층 이름
+     * @param number 계층별 로그 번호
+     * @param data   출력할 바이트 배열
+     */
+    public void hex(Level level, String source, int number, byte[] data) {
+        append(level, source, number, null, null, data.clone());
+    }
+
+    /**
+     * 링이 가득 차서 버려진 로그 개수 접근 메서드
+     *
+     * @return 버려진 로그 개수
+     */
+    public long getDropCount() {
+        return dropCount.sum();
+    }
+
+    private void append(Level level, String source, int number, String message, Object[] arguments, byte[] data) {
+        long position;
+        int index;
+        while (true) {
+            position = tail.get();
+            index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                // 링이 가득 참
+                dropCount.increment();
+                return;
+            }
+        }
+
+        Entry entry = entries[index];
+        entry.level = level;
+        entry.source = source;
+        entry.number = number;
+        entry.message = message;
+        entry.arguments = arguments;
+        entry.data = data;
+        sequences.lazySet(index, position + 1);
+    }
+
+    private void run() {
+        while (true) {
+            if (!drain()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            }
+        }
+    }
+
+    /**
+     * 링에 쌓인 로그를 모두 출력하는 메서드
+     *
+     * @return 출력한 로그가 있을 경우 {@code true}
+     */
+    private synchronized boolean drain() {
+        boolean written = false;
+        StringBuilder builder = new StringBuilder();
+        while (true) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            Entry entry = entries[index];
+            Level level = entry.level;
+            builder.setLength(0);
+            format(builder, entry);
+            entry.source = null;
+            entry.message = null;
+            entry.arguments = null;
+            entry.data = null;
+            sequences.lazySet(index, head + entries.length);
+            head++;
+
+            PrintStream stream = level == Level.ERROR ? System.err : System.out;
+            stream.print(builder);
+            written = true;
+        }
+        if (written) {
+            System.out.flush();
+        }
+        return written;
+    }
+
+    private static void format(StringBuilder builder, Entry entry) {
+        String prefix = String.format("[%s - %04d] ", entry.source, entry.number);
+        if (entry.data != null) {
+            byte[] data = entry.data;
+            for (int index = 0; index < data.length; index++) {
+                if (index % 8 == 0) {
+                    builder.append(prefix);
+                }
+                builder.append(Character.toUpperCase(Character.forDigit((data[index] >> 4) & 0xF, 16)));
+                builder.append(Character.toUpperCase(Character.forDigit(data[index] & 0xF, 16)));
+                builder.append((index + 1) % 8 != 0 && index + 1 < data.length ? ' ' : '\n');
+            }
+            if (data.length == 0) {
+                builder.append(prefix).append('\n');
+            }
+        } else {
+            builder.append(prefix);
+            try {
+                builder.append(entry.arguments != null ? String.format(entry.message, entry.arguments) : entry.message);
+            } catch (RuntimeException e) {
+                builder.append(entry.message).append(" (").append(e).append(')');
+            }
+            builder.append('\n');
+        }
+    }
+
+    /**
+     * 링 버퍼 슬롯 클래스
+     */
+    private static final class Entry {
+        private Level level;
+        private String source;
+        private int number;
+        private String message;
+        private Object[] arguments;
+        private byte[] data;
+    }
+
+}
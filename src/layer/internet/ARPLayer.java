@@ -7,23 +7,95 @@ import data.unit.frame.EthernetFrame;
 import data.unit.packet.ARPPacket;
 import launch.StaticRouterMain;
 import layer.LayerAdapter;
-import layer.application.RouterApp;
-import layer.application.SettingApp;
+import layer.application.RouteEntry;
+import layer.application.RouterLayer;
+import layer.application.RoutingTable;
+import layer.controller.InterfaceContext;
 import layer.controller.LayerManager;
 import layer.link.EthernetLayer;
-import layer.link.NILayer;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 public class ARPLayer extends LayerAdapter {
 
-    private final Map<IPAddress, MACAddress> cache = new HashMap<>();
-    private final Map<IPAddress, MACAddress> proxyMAC = new HashMap<>();
-    private final Map<MACAddress, NILayer.PcapIfWrapper> proxyInterface = new HashMap<>();
-    private final Map<IPAddress, Thread> requestThreads = new HashMap<>();
-    private final Map<IPAddress, Thread> timeoutThreads = new HashMap<>();
+    /**
+     * 요청 중인 캐시 엔트리를 나타내는 MAC 주소 객체
+     * <p>
+     * ConcurrentHashMap 은 {@code null} 값을 저장할 수 없으므로 요청 중인 엔트리에는 이 객체를 저장하며, 객체 동일성으로 구분한다.
+     */
+    private static final MACAddress PENDING = new MACAddress(new byte[6]);
+
+    /**
+     * ARP 캐시와 프록시 테이블
+     * <p>
+     * 모든 수신 스레드와 작업 스레드가 잠금 없이 조회하며, 변경은 계층 객체의 모니터를 보유한 채 수행한다.
+     */
+    private final Map<IPAddress, MACAddress> cache = new ConcurrentHashMap<>();
+    private final Map<IPAddress, MACAddress> proxyMAC = new ConcurrentHashMap<>();
+    private final Map<MACAddress, Integer> proxyInterface = new ConcurrentHashMap<>();
+
+    /**
+     * 주소별 요청 스레드와 만료 스레드
+     * <p>
+     * 포워딩 경로의 {@link #isUnresolved(int, IPAddress)} 가 잠금 없이 확인하므로 ConcurrentHashMap 을 사용한다.
+     */
+    private final Map<IPAddress, Thread> requestThreads = new ConcurrentHashMap<>();
+    private final Map<IPAddress, Thread> timeoutThreads = new ConcurrentHashMap<>();
+
+    /**
+     * 재확인 중인 캐시 엔트리와 응답 마감 시각 ({@link System#nanoTime()})
+     */
+    private final Map<IPAddress, Long> staleEntries = new ConcurrentHashMap<>();
+
+    /**
+     * ARP 요청에 응답이 없던 게이트웨이 주소와 다음 재요청 시각 ({@link System#nanoTime()})
+     * <p>
+     * 예비 경로 선택에만 사용되므로 라우팅 테이블의 게이트웨이만 기록하며, 개수는 {@link #MAX_UNRESOLVED} 로 제한한다.
+     */
+    private final Map<IPAddress, Long> unresolvedEntries = new ConcurrentHashMap<>();
+
+    private EthernetLayer ethernetLayer;
+
+    private final LongAdder requestCount = getCounters().counter("RequestsSent");
+    private final LongAdder replyCount = getCounters().counter("RepliesSent");
+    private final LongAdder proxyReplyCount = getCounters().counter("ProxyReplies");
+    private final LongAdder replyReceivedCount = getCounters().counter("RepliesReceived");
+    private final LongAdder cacheHitCount = getCounters().counter("CacheHits");
+    private final LongAdder cacheMissCount = getCounters().counter("CacheMisses");
+    private final LongAdder timeoutCount = getCounters().counter("Timeouts");
+
+    /**
+     * 재확인 요청에 대한 응답 대기 시간
+     */
+    private static final long REVALIDATE_TIMEOUT = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * 복원된 엔트리의 인터페이스가 적용되기를 기다리는 시간
+     */
+    private static final long RESTORE_TIMEOUT = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * 응답이 없던 주소의 재요청 주기
+     */
+    private static final long UNRESOLVED_RETRY = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 재요청 시각이 지난 뒤 다시 확인되지 않은 주소를 잊는 시간
+     */
+    private static final long UNRESOLVED_EXPIRE = TimeUnit.MINUTES.toNanos(5);
+
+    /**
+     * 기록하는 주소 결정 실패 주소의 최대 개수
+     */
+    private static final int MAX_UNRESOLVED = 1024;
 
     /**
      * 계층 객체 생성자
@@ -38,16 +110,24 @@ public class ARPLayer extends LayerAdapter {
         super(layerName, layerNumber);
     }
 
+    @Override
+    protected void onCompile() {
+        ethernetLayer = (EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber());
+    }
+
     /**
      * ARP 패킷 생성 메서드
      *
      * @return ARP 패킷 객체
      */
     private ARPPacket createPacket(int interfaceLayerTo) {
-        SettingApp setting = (SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, interfaceLayerTo);
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerTo);
+        if (context == null) {
+            throw new RuntimeException("interface not applied");
+        }
         ARPPacket packet = new ARPPacket();
-        packet.setSourceMAC(setting.getMyMACAddress());
-        packet.setSourceIP(setting.getMyIPAddress());
+        packet.setSourceMAC(context.getMACAddress());
+        packet.setSourceIP(context.getIPAddress());
         return packet;
     }
 
@@ -57,7 +137,8 @@ public class ARPLayer extends LayerAdapter {
      * @param address 수신자 IP 주소 객체
      */
     private boolean isValid(int interfaceLayerFrom, IPAddress address) {
-        return ((SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, interfaceLayerFrom)).getMyIPAddress().equals(address);
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerFrom);
+        return context != null && context.ipAddress() == address.toInt();
     }
 
     /**
@@ -69,8 +150,73 @@ public class ARPLayer extends LayerAdapter {
         return proxyMAC.containsKey(address);
     }
 
+    /**
+     * ARP 캐시 조회 메서드
+     *
+     * @param address 조회할 IP 주소 객체
+     * @return 캐시된 MAC 주소 객체, 없거나 요청 중인 경우 {@code null}
+     */
     public MACAddress getMACAddress(IPAddress address) {
-        return cache.get(address);
+        MACAddress macAddress = getResolved(address);
+        (macAddress != null ? cacheHitCount : cacheMissCount).increment();
+        return macAddress;
+    }
+
+    /**
+     * 응답을 받은 캐시 엔트리 조회 메서드
+     *
+     * @param address 조회할 IP 주소 객체
+     * @return 캐시된 MAC 주소 객체, 없거나 요청 중인 경우 {@code null}
+     */
+    private MACAddress getResolved(IPAddress address) {
+        MACAddress macAddress = cache.get(address);
+        return macAddress != PENDING ? macAddress : null;
+    }
+
+    /**
+     * 주소 결정 실패 여부 확인 메서드
+     * <p>
+     * ARP 요청에 응답이 없던 주소는 응답을 받을 때까지 실패로 간주하며, 라우팅은 그 주소 대신 예비 경로를 사용한다.
+     * 실패한 주소로는 패킷이 전달되지 않으므로 재요청 시각이 지난 뒤의 첫 확인에서 백그라운드로 다시 요청한다.
+     *
+     * @param interfaceLayerTo 재요청에 사용될 계층 식별 번호
+     * @param address          확인할 IP 주소 객체
+     * @return 주소 결정에 실패한 경우 {@code true}
+     */
+    public boolean isUnresolved(int interfaceLayerTo, IPAddress address) {
+        if (unresolvedEntries.isEmpty()) {
+            return false;
+        }
+        Long retryTime = unresolvedEntries.get(address);
+        if (retryTime == null) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - retryTime >= 0 && !requestThreads.containsKey(address) && unresolvedEntries.replace(address, retryTime, now + UNRESOLVED_RETRY)) {
+            request(interfaceLayerTo, address);
+        }
+        return true;
+    }
+
+    /**
+     * 주소 결정 실패 기록 메서드
+     * <p>
+     * 게이트웨이가 아닌 주소는 기록하지 않으며, 기록하기 전에 오래 확인되지 않았거나 더 이상 게이트웨이가 아닌 주소를 제거한다.
+     * 제거 후에도 최대 개수에 도달해 있으면 새 주소는 기록하지 않는다.
+     *
+     * @param ipAddress 응답이 없던 IP 주소 객체
+     * @param now       현재 시각 ({@link System#nanoTime()})
+     */
+    private void markUnresolved(IPAddress ipAddress, long now) {
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+        RoutingTable routingTable = routerLayer.getRoutingTable();
+        if (!routingTable.isGateway(ipAddress)) {
+            return;
+        }
+        unresolvedEntries.entrySet().removeIf(entry -> now - entry.getValue() - UNRESOLVED_EXPIRE > 0 || !routingTable.isGateway(entry.getKey()));
+        if (unresolvedEntries.size() < MAX_UNRESOLVED || unresolvedEntries.containsKey(ipAddress)) {
+            unresolvedEntries.put(ipAddress, now + UNRESOLVED_RETRY);
+        }
     }
 
     /**
@@ -80,9 +226,12 @@ public class ARPLayer extends LayerAdapter {
      * @param macAddress 추가하려는 MAC 주소 객체
      */
     private synchronized void addCache(IPAddress ipAddress, MACAddress macAddress) {
-        RouterApp routerApp = (RouterApp) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
-        cache.put(ipAddress, macAddress);
-        routerApp.updateCacheTable(cache);
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+        cache.put(ipAddress, macAddress != null ? macAddress : PENDING);
+        if (macAddress != null) {
+            unresolvedEntries.remove(ipAddress);
+        }
+        routerLayer.updateCacheEntry(ipAddress, macAddress);
     }
 
     /**
@@ -91,50 +240,49 @@ public class ARPLayer extends LayerAdapter {
      * @param ipAddress 제거하려는 IP 주소 객체
      */
     public synchronized void removeCache(IPAddress ipAddress) {
-        RouterApp routerApp = (RouterApp) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
 
         // Interrupt Request Thread
-        if (requestThreads.containsKey(ipAddress)) {
-            Thread thread = requestThreads.get(ipAddress);
-            thread.interrupt();
-            requestThreads.remove(thread);
+        Thread requestThread = requestThreads.remove(ipAddress);
+        if (requestThread != null) {
+            requestThread.interrupt();
         }
 
         // Interrupt Timeout Thread
-        if (timeoutThreads.containsKey(ipAddress)) {
-            Thread thread = timeoutThreads.get(ipAddress);
-            thread.interrupt();
-            timeoutThreads.remove(thread);
+        Thread timeoutThread = timeoutThreads.remove(ipAddress);
+        if (timeoutThread != null) {
+            timeoutThread.interrupt();
         }
 
         cache.remove(ipAddress);
 
-        routerApp.updateCacheTable(cache);
+        routerLayer.removeCacheEntry(ipAddress);
     }
 
     /**
      * ARP 캐시 모두 제거 메서드
      */
     public synchronized void clearCache() {
-        RouterApp routerApp = (RouterApp) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
         requestThreads.forEach((address, thread) -> thread.interrupt());
         timeoutThreads.forEach((address, thread) -> thread.interrupt());
         cache.clear();
-        routerApp.updateCacheTable(cache);
+        unresolvedEntries.clear();
+        routerLayer.clearCacheEntries();
     }
 
     /**
      * ARP 프록시 추가 메서드
      *
-     * @param ipAddress     추가하려는 IP 주소 객체
-     * @param macAddress    추가하려는 MAC 주소 객체
-     * @param pcapIfWrapper 추가하려는 인터페이스 객체
+     * @param ipAddress       추가하려는 IP 주소 객체
+     * @param macAddress      추가하려는 MAC 주소 객체
+     * @param interfaceNumber 추가하려는 인터페이스 계층 식별 번호
      */
-    public synchronized void addProxy(IPAddress ipAddress, MACAddress macAddress, NILayer.PcapIfWrapper pcapIfWrapper) {
-        RouterApp routerApp = (RouterApp) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+    public synchronized void addProxy(IPAddress ipAddress, MACAddress macAddress, int interfaceNumber) {
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
         proxyMAC.put(ipAddress, macAddress);
-        proxyInterface.put(macAddress, pcapIfWrapper);
-        routerApp.updateProxyTable(proxyMAC, proxyInterface);
+        proxyInterface.put(macAddress, interfaceNumber);
+        routerLayer.updateProxyEntry(ipAddress, macAddress, interfaceNumber);
     }
 
     /**
@@ -143,15 +291,91 @@ public class ARPLayer extends LayerAdapter {
      * @param ipAddress 제거하려는 IP 주소 객체
      */
     public synchronized void removeProxy(IPAddress ipAddress) {
-        RouterApp routerApp = (RouterApp) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
-        proxyInterface.remove(proxyMAC.get(ipAddress));
-        proxyMAC.remove(ipAddress);
-        routerApp.updateProxyTable(proxyMAC, proxyInterface);
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+        MACAddress macAddress = proxyMAC.remove(ipAddress);
+        if (macAddress != null) {
+            proxyInterface.remove(macAddress);
+        }
+        routerLayer.removeProxyEntry(ipAddress);
+    }
+
+    /**
+     * ARP 캐시 테이블 복사 메서드
+     *
+     * @return 응답을 받은 엔트리만 포함한 ARP 캐시 테이블 복사본
+     */
+    public synchronized Map<IPAddress, MACAddress> getCacheTable() {
+        Map<IPAddress, MACAddress> table = new HashMap<>();
+        cache.forEach((ipAddress, macAddress) -> {
+            if (macAddress != PENDING) {
+                table.put(ipAddress, macAddress);
+            }
+        });
+        return table;
+    }
+
+    /**
+     * ARP 프록시 IP 주소와 MAC 주소 테이블 복사 메서드
+     *
+     * @return 프록시 IP 주소와 MAC 주소 테이블 복사본
+     */
+    public synchronized Map<IPAddress, MACAddress> getProxyMACTable() {
+        return new HashMap<>(proxyMAC);
+    }
+
+    /**
+     * ARP 프록시 MAC 주소와 인터페이스 번호 테이블 복사 메서드
+     *
+     * @return 프록시 MAC 주소와 인터페이스 번호 테이블 복사본
+     */
+    public synchronized Map<MACAddress, Integer> getProxyInterfaceTable() {
+        return new HashMap<>(proxyInterface);
+    }
+
+    /**
+     * 저장된 ARP 캐시 복원 메서드
+     * <p>
+     * 복원된 엔트리는 즉시 포워딩에 사용되며, 백그라운드 스레드가 ARP 요청으로 하나씩 재확인한다.
+     * 응답 대기 시간 안에 응답이 없거나, 대기 시간 안에 재확인할 인터페이스가 적용되지 않은 엔트리는 제거된다.
+     *
+     * @param entries 복원할 IP 주소와 MAC 주소 테이블
+     */
+    public void restoreCache(Map<IPAddress, MACAddress> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+            entries.forEach((ipAddress, macAddress) -> {
+                if (macAddress != null && cache.putIfAbsent(ipAddress, macAddress) == null) {
+                    routerLayer.updateCacheEntry(ipAddress, macAddress);
+                }
+            });
+        }
+        Thread thread = new Thread(new Revalidate(this, entries.keySet(), System.nanoTime() + RESTORE_TIMEOUT));
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 캐시 엔트리의 MAC 주소를 재확인하기 위한 인터페이스 번호를 찾는 메서드
+     *
+     * @param ipAddress 재확인할 IP 주소 객체
+     * @return 라우팅 테이블에 따른 인터페이스 번호, 인터페이스가 아직 적용되지 않은 경우 -1
+     */
+    private int findRevalidateInterface(IPAddress ipAddress) {
+        RouterLayer routerLayer = (RouterLayer) LayerManager.getInstance().get(StaticRouterMain.ROUTER, getLayerNumber());
+        RouteEntry entry = routerLayer.findEntry(ipAddress);
+        if (entry == null) {
+            return -1;
+        }
+        return LayerManager.getInstance().getInterfaceContext(entry.interfaceNumber()) != null ? entry.interfaceNumber() : -1;
     }
 
     public Thread request(int interfaceLayerTo, IPAddress ipAddress) {
-        if (requestThreads.containsKey(ipAddress)) {
-            requestThreads.get(ipAddress).interrupt();
+        Thread previous = requestThreads.get(ipAddress);
+        if (previous != null) {
+            previous.interrupt();
         }
 
         Thread thread = new Thread(() -> {
@@ -165,8 +389,10 @@ public class ARPLayer extends LayerAdapter {
             }
 
             // Check if cache added
-            if (cache.get(ipAddress) == null) {
+            if (getResolved(ipAddress) == null) {
                 // Cancel Request
+                timeoutCount.increment();
+                markUnresolved(ipAddress, System.nanoTime());
                 removeCache(ipAddress);
             } else {
                 // Cache Added
@@ -185,7 +411,7 @@ public class ARPLayer extends LayerAdapter {
             packet.setSourceMAC(macAddress);
             packet.setDestinationMAC(MACAddress.BROADCAST);
             packet.setDestinationIP(packet.getSourceIP());
-            ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(interfaceLayerTo, MACAddress.BROADCAST, packet.toBytes(), EthernetFrame.Type.ARP);
+            ethernetLayer.send(interfaceLayerTo, MACAddress.BROADCAST, packet.toBytes(), EthernetFrame.Type.ARP);
         }).start();
     }
 
@@ -230,14 +456,16 @@ public class ARPLayer extends LayerAdapter {
             }
 
             // 수신자 및 프록시 여부 확인
-            if (isValid(interfaceLayerFrom, receivedPacket.getDestinationIP()) || isProxy(receivedPacket.getDestinationIP())) {
+            boolean valid = isValid(interfaceLayerFrom, receivedPacket.getDestinationIP());
+            if (valid || isProxy(receivedPacket.getDestinationIP())) {
                 // 수신자가 자기 자신 또는 프록시 가능하므로 ARP 응답 송신
+                (valid ? replyCount : proxyReplyCount).increment();
                 ARPPacket replyPacket = createPacket(interfaceLayerFrom);
                 replyPacket.setOperation(ARPPacket.Operation.REPLY);
                 replyPacket.setSourceIP(receivedPacket.getDestinationIP());
                 replyPacket.setDestinationMAC(receivedPacket.getSourceMAC());
                 replyPacket.setDestinationIP(receivedPacket.getSourceIP());
-                new Thread(() -> ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(interfaceLayerFrom, replyPacket.getDestinationMAC(), replyPacket.toBytes(), EthernetFrame.Type.ARP)).start();
+                new Thread(() -> ethernetLayer.send(interfaceLayerFrom, replyPacket.getDestinationMAC(), replyPacket.toBytes(), EthernetFrame.Type.ARP)).start();
             }
         } else if (receivedPacket.getOperation().equals(ARPPacket.Operation.REPLY)) {
             // ARP Reply 수신
@@ -245,10 +473,15 @@ public class ARPLayer extends LayerAdapter {
             // 수신자 확인
             if (isValid(interfaceLayerFrom, receivedPacket.getDestinationIP())) {
                 // 수신자가 자기 자신이므로 ARP 응답 처리
+                replyReceivedCount.increment();
                 Thread thread = requestThreads.get(receivedPacket.getSourceIP());
                 if (thread != null && thread.isAlive()) {
                     addCache(receivedPacket.getSourceIP(), receivedPacket.getSourceMAC());
                     thread.interrupt();
+                } else if (staleEntries.remove(receivedPacket.getSourceIP()) != null) {
+                    // 복원된 엔트리 재확인 완료
+                    addCache(receivedPacket.getSourceIP(), receivedPacket.getSourceMAC());
+                    new Thread(new Timeout(this, receivedPacket.getSourceIP())).start();
                 }
             }
         }
@@ -275,14 +508,89 @@ public class ARPLayer extends LayerAdapter {
             packet.setDestinationIP(destination);
 
             layer.addCache(destination, null);
-            ((EthernetLayer) layer.getUnderLayer(StaticRouterMain.ETHERNET, layer.getLayerNumber())).send(interfaceNumber, MACAddress.BROADCAST, packet.toBytes(), EthernetFrame.Type.ARP);
+            layer.requestCount.increment();
+            layer.ethernetLayer.send(interfaceNumber, MACAddress.BROADCAST, packet.toBytes(), EthernetFrame.Type.ARP);
 
             try {
                 TimeUnit.MINUTES.sleep(3);
             } catch (InterruptedException e) {
             }
 
-            layer.requestThreads.remove(destination);
+            // 그 사이 시작된 다른 요청 스레드의 엔트리는 남김
+            layer.requestThreads.remove(destination, Thread.currentThread());
+        }
+    }
+
+    /**
+     * 복원된 ARP 캐시 재확인 클래스
+     * <p>
+     * 인터페이스가 적용된 엔트리부터 ARP 요청을 보내고, 응답 마감 시각이 지난 엔트리를 제거한다.
+     * 재확인 중에도 기존 MAC 주소는 계속 포워딩에 사용되며,
+     * 대기 마감 시각까지 인터페이스가 적용되지 않은 엔트리는 재확인할 수 없으므로 제거한다.
+     */
+    private static class Revalidate implements Runnable {
+
+        private final ARPLayer layer;
+        private final List<IPAddress> pending;
+        private final long pendingDeadline;
+
+        public Revalidate(ARPLayer layer, Collection<IPAddress> pending, long pendingDeadline) {
+            this.layer = layer;
+            this.pending = new ArrayList<>(pending);
+            this.pendingDeadline = pendingDeadline;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!pending.isEmpty() || !layer.staleEntries.isEmpty()) {
+                    // 인터페이스가 적용된 엔트리에 대해 ARP 요청 송신
+                    Iterator<IPAddress> iterator = pending.iterator();
+                    while (iterator.hasNext()) {
+                        IPAddress ipAddress = iterator.next();
+                        if (layer.getResolved(ipAddress) == null) {
+                            // 이미 제거되었거나 새로 요청 중인 엔트리
+                            iterator.remove();
+                            continue;
+                        }
+                        int interfaceNumber = layer.findRevalidateInterface(ipAddress);
+                        if (interfaceNumber < 0) {
+                            if (System.nanoTime() - pendingDeadline > 0) {
+                                // 재확인할 인터페이스가 없는 엔트리
+                                iterator.remove();
+                                layer.timeoutCount.increment();
+                                layer.removeCache(ipAddress);
+                            }
+                            continue;
+                        }
+                        iterator.remove();
+
+                        ARPPacket packet = layer.createPacket(interfaceNumber);
+                        packet.setOperation(ARPPacket.Operation.REQUEST);
+                        packet.setDestinationMAC(MACAddress.ZERO);
+                        packet.setDestinationIP(ipAddress);
+                        layer.staleEntries.put(ipAddress, System.nanoTime() + REVALIDATE_TIMEOUT);
+                        layer.requestCount.increment();
+                        layer.ethernetLayer.send(interfaceNumber, MACAddress.BROADCAST, packet.toBytes(), EthernetFrame.Type.ARP);
+
+                        // ARP 요청 폭주 방지
+                        TimeUnit.MILLISECONDS.sleep(1);
+                    }
+
+                    // 응답이 없는 엔트리 제거
+                    long now = System.nanoTime();
+                    layer.staleEntries.forEach((ipAddress, deadline) -> {
+                        if (now - deadline > 0 && layer.staleEntries.remove(ipAddress, deadline)) {
+                            layer.timeoutCount.increment();
+                            layer.markUnresolved(ipAddress, now);
+                            layer.removeCache(ipAddress);
+                        }
+                    });
+
+                    TimeUnit.SECONDS.sleep(1);
+                }
+            } catch (InterruptedException ignored) {
+            }
         }
     }
 
@@ -306,7 +614,7 @@ public class ARPLayer extends LayerAdapter {
             }
 
             layer.removeCache(destination);
-            layer.timeoutThreads.remove(destination);
+            layer.timeoutThreads.remove(destination, Thread.currentThread());
         }
     }
 }
@@ -0,0 +1,60 @@
+package layer.internet;
+
+/**
+ * IP 패킷 흐름 해시 클래스
+ * <p>
+ * 출발지와 목적지 주소, 프로토콜, TCP 와 UDP 의 경우 포트 번호를 섞어 32 비트 해시를 계산한다.
+ * 패킷 바이트 배열을 직접 읽으며 객체를 생성하지 않는다.
+ * <p>
+ * 첫 조각이 아닌 조각에는 포트 번호가 없고, 조각 하나만 보고는 같은 패킷의 다른 조각이 어느 포트를 가졌는지 알 수 없다.
+ * 한 패킷의 조각이 서로 다른 경로나 작업 스레드로 나뉘면 재조립과 순서 유지가 깨지므로,
+ * 첫 조각을 포함한 모든 조각은 주소와 프로토콜만 사용하여 같은 해시를 갖게 한다.
+ * 그 대가로 같은 두 호스트 사이의 조각난 흐름들은 포트가 달라도 하나의 ECMP 경로와 작업 스레드에 모이며,
+ * 조각난 패킷과 조각나지 않은 패킷이 섞인 UDP 흐름은 두 해시로 나뉘어 순서가 바뀔 수 있다.
+ * 조각화는 드물고 UDP 는 순서를 보장하지 않으므로 이 손실을 감수한다.
+ */
+public final class FlowHash {
+
+    static final int TCP = 6;
+    static final int UDP = 17;
+
+    private static final int IP_HEADER_LENGTH = 20;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private FlowHash() {
+    }
+
+    /**
+     * 흐름 해시 계산 메서드
+     *
+     * @param packet 바이트 배열
+     * @param offset IP 헤더 시작 위치
+     * @param length IP 패킷 길이
+     * @return 상위 비트까지 고르게 섞인 흐름 해시
+     */
+    public static int compute(byte[] packet, int offset, int length) {
+        if (length < IP_HEADER_LENGTH) {
+            return 0;
+        }
+        int protocol = packet[offset + 9] & 0xFF;
+        int hash = ICMP.getInt(packet, offset + 12) * GOLDEN_RATIO;
+        hash = (hash ^ ICMP.getInt(packet, offset + 16)) * GOLDEN_RATIO;
+        hash = (hash ^ protocol) * GOLDEN_RATIO;
+
+        int headerLength = (packet[offset] & 0xF) * 4;
+        boolean fragment = (ICMP.getShort(packet, offset + 6) & (Fragmenter.MORE_FRAGMENTS | Fragmenter.OFFSET_MASK)) != 0;
+        // 조각은 첫 조각이어도 포트 번호를 섞지 않음
+        if ((protocol == TCP || protocol == UDP) && !fragment && headerLength >= IP_HEADER_LENGTH && headerLength + 4 <= length) {
+            // 출발지 포트와 목적지 포트
+            hash = (hash ^ ICMP.getInt(packet, offset + headerLength)) * GOLDEN_RATIO;
+        }
+
+        // MurmurHash3 의 마무리 단계
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,125 @@
+package layer.internet;
+
+import data.unit.frame.EthernetFrame;
+
+/**
+ * IP 패킷 조각화 클래스 (RFC 791)
+ * <p>
+ * 조각마다 링크 계층 헤더 공간을 앞에 둔 배열 하나만 할당하고, 새 IP 헤더를 기록한 뒤 원본 패킷의 데이터 구간을 한 번만 복사한다.
+ * 첫 조각은 원본 헤더를 그대로 사용하고, 이후 조각에는 복사 플래그가 설정된 옵션만 포함한다.
+ * 작은 조각도 헤더 공간 뒤에 이더넷 최소 데이터 길이만큼 할당하므로 그대로 송신해도 최소 프레임 길이를 만족한다.
+ */
+final class Fragmenter {
+
+    /**
+     * Don't Fragment 플래그
+     */
+    static final int DONT_FRAGMENT = 0x4000;
+
+    /**
+     * More Fragments 플래그
+     */
+    static final int MORE_FRAGMENTS = 0x2000;
+
+    /**
+     * 조각 오프셋 마스크 (8 바이트 단위)
+     */
+    static final int OFFSET_MASK = 0x1FFF;
+
+    private static final int IP_HEADER_LENGTH = 20;
+
+    private Fragmenter() {
+    }
+
+    /**
+     * 패킷을 MTU 에 맞는 조각으로 나누는 메서드
+     *
+     * @param packet   IP 패킷 바이트 배열
+     * @param mtu      송신 인터페이스 MTU
+     * @param headroom 각 조각 앞에 비워 둘 링크 계층 헤더 길이
+     * @return 앞에 {@code headroom} 바이트가 비어 있고 IP 총 길이 뒤는 0 으로 채워진 조각 배열, MTU 가 너무 작아 나눌 수 없을 경우 {@code null}
+     */
+    static byte[][] fragment(byte[] packet, int mtu, int headroom) {
+        int headerLength = (packet[0] & 0xF) * 4;
+        int totalLength = Math.min(ICMP.getShort(packet, 2), packet.length);
+        int dataLength = totalLength - headerLength;
+        byte[] header = copiedHeader(packet, headerLength);
+
+        // 마지막 조각을 제외한 조각의 데이터 길이는 8 의 배수
+        int firstLength = (mtu - headerLength) & ~7;
+        int restLength = (mtu - header.length) & ~7;
+        if (headerLength < IP_HEADER_LENGTH || dataLength <= 0 || firstLength <= 0 || restLength <= 0) {
+            return null;
+        }
+
+        int count = 1 + (dataLength > firstLength ? (dataLength - firstLength + restLength - 1) / restLength : 0);
+        byte[][] fragments = new byte[count][];
+        int flags = ICMP.getShort(packet, 6);
+        int offset = (flags & OFFSET_MASK) * 8;
+        int position = 0;
+        for (int index = 0; index < count; index++) {
+            int fragmentHeaderLength = index == 0 ? headerLength : header.length;
+            int length = Math.min(index == 0 ? firstLength : restLength, dataLength - position);
+            boolean last = index == count - 1;
+
+            // 패킷의 끝은 IP 총 길이가 나타내므로 최소 길이까지 남는 부분은 0 으로 둠
+            byte[] fragment = new byte[headroom + Math.max(fragmentHeaderLength + length, EthernetFrame.MIN_DATA_LENGTH)];
+            if (index == 0) {
+                System.arraycopy(packet, 0, fragment, headroom, headerLength);
+            } else {
+                System.arraycopy(header, 0, fragment, headroom, header.length);
+            }
+            System.arraycopy(packet, headerLength + position, fragment, headroom + fragmentHeaderLength, length);
+
+            // 마지막 조각은 원본 패킷의 More Fragments 플래그를 유지
+            fragment[headroom] = (byte) (0x40 | (fragmentHeaderLength / 4));
+            ICMP.putShort(fragment, headroom + 2, fragmentHeaderLength + length);
+            ICMP.putShort(fragment, headroom + 6, (flags & ~(MORE_FRAGMENTS | OFFSET_MASK))
+                    | (last ? flags & MORE_FRAGMENTS : MORE_FRAGMENTS) | ((offset + position) / 8));
+            ICMP.putShort(fragment, headroom + 10, 0);
+            ICMP.putShort(fragment, headroom + 10, ICMP.checksum(fragment, headroom, fragmentHeaderLength));
+
+            fragments[index] = fragment;
+            position += length;
+        }
+        return fragments;
+    }
+
+    /**
+     * 첫 조각 이후의 조각에 사용할 헤더 생성 메서드
+     * <p>
+     * 복사 플래그가 설정된 옵션만 남기고 4 바이트 단위로 End of Option List 를 채운다.
+     */
+    private static byte[] copiedHeader(byte[] packet, int headerLength) {
+        byte[] options = new byte[Math.max(0, headerLength - IP_HEADER_LENGTH)];
+        int length = 0;
+        int index = IP_HEADER_LENGTH;
+        while (index < headerLength) {
+            int type = packet[index] & 0xFF;
+            if (type == 0) {
+                // End of Option List
+                break;
+            }
+            if (type == 1) {
+                // No Operation
+                index++;
+                continue;
+            }
+            int optionLength = index + 1 < headerLength ? packet[index + 1] & 0xFF : 0;
+            if (optionLength < 2 || index + optionLength > headerLength) {
+                break;
+            }
+            if ((type & 0x80) != 0) {
+                System.arraycopy(packet, index, options, length, optionLength);
+                length += optionLength;
+            }
+            index += optionLength;
+        }
+
+        byte[] header = new byte[IP_HEADER_LENGTH + ((length + 3) & ~3)];
+        System.arraycopy(packet, 0, header, 0, IP_HEADER_LENGTH);
+        System.arraycopy(options, 0, header, IP_HEADER_LENGTH, length);
+        return header;
+    }
+
+}
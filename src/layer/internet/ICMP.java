@@ -0,0 +1,231 @@
+package layer.internet;
+
+/**
+ * ICMP 메시지 처리 클래스
+ * <p>
+ * 패킷 객체를 생성하지 않고 IP 패킷 바이트 배열을 직접 읽고 수정한다.
+ * 체크섬은 RFC 1624 의 증분 갱신으로 변경된 16 비트 워드만 반영한다.
+ */
+final class ICMP {
+
+    /**
+     * IP 헤더의 ICMP 프로토콜 번호
+     */
+    static final int PROTOCOL = 1;
+
+    static final int ECHO_REPLY = 0;
+    static final int DESTINATION_UNREACHABLE = 3;
+    static final int ECHO_REQUEST = 8;
+    static final int TIME_EXCEEDED = 11;
+
+    /**
+     * Destination Unreachable 코드
+     */
+    static final int NET_UNREACHABLE = 0;
+    static final int HOST_UNREACHABLE = 1;
+    static final int FRAGMENTATION_NEEDED = 4;
+
+    /**
+     * Time Exceeded 코드
+     */
+    static final int TTL_EXCEEDED = 0;
+
+    /**
+     * 응답 패킷에 설정하는 TTL
+     */
+    static final int DEFAULT_TTL = 64;
+
+    private static final int IP_HEADER_LENGTH = 20;
+    private static final int ICMP_HEADER_LENGTH = 8;
+
+    /**
+     * 오류 메시지에 포함하는 원본 패킷의 데이터 길이 (RFC 792)
+     */
+    private static final int QUOTED_DATA_LENGTH = 8;
+
+    private ICMP() {
+    }
+
+    /**
+     * Echo Request 패킷을 같은 배열 안에서 Echo Reply 로 바꾸는 메서드
+     * <p>
+     * 출발지와 목적지 주소를 교환하고 TTL 과 ICMP 타입을 바꾼 뒤 두 체크섬을 증분 갱신한다.
+     * 주소 교환은 IP 헤더 체크섬을 바꾸지 않는다.
+     * 조각난 패킷이나 체크섬이 올바르지 않은 패킷은 바꾸지 않는다.
+     *
+     * @param packet IP 패킷 바이트 배열
+     * @return 응답으로 바뀐 경우 {@code true}
+     */
+    static boolean toEchoReply(byte[] packet) {
+        if (packet.length < IP_HEADER_LENGTH || (packet[0] & 0xF0) != 0x40 || (packet[9] & 0xFF) != PROTOCOL) {
+            return false;
+        }
+        int headerLength = (packet[0] & 0xF) * 4;
+        int totalLength = getShort(packet, 2);
+        if (headerLength < IP_HEADER_LENGTH || totalLength < headerLength + ICMP_HEADER_LENGTH || totalLength > packet.length) {
+            return false;
+        }
+        // More Fragments 플래그 또는 조각 오프셋이 설정된 패킷
+        if ((getShort(packet, 6) & 0x3FFF) != 0) {
+            return false;
+        }
+        if (packet[headerLength] != ECHO_REQUEST || packet[headerLength + 1] != 0) {
+            return false;
+        }
+        if (checksum(packet, 0, headerLength) != 0 || checksum(packet, headerLength, totalLength - headerLength) != 0) {
+            return false;
+        }
+
+        // 주소 교환
+        for (int index = 12; index < 16; index++) {
+            byte temp = packet[index];
+            packet[index] = packet[index + 4];
+            packet[index + 4] = temp;
+        }
+
+        // TTL 변경
+        int oldWord = getShort(packet, 8);
+        int newWord = (DEFAULT_TTL << 8) | PROTOCOL;
+        packet[8] = (byte) DEFAULT_TTL;
+        putShort(packet, 10, adjustChecksum(getShort(packet, 10), oldWord, newWord));
+
+        // ICMP 타입 변경 (코드는 0 유지)
+        packet[headerLength] = ECHO_REPLY;
+        putShort(packet, headerLength + 2, adjustChecksum(getShort(packet, headerLength + 2), ECHO_REQUEST << 8, ECHO_REPLY << 8));
+        return true;
+    }
+
+    /**
+     * 패킷에 대해 ICMP 오류 메시지를 보낼 수 있는지 확인하는 메서드 (RFC 1812 4.3.2.7)
+     * <p>
+     * ICMP 오류 메시지, 첫 조각이 아닌 조각, 출발지 또는 목적지가 브로드캐스트나 멀티캐스트인 패킷에는 보내지 않는다.
+     *
+     * @param packet IP 패킷 바이트 배열
+     * @return 오류 메시지를 보낼 수 있을 경우 {@code true}
+     */
+    static boolean canReportError(byte[] packet) {
+        if (packet.length < IP_HEADER_LENGTH || (packet[0] & 0xF0) != 0x40) {
+            return false;
+        }
+        if ((getShort(packet, 6) & 0x1FFF) != 0) {
+            return false;
+        }
+        int source = getInt(packet, 12);
+        int destination = getInt(packet, 16);
+        if (source == 0 || isBroadcastOrMulticast(source) || isBroadcastOrMulticast(destination) || (source >>> 24) == 127) {
+            return false;
+        }
+        int headerLength = (packet[0] & 0xF) * 4;
+        if ((packet[9] & 0xFF) == PROTOCOL && packet.length > headerLength) {
+            // Destination Unreachable, Source Quench, Redirect, Time Exceeded, Parameter Problem
+            return switch (packet[headerLength] & 0xFF) {
+                case DESTINATION_UNREACHABLE, 4, 5, TIME_EXCEEDED, 12 -> false;
+                default -> true;
+            };
+        }
+        return true;
+    }
+
+    private static boolean isBroadcastOrMulticast(int address) {
+        return address == -1 || (address >>> 28) == 0xE;
+    }
+
+    /**
+     * ICMP 오류 메시지 생성 메서드
+     * <p>
+     * 원본 패킷의 IP 헤더와 데이터 앞부분 8 바이트를 포함한 IP 패킷을 생성한다.
+     *
+     * @param packet    오류가 발생한 IP 패킷 바이트 배열
+     * @param type      ICMP 타입
+     * @param code      ICMP 코드
+     * @param parameter ICMP 헤더 마지막 4 바이트에 기록할 값 (Fragmentation Needed 의 경우 다음 홉 MTU)
+     * @param source    오류 메시지의 출발지 정수형 IP 주소
+     * @return 생성된 IP 패킷 바이트 배열
+     */
+    static byte[] createError(byte[] packet, int type, int code, int parameter, int source) {
+        int headerLength = (packet[0] & 0xF) * 4;
+        int quotedLength = Math.min(Math.min(getShort(packet, 2), packet.length), headerLength + QUOTED_DATA_LENGTH);
+        int icmpLength = ICMP_HEADER_LENGTH + quotedLength;
+        byte[] error = new byte[IP_HEADER_LENGTH + icmpLength];
+
+        // IP 헤더 (서비스 타입은 Internetwork Control)
+        error[0] = 0x45;
+        error[1] = (byte) 0xC0;
+        putShort(error, 2, error.length);
+        error[8] = (byte) DEFAULT_TTL;
+        error[9] = PROTOCOL;
+        putInt(error, 12, source);
+        System.arraycopy(packet, 12, error, 16, 4);
+        putShort(error, 10, checksum(error, 0, IP_HEADER_LENGTH));
+
+        // ICMP 헤더와 원본 패킷
+        error[IP_HEADER_LENGTH] = (byte) type;
+        error[IP_HEADER_LENGTH + 1] = (byte) code;
+        putInt(error, IP_HEADER_LENGTH + 4, parameter);
+        System.arraycopy(packet, 0, error, IP_HEADER_LENGTH + ICMP_HEADER_LENGTH, quotedLength);
+        putShort(error, IP_HEADER_LENGTH + 2, checksum(error, IP_HEADER_LENGTH, icmpLength));
+        return error;
+    }
+
+    /**
+     * 인터넷 체크섬 계산 메서드
+     * <p>
+     * 체크섬 필드를 포함하여 계산하면 올바른 데이터의 결과는 0 이다.
+     *
+     * @param data   바이트 배열
+     * @param offset 시작 위치
+     * @param length 계산할 길이
+     * @return 16 비트 1의 보수 합의 보수
+     */
+    static int checksum(byte[] data, int offset, int length) {
+        long sum = 0;
+        int end = offset + (length & ~1);
+        for (int index = offset; index < end; index += 2) {
+            sum += ((data[index] & 0xFF) << 8) | (data[index + 1] & 0xFF);
+        }
+        if ((length & 1) != 0) {
+            sum += (data[end] & 0xFF) << 8;
+        }
+        while ((sum >>> 16) != 0) {
+            sum = (sum & 0xFFFF) + (sum >>> 16);
+        }
+        return (int) ~sum & 0xFFFF;
+    }
+
+    /**
+     * 16 비트 워드 하나가 바뀐 경우의 체크섬 증분 갱신 메서드 (RFC 1624)
+     * <p>
+     * 결과가 0 일 경우 나머지 데이터가 모두 0 이어도 검증을 통과하는 0xFFFF 를 반환한다.
+     *
+     * @param checksum 기존 체크섬
+     * @param oldWord  기존 워드
+     * @param newWord  새 워드
+     * @return 갱신된 체크섬
+     */
+    static int adjustChecksum(int checksum, int oldWord, int newWord) {
+        int sum = (~checksum & 0xFFFF) + (~oldWord & 0xFFFF) + (newWord & 0xFFFF);
+        sum = (sum & 0xFFFF) + (sum >>> 16);
+        sum = (sum & 0xFFFF) + (sum >>> 16);
+        sum = ~sum & 0xFFFF;
+        return sum == 0 ? 0xFFFF : sum;
+    }
+
+    static int getShort(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 8) | (data[offset + 1] & 0xFF);
+    }
+
+    static void putShort(byte[] data, int offset, int value) {
+        data[offset] = (byte) (value >>> 8);
+        data[offset + 1] = (byte) value;
+    }
+
+    static int getInt(byte[] data, int offset) {
+        return (getShort(data, offset) << 16) | getShort(data, offset + 2);
+    }
+
+    static void putInt(byte[] data, int offset, int value) {
+        putShort(data, offset, value >>> 16);
+        putShort(data, offset + 2, value);
+    }
+
+}
@@ -6,14 +6,68 @@ import data.address.MACAddress;
 import data.unit.frame.EthernetFrame;
 import data.unit.packet.IPPacket;
 import launch.StaticRouterMain;
-import layer.Layer;
 import layer.LayerAdapter;
-import layer.application.RouterApp;
-import layer.application.SettingApp;
+import layer.application.RouteEntry;
+import layer.application.RouterLayer;
+import layer.controller.InterfaceContext;
 import layer.controller.LayerManager;
 import layer.link.EthernetLayer;
+import layer.link.NILayer;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 public class IPLayer extends LayerAdapter {
+
+    /**
+     * 옵션이 없는 IP 헤더 길이
+     */
+    private static final int IP_HEADER_LENGTH = 20;
+
+    /**
+     * 출발지 주소별 ICMP 오류 메시지 처리율 제한 버킷 개수
+     */
+    private static final int SOURCE_BUCKETS = 4096;
+
+    private EthernetLayer ethernetLayer;
+    private ARPLayer arpLayer;
+    private RouterLayer routerLayer;
+
+    private final LongAdder forwardCount = getCounters().counter("Forwarded");
+    private final LongAdder noRouteCount = getCounters().counter("NoRoute");
+    private final LongAdder interfaceDownCount = getCounters().counter("InterfaceDown");
+    private final LongAdder arpPendingDropCount = getCounters().counter("ArpPendingDrops");
+    private final LongAdder localDeliverCount = getCounters().counter("LocalDelivered");
+    private final LongAdder truncatedCount = getCounters().counter("Truncated");
+    private final LongAdder echoReplyCount = getCounters().counter("EchoReplies");
+    private final LongAdder ttlExceededCount = getCounters().counter("TtlExceeded");
+    private final LongAdder fragmentationNeededCount = getCounters().counter("FragmentationNeeded");
+    private final LongAdder fragmentedCount = getCounters().counter("Fragmented");
+    private final LongAdder fragmentCreatedCount = getCounters().counter("FragmentsCreated");
+    private final LongAdder fragmentFailCount = getCounters().counter("FragmentFails");
+    private final LongAdder errorSentCount = getCounters().counter("IcmpErrorsSent");
+    private final LongAdder errorRateLimitedCount = getCounters().counter("IcmpRateLimited");
+
+    /**
+     * 라우터가 목적지인 조각의 재조립
+     */
+    private final Reassembler reassembler = new Reassembler(Long.getLong("ip.reassembly.memory", 4L << 20), Long.getLong("ip.reassembly.timeout", 30_000), getCounters());
+
+    /**
+     * 전체 ICMP 오류 메시지 처리율 제한
+     */
+    private final TokenBucket errorLimiter = new TokenBucket(Integer.getInteger("icmp.rate", 1000), Integer.getInteger("icmp.burst", 50), 1);
+
+    /**
+     * 출발지 주소별 ICMP 오류 메시지 처리율 제한
+     */
+    private final TokenBucket sourceErrorLimiter = new TokenBucket(Integer.getInteger("icmp.source.rate", 10), Integer.getInteger("icmp.source.burst", 10), SOURCE_BUCKETS);
+
+    /**
+     * 라우팅 엔트리 사용 가능 조건, 검색마다 객체를 생성하지 않도록 한 번만 생성
+     */
+    private final Predicate<RouteEntry> usableRoute = this::isUsable;
+
     /**
      * 계층 객체 생성자
      *
@@ -27,14 +81,43 @@ public class IPLayer extends LayerAdapter {
         super(layerName, layerNumber);
     }
 
+    @Override
+    protected void onCompile() {
+        ethernetLayer = (EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber());
+        arpLayer = (ARPLayer) getUnderLayer(StaticRouterMain.ARP, getLayerNumber());
+        routerLayer = (RouterLayer) getUpperLayer(StaticRouterMain.ROUTER, getLayerNumber());
+    }
+
     private IPPacket createPacket(int interfaceLayerTo) {
         IPPacket packet = new IPPacket();
-        packet.setSource(((SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, interfaceLayerTo)).getMyIPAddress());
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerTo);
+        if (context == null) {
+            throw new RuntimeException("interface not applied");
+        }
+        packet.setSource(context.getIPAddress());
         return packet;
     }
 
-    private boolean isValid(int interfaceLayerFrom, IPAddress address) {
-        return ((SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, interfaceLayerFrom)).getMyIPAddress().equals(address);
+    /**
+     * 라우팅 엔트리 사용 가능 여부 확인 메서드
+     * <p>
+     * UP 플래그, 송신 인터페이스의 관리 상태, 게이트웨이의 주소 결정 실패 여부를 확인한다.
+     */
+    private boolean isUsable(RouteEntry entry) {
+        if (!entry.isUp()) {
+            return false;
+        }
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(entry.interfaceNumber());
+        return context != null && context.isUp() && !(entry.isGateway() && arpLayer.isUnresolved(entry.interfaceNumber(), entry.gateway()));
+    }
+
+    /**
+     * 라우터가 목적지인지 확인하는 메서드
+     * <p>
+     * 수신 인터페이스가 아닌 다른 인터페이스의 주소로 온 패킷도 라우터가 처리하며, 응답은 수신 인터페이스로 송신한다.
+     */
+    private boolean isValid(int address) {
+        return LayerManager.getInstance().isInterfaceAddress(address);
     }
 
     /**
@@ -50,7 +133,6 @@ public class IPLayer extends LayerAdapter {
             return;
         }
 
-        ARPLayer arpLayer = (ARPLayer) getUnderLayer(StaticRouterMain.ARP, getLayerNumber());
         MACAddress destinationMAC = arpLayer.getMACAddress(destinationIP);
         if (destinationMAC == null) {
             new Thread(() -> {
@@ -64,7 +146,7 @@ public class IPLayer extends LayerAdapter {
                     IPPacket packet = createPacket(interfaceLayerTo);
                     packet.setDestination(destinationIP);
                     packet.setData(data);
-                    new Thread(() -> ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(interfaceLayerTo, requestedMAC, packet.toBytes(), EthernetFrame.Type.IP));
+                    new Thread(() -> ethernetLayer.send(interfaceLayerTo, requestedMAC, packet.toBytes(), EthernetFrame.Type.IP));
                 }
             }).start();
         }
@@ -73,7 +155,7 @@ public class IPLayer extends LayerAdapter {
             IPPacket packet = createPacket(interfaceLayerTo);
             packet.setDestination(destinationIP);
             packet.setData(data);
-            ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(interfaceLayerTo, destinationMAC, packet.toBytes(), EthernetFrame.Type.IP);
+            ethernetLayer.send(interfaceLayerTo, destinationMAC, packet.toBytes(), EthernetFrame.Type.IP);
         }).start();
     }
 
@@ -95,71 +177,162 @@ public class IPLayer extends LayerAdapter {
         // -> ARP Cache Table 에 Gateway 의 정보가 없다면, ARP 메시지를 통해서 MAC 주소를 알아 낸다.
         // 모든 Router 가 이 과정을 반복하며, 목적지까지 패킷을 전달한다.
 
-        IPPacket receivedPacket = new IPPacket(data);
+        if (data.length < IP_HEADER_LENGTH || ICMP.getShort(data, 2) > data.length) {
+            // 캡처 길이를 넘어 잘린 패킷
+            truncatedCount.increment();
+            return;
+        }
 
-        if (isValid(interfaceLayerFrom, receivedPacket.getDestination())) {
+        // 라우터가 목적지인 패킷은 패킷 객체를 생성하지 않고 처리
+        if (isValid(IPAddress.toInt(data, 16))) {
             // 목적지가 라우터일 경우
+            localDeliverCount.increment();
+            if ((ICMP.getShort(data, 6) & (Fragmenter.MORE_FRAGMENTS | Fragmenter.OFFSET_MASK)) != 0) {
+                // 조각은 재조립이 완료된 경우에만 처리
+                byte[] packet = reassembler.add(data);
+                if (packet != null && ICMP.toEchoReply(packet)) {
+                    // 재조립된 패킷의 응답은 필요하면 다시 조각으로 나누어 송신
+                    InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerFrom);
+                    MACAddress sourceMAC = EthernetLayer.getReceivedSource();
+                    if (context != null && sourceMAC != null && transmit(context, sourceMAC, packet)) {
+                        echoReplyCount.increment();
+                    }
+                }
+                return;
+            }
+            // Echo Request 는 수신 버퍼 안에서 응답으로 바꾸어 수신 프레임으로 그대로 송신
+            if (ICMP.toEchoReply(data) && ethernetLayer.reply(interfaceLayerFrom, data)) {
+                echoReplyCount.increment();
+            }
         } else {
             // 패킷 라우팅 처리
+            if ((data[8] & 0xFF) <= 1) {
+                ttlExceededCount.increment();
+                sendError(interfaceLayerFrom, EthernetLayer.getReceivedSource(), data, ICMP.TIME_EXCEEDED, ICMP.TTL_EXCEEDED, 0);
+                return;
+            }
 
-            RouterApp routerApp = (RouterApp) getUpperLayer(StaticRouterMain.ROUTER, getLayerNumber());
-            RouterApp.RouteEntry entry = routerApp.findEntry(receivedPacket.getDestination());
-
-            if (entry != null) {
-                for (Layer layer : LayerManager.getInstance().getList(StaticRouterMain.SETTING)) {
-                    if (entry.interfaceWrapper().get().equals(((SettingApp) layer).getInterface())) {
-                        if (entry.isUp() && !entry.isGateway() && !entry.isHost()) {
-                            // ARP 과정을 통해 해당 패킷의 목적지(Host2)의 MAC 주소를 알아낸 뒤 패킷의 목적지로 패킷을 전송
-                            ARPLayer arpLayer = (ARPLayer) getUnderLayer(StaticRouterMain.ARP, getLayerNumber());
-                            MACAddress destinationMAC = arpLayer.getMACAddress(receivedPacket.getDestination());
-
-                            if (destinationMAC == null) {
-                                // ARP Cache 가 존재하지 않을 경우 패킷 전송을 스레드화 해서 이후에 ARP를 받으면 처리
-                                // ARP Request 에 실패할 경우 Drop
-                                new Thread(() -> {
-                                    try {
-                                        arpLayer.request(layer.getLayerNumber(), receivedPacket.getDestination()).join();
-                                    } catch (InterruptedException ignored) {
-                                    }
-                                    MACAddress requestedMAC = arpLayer.getMACAddress(receivedPacket.getDestination());
-                                    if (requestedMAC != null) {
-                                        // 패킷 전송
-                                        ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(layer.getLayerNumber(), requestedMAC, receivedPacket.toBytes(), EthernetFrame.Type.IP);
-                                    }
-                                }).start();
-                            } else {
-                                // ARP Cache Hit
-                                ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(layer.getLayerNumber(), destinationMAC, receivedPacket.toBytes(), EthernetFrame.Type.IP);
-                            }
-                        } else if (entry.isUp() && entry.isGateway() && !entry.isHost()) {
-                            // ARP 과정을 통해 해당 Entry 의 Gateway의 MAC 주소를 알아낸 뒤 Gateway로 패킷을 전송
-                            // 전송 시, 해당 Entry의 Interface를 통해서 패킷을 전송
-                            ARPLayer arpLayer = (ARPLayer) getUnderLayer(StaticRouterMain.ARP, getLayerNumber());
-                            MACAddress destinationMAC = arpLayer.getMACAddress(entry.gateway());
-
-                            if (destinationMAC == null) {
-                                // ARP Cache 가 존재하지 않을 경우 패킷 전송을 스레드화 해서 이후에 ARP를 받으면 처리
-                                // ARP Request 에 실패할 경우 Drop
-                                new Thread(() -> {
-                                    try {
-                                        arpLayer.request(layer.getLayerNumber(), entry.gateway()).join();
-                                    } catch (InterruptedException ignored) {
-                                    }
-                                    MACAddress requestedMAC = arpLayer.getMACAddress(entry.gateway());
-                                    if (requestedMAC != null) {
-                                        // 패킷 전송
-                                        ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(layer.getLayerNumber(), requestedMAC, receivedPacket.toBytes(), EthernetFrame.Type.IP);
-                                    }
-                                }).start();
-                            } else {
-                                // ARP Cache Hit
-                                ((EthernetLayer) getUnderLayer(StaticRouterMain.ETHERNET, getLayerNumber())).send(layer.getLayerNumber(), destinationMAC, receivedPacket.toBytes(), EthernetFrame.Type.IP);
-                            }
-                        }
-                    }
+            IPAddress destination = new IPAddress(IPAddress.toInt(data, 16));
+            // 같은 흐름의 패킷은 같은 ECMP 경로로, 사용할 수 없는 경로 대신 예비 경로로 전달
+            RouteEntry entry = routerLayer.findEntry(destination, FlowHash.compute(data, 0, ICMP.getShort(data, 2)), usableRoute);
+            if (entry == null || !entry.isUp() || entry.isHost()) {
+                noRouteCount.increment();
+                sendError(interfaceLayerFrom, EthernetLayer.getReceivedSource(), data, ICMP.DESTINATION_UNREACHABLE, ICMP.NET_UNREACHABLE, 0);
+                return;
+            }
+            InterfaceContext context = LayerManager.getInstance().getInterfaceContext(entry.interfaceNumber());
+            if (context == null || !context.isUp()) {
+                interfaceDownCount.increment();
+                sendError(interfaceLayerFrom, EthernetLayer.getReceivedSource(), data, ICMP.DESTINATION_UNREACHABLE, ICMP.NET_UNREACHABLE, 0);
+                return;
+            }
+            if (ICMP.getShort(data, 2) > context.mtu() && (ICMP.getShort(data, 6) & Fragmenter.DONT_FRAGMENT) != 0) {
+                // Don't Fragment 플래그가 설정된 패킷이 송신 인터페이스의 MTU 보다 큰 경우
+                fragmentationNeededCount.increment();
+                sendError(interfaceLayerFrom, EthernetLayer.getReceivedSource(), data, ICMP.DESTINATION_UNREACHABLE, ICMP.FRAGMENTATION_NEEDED, context.mtu());
+                return;
+            }
+
+            // 수신 바이트 배열의 TTL 을 감소시키고 체크섬을 증분 갱신하여 그대로 전달
+            int ttlWord = ICMP.getShort(data, 8);
+            int checksum = ICMP.getShort(data, 10);
+            data[8]--;
+            ICMP.putShort(data, 10, ICMP.adjustChecksum(ICMP.getShort(data, 10), ttlWord, ttlWord - 0x100));
+
+            // 직접 연결된 네트워크는 목적지, 그렇지 않으면 Gateway 의 MAC 주소로 전송
+            IPAddress nextHop = entry.isGateway() ? entry.gateway() : destination;
+            MACAddress destinationMAC = arpLayer.getMACAddress(nextHop);
+            if (destinationMAC != null) {
+                // ARP Cache Hit
+                if (transmit(context, destinationMAC, data)) {
+                    forwardCount.increment();
                 }
+                return;
             }
+
+            // ARP Cache 가 존재하지 않을 경우 패킷 전송을 스레드화 해서 이후에 ARP를 받으면 처리
+            // ARP Request 에 실패할 경우 Drop 후 Host Unreachable 송신
+            long receiveTime = NILayer.getReceiveTime();
+            MACAddress sourceMAC = EthernetLayer.getReceivedSource();
+            new Thread(() -> {
+                NILayer.setReceiveTime(receiveTime);
+                try {
+                    arpLayer.request(context.index(), nextHop).join();
+                } catch (InterruptedException ignored) {
+                }
+                MACAddress requestedMAC = arpLayer.getMACAddress(nextHop);
+                if (requestedMAC != null) {
+                    // 패킷 전송
+                    if (transmit(context, requestedMAC, data)) {
+                        forwardCount.increment();
+                    }
+                } else {
+                    arpPendingDropCount.increment();
+                    // 오류 메시지에는 수신한 그대로의 헤더를 담아야 하므로 TTL 과 체크섬 복원 (RFC 1812 4.3.2.3)
+                    ICMP.putShort(data, 8, ttlWord);
+                    ICMP.putShort(data, 10, checksum);
+                    sendError(interfaceLayerFrom, sourceMAC, data, ICMP.DESTINATION_UNREACHABLE, ICMP.HOST_UNREACHABLE, 0);
+                }
+            }).start();
+        }
+    }
+
+    /**
+     * 패킷 송신 메서드
+     * <p>
+     * 송신 인터페이스의 MTU 보다 큰 패킷은 조각으로 나누어 송신한다.
+     * Don't Fragment 플래그가 설정된 패킷은 호출 전에 걸러져 있어야 한다.
+     *
+     * @param context     송신 인터페이스 설정 정보
+     * @param destination 다음 홉의 MAC 주소 객체
+     * @param packet      IP 패킷 바이트 배열
+     * @return 송신한 경우 {@code true}
+     */
+    private boolean transmit(InterfaceContext context, MACAddress destination, byte[] packet) {
+        if (ICMP.getShort(packet, 2) <= context.mtu()) {
+            ethernetLayer.send(context.index(), destination, packet, EthernetFrame.Type.IP);
+            return true;
         }
+        byte[][] fragments = Fragmenter.fragment(packet, context.mtu(), EthernetFrame.HEADER_LENGTH);
+        if (fragments == null) {
+            fragmentFailCount.increment();
+            return false;
+        }
+        fragmentedCount.increment();
+        fragmentCreatedCount.add(fragments.length);
+        for (byte[] fragment : fragments) {
+            ethernetLayer.sendFrame(context.index(), destination, fragment, EthernetFrame.Type.IP);
+        }
+        return true;
+    }
 
+    /**
+     * ICMP 오류 메시지 송신 메서드
+     * <p>
+     * 오류가 발생한 패킷을 수신한 인터페이스로, 패킷을 보낸 이전 홉의 MAC 주소에 송신한다.
+     * 출발지별 버킷을 먼저 확인하므로 한 출발지의 폭주가 전체 버킷을 소진하지 못한다.
+     *
+     * @param interfaceLayerTo 송신에 사용될 계층 식별 번호
+     * @param destination      이전 홉의 MAC 주소 객체, {@code null} 일 경우 송신하지 않음
+     * @param packet           오류가 발생한 IP 패킷 바이트 배열
+     * @param type             ICMP 타입
+     * @param code             ICMP 코드
+     * @param parameter        ICMP 헤더 마지막 4 바이트에 기록할 값
+     */
+    private void sendError(int interfaceLayerTo, MACAddress destination, byte[] packet, int type, int code, int parameter) {
+        if (destination == null || !ICMP.canReportError(packet)) {
+            return;
+        }
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerTo);
+        if (context == null) {
+            return;
+        }
+        long nanoTime = System.nanoTime();
+        if (!sourceErrorLimiter.tryAcquire(ICMP.getInt(packet, 12), nanoTime) || !errorLimiter.tryAcquire(0, nanoTime)) {
+            errorRateLimitedCount.increment();
+            return;
+        }
+        errorSentCount.increment();
+        ethernetLayer.send(interfaceLayerTo, destination, ICMP.createError(packet, type, code, parameter, context.ipAddress()), EthernetFrame.Type.IP);
     }
 }
@@ -0,0 +1,268 @@
+package layer.internet;
+
+import layer.controller.CounterSet;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * IP 패킷 재조립 클래스
+ * <p>
+ * 출발지, 목적지, 프로토콜, 식별자가 같은 조각을 모아 RFC 815 의 빈 구간 목록으로 완성 여부를 판단한다.
+ * 재조립 중인 패킷이 사용하는 메모리(데이터 버퍼와 빈 구간 목록 포함)는 전체 한도를 넘지 않으며, 한도를 넘으면 가장 오래된 패킷부터 버린다.
+ * 데이터 버퍼는 마지막 조각이 도착하면 정확한 크기로, 그 전에는 받은 조각의 끝까지 할당하고 부족하면 두 배로 늘려 복사 횟수를 제한한다.
+ * 제한 시간 안에 완성되지 않은 패킷은 타이머 스레드가 주기적으로 제거한다.
+ */
+final class Reassembler {
+
+    /**
+     * 재조립 중인 패킷 하나에 대해 데이터 외에 추가로 계산하는 메모리 (바이트)
+     */
+    private static final int DATAGRAM_OVERHEAD = 256;
+
+    /**
+     * 빈 구간 하나에 대해 계산하는 메모리 (배열 객체와 List 참조, 바이트)
+     */
+    private static final int HOLE_OVERHEAD = 32;
+
+    private static final int MAX_PACKET_LENGTH = 0xFFFF;
+    private static final int IP_HEADER_LENGTH = 20;
+
+    /**
+     * 첫 조각 수신 순으로 정렬된 재조립 중인 패킷 테이블
+     */
+    private final Map<Key, Datagram> datagrams = new LinkedHashMap<>();
+    private final long memoryLimit;
+    private final long timeoutNanos;
+    private long memory;
+
+    private final LongAdder reassembledCount;
+    private final LongAdder timeoutCount;
+    private final LongAdder evictCount;
+    private final LongAdder dropCount;
+
+    /**
+     * 재조립 객체 생성자
+     *
+     * @param memoryLimit 재조립 중인 패킷의 전체 메모리 한도 (바이트)
+     * @param timeout     재조립 제한 시간 (밀리초)
+     * @param counters    카운터를 등록할 계층 카운터 집합
+     */
+    Reassembler(long memoryLimit, long timeout, CounterSet counters) {
+        this.memoryLimit = memoryLimit;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeout);
+        this.reassembledCount = counters.counter("Reassembled");
+        this.timeoutCount = counters.counter("ReassemblyTimeouts");
+        this.evictCount = counters.counter("ReassemblyEvictions");
+        this.dropCount = counters.counter("ReassemblyDrops");
+        counters.gauge("ReassemblyMemory", this::getMemory);
+        counters.gauge("ReassemblyPending", this::getPendingCount);
+
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reassembly");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, timeout / 4);
+        executor.scheduleWithFixedDelay(() -> expire(System.nanoTime()), period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 조각 추가 메서드
+     *
+     * @param fragment 조각 IP 패킷 바이트 배열
+     * @return 마지막 조각으로 완성된 IP 패킷 바이트 배열, 완성되지 않았거나 버려진 경우 {@code null}
+     */
+    synchronized byte[] add(byte[] fragment) {
+        int headerLength = (fragment[0] & 0xF) * 4;
+        int totalLength = ICMP.getShort(fragment, 2);
+        int flags = ICMP.getShort(fragment, 6);
+        int first = (flags & Fragmenter.OFFSET_MASK) * 8;
+        int length = totalLength - headerLength;
+        int last = first + length - 1;
+        boolean more = (flags & Fragmenter.MORE_FRAGMENTS) != 0;
+        // 마지막 조각이 아닌 조각의 길이는 8 의 배수
+        if (headerLength < IP_HEADER_LENGTH || totalLength > fragment.length || length <= 0 || (more && (length & 7) != 0)
+                || headerLength + last >= MAX_PACKET_LENGTH) {
+            dropCount.increment();
+            return null;
+        }
+
+        Key key = new Key(((long) ICMP.getInt(fragment, 12) << 32) | (ICMP.getInt(fragment, 16) & 0xFFFFFFFFL),
+                (ICMP.getShort(fragment, 4) << 8) | (fragment[9] & 0xFF));
+        Datagram datagram = datagrams.get(key);
+        if (datagram == null) {
+            if (!reserve(DATAGRAM_OVERHEAD, null)) {
+                dropCount.increment();
+                return null;
+            }
+            datagram = new Datagram(System.nanoTime());
+            datagrams.put(key, datagram);
+        }
+
+        // 데이터 버퍼 확장, 마지막 조각이면 정확한 크기로 할당
+        int required = last + 1;
+        if (required > datagram.buffer.length) {
+            int capacity = more ? Math.min(MAX_PACKET_LENGTH, Math.max(required, datagram.buffer.length * 2)) : required;
+            if (!reserve(capacity - datagram.buffer.length, datagram)) {
+                remove(key);
+                dropCount.increment();
+                return null;
+            }
+            byte[] buffer = new byte[capacity];
+            System.arraycopy(datagram.buffer, 0, buffer, 0, datagram.buffer.length);
+            datagram.buffer = buffer;
+        }
+        System.arraycopy(fragment, headerLength, datagram.buffer, first, length);
+        if (first == 0) {
+            datagram.header = new byte[headerLength];
+            System.arraycopy(fragment, 0, datagram.header, 0, headerLength);
+        }
+
+        // 조각이 채운 빈 구간 갱신 (RFC 815)
+        List<int[]> holes = datagram.holes;
+        int holeCount = holes.size();
+        for (int index = holes.size() - 1; index >= 0; index--) {
+            int[] hole = holes.get(index);
+            if (first > hole[1] || last < hole[0]) {
+                continue;
+            }
+            holes.remove(index);
+            if (first > hole[0]) {
+                holes.add(new int[]{hole[0], first - 1});
+            }
+            if (last < hole[1] && more) {
+                holes.add(new int[]{last + 1, hole[1]});
+            }
+        }
+        if (!more) {
+            datagram.length = required;
+            // 마지막 조각 이후의 빈 구간 제거
+            holes.removeIf(hole -> hole[0] >= required);
+        }
+        int holeBytes = (holes.size() - holeCount) * HOLE_OVERHEAD;
+        if (holeBytes > 0 && !reserve(holeBytes, datagram)) {
+            remove(key);
+            dropCount.increment();
+            return null;
+        }
+        if (holeBytes < 0) {
+            memory += holeBytes;
+            datagram.reserved += holeBytes;
+        }
+        if (!holes.isEmpty() || datagram.header == null || datagram.length < 0) {
+            return null;
+        }
+
+        // 완성된 패킷 생성
+        remove(key);
+        byte[] header = datagram.header;
+        byte[] packet = new byte[header.length + datagram.length];
+        System.arraycopy(header, 0, packet, 0, header.length);
+        System.arraycopy(datagram.buffer, 0, packet, header.length, datagram.length);
+        ICMP.putShort(packet, 2, packet.length);
+        ICMP.putShort(packet, 6, ICMP.getShort(packet, 6) & ~(Fragmenter.MORE_FRAGMENTS | Fragmenter.OFFSET_MASK));
+        ICMP.putShort(packet, 10, 0);
+        ICMP.putShort(packet, 10, ICMP.checksum(packet, 0, header.length));
+        reassembledCount.increment();
+        return packet;
+    }
+
+    /**
+     * 메모리 예약 메서드
+     * <p>
+     * 한도를 넘을 경우 {@code current} 를 제외한 가장 오래된 패킷부터 버린다.
+     *
+     * @return 예약한 경우 {@code true}
+     */
+    private boolean reserve(int bytes, Datagram current) {
+        Iterator<Datagram> iterator = datagrams.values().iterator();
+        while (memory + bytes > memoryLimit && iterator.hasNext()) {
+            Datagram oldest = iterator.next();
+            if (oldest != current) {
+                iterator.remove();
+                memory -= oldest.reserved;
+                evictCount.increment();
+            }
+        }
+        if (memory + bytes > memoryLimit) {
+            return false;
+        }
+        memory += bytes;
+        if (current != null) {
+            current.reserved += bytes;
+        }
+        return true;
+    }
+
+    private void remove(Key key) {
+        Datagram datagram = datagrams.remove(key);
+        if (datagram != null) {
+            memory -= datagram.reserved;
+        }
+    }
+
+    /**
+     * 제한 시간이 지난 패킷 제거 메서드
+     *
+     * @param nanoTime 현재 시각 ({@link System#nanoTime()})
+     */
+    synchronized void expire(long nanoTime) {
+        Iterator<Datagram> iterator = datagrams.values().iterator();
+        while (iterator.hasNext()) {
+            Datagram datagram = iterator.next();
+            if (nanoTime - datagram.createdTime < timeoutNanos) {
+                // 이후 패킷은 모두 더 늦게 생성됨
+                break;
+            }
+            iterator.remove();
+            memory -= datagram.reserved;
+            timeoutCount.increment();
+        }
+    }
+
+    synchronized long getMemory() {
+        return memory;
+    }
+
+    synchronized long getPendingCount() {
+        return datagrams.size();
+    }
+
+    /**
+     * 재조립 Key
+     *
+     * @param addresses      출발지 주소 (상위 32 비트) 와 목적지 주소 (하위 32 비트)
+     * @param identification 식별자 (상위 16 비트) 와 프로토콜 (하위 8 비트)
+     */
+    private record Key(long addresses, int identification) {
+    }
+
+    /**
+     * 재조립 중인 패킷
+     */
+    private static final class Datagram {
+        private final long createdTime;
+        private final List<int[]> holes = new ArrayList<>(List.of(new int[]{0, Integer.MAX_VALUE}));
+        private byte[] buffer = new byte[0];
+        private byte[] header;
+        private int length = -1;
+
+        /**
+         * 예약된 메모리 (바이트)
+         */
+        private long reserved = DATAGRAM_OVERHEAD;
+
+        private Datagram(long createdTime) {
+            this.createdTime = createdTime;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package layer.internet;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Key 별 토큰 버킷 처리율 제한 클래스
+ * <p>
+ * 버킷마다 다음 토큰이 채워지는 이론적 시각 하나만 저장하는 GCRA 방식으로 구현하며, 잠금 없이 CAS 로 갱신한다.
+ * Key 는 고정된 개수의 버킷에 해시로 대응되므로 Key 가 아무리 많아도 메모리 사용량은 늘지 않고,
+ * 같은 버킷을 공유하는 Key 들은 처리율을 함께 나눈다.
+ */
+final class TokenBucket {
+
+    /**
+     * 토큰 하나가 채워지는 시간 (나노초)
+     */
+    private final long interval;
+
+    /**
+     * 버킷이 가득 찼을 때 한 번에 허용하는 토큰 수에 해당하는 시간 (나노초)
+     */
+    private final long tolerance;
+
+    private final AtomicLongArray arrivals;
+    private final int mask;
+
+    /**
+     * 토큰 버킷 객체 생성자
+     *
+     * @param rate    초당 채워지는 토큰 수
+     * @param burst   버킷 크기
+     * @param buckets 버킷 개수, 2의 거듭제곱으로 올림
+     */
+    TokenBucket(int rate, int burst, int buckets) {
+        if (rate <= 0 || burst <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("illegal token bucket: " + rate + "/" + burst + "/" + buckets);
+        }
+        int size = buckets == 1 ? 1 : Integer.highestOneBit(buckets - 1) << 1;
+        this.interval = 1_000_000_000L / rate;
+        this.tolerance = interval * burst;
+        this.arrivals = new AtomicLongArray(size);
+        this.mask = size - 1;
+        // 처음부터 모든 버킷이 가득 찬 상태
+        long initial = System.nanoTime() - tolerance;
+        for (int index = 0; index < size; index++) {
+            arrivals.set(index, initial);
+        }
+    }
+
+    /**
+     * 토큰 하나를 얻는 메서드
+     *
+     * @param key      버킷을 선택하는 Key
+     * @param nanoTime 현재 시각 ({@link System#nanoTime()})
+     * @return 토큰을 얻은 경우 {@code true}
+     */
+    boolean tryAcquire(int key, long nanoTime) {
+        int index = hash(key) & mask;
+        while (true) {
+            long arrival = arrivals.get(index);
+            // 가득 찬 버킷에는 토큰이 더 쌓이지 않음
+            long next = Math.max(arrival, nanoTime - tolerance) + interval;
+            if (next - nanoTime > 0) {
+                return false;
+            }
+            if (arrivals.compareAndSet(index, arrival, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+}
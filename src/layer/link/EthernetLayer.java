@@ -4,15 +4,39 @@ import data.address.Address;
 import data.address.MACAddress;
 import data.unit.frame.EthernetFrame;
 import launch.StaticRouterMain;
+import layer.Layer;
 import layer.LayerAdapter;
-import layer.application.SettingApp;
+import layer.controller.InterfaceContext;
 import layer.controller.LayerManager;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * 이더넷 계층 클래스
+ * <p>
+ * 수신된 프레임은 등록된 이더넷 타입만 담은 작은 처리 계층 테이블로 역다중화된다.
+ * 새로운 프로토콜은 {@link #registerHandler(int, Layer)} 로 처리 계층을 등록한다.
  */
 public class EthernetLayer extends LayerAdapter {
 
+    /**
+     * 등록된 이더넷 타입별 처리 계층 테이블
+     * <p>
+     * 등록이 변경될 때마다 새 테이블을 만들어 교체하므로 수신 스레드는 잠금 없이 읽는다.
+     */
+    private volatile HandlerTable handlers = HandlerTable.EMPTY;
+
+    /**
+     * 현재 스레드가 처리 중인 수신 프레임, 없을 경우 {@code null}
+     */
+    private static final ThreadLocal<byte[][]> receivedFrame = ThreadLocal.withInitial(() -> new byte[1][]);
+
+    private final LongAdder notForMeCount = getCounters().counter("NotForMe");
+    private final LongAdder broadcastCount = getCounters().counter("Broadcast");
+    private final LongAdder unknownTypeCount = getCounters().counter("UnknownType");
+    private final LongAdder replyCount = getCounters().counter("Replies");
+
     /**
      * 이더넷 계층 객체 생성자
      *
@@ -26,52 +50,129 @@ public class EthernetLayer extends LayerAdapter {
         super(layerName, layerNumber);
     }
 
+    @Override
+    protected void onCompile() {
+        Layer ipLayer = getUpperLayer(StaticRouterMain.IP, getLayerNumber());
+        if (ipLayer != null) {
+            registerHandler(EthernetFrame.Type.IP.value(), ipLayer);
+        }
+        Layer arpLayer = getUpperLayer(StaticRouterMain.ARP, getLayerNumber());
+        if (arpLayer != null) {
+            registerHandler(EthernetFrame.Type.ARP.value(), arpLayer);
+        }
+    }
+
     /**
-     * 기본 이더넷 프레임 생성 메서드
+     * 이더넷 타입 처리 계층 등록 메서드
+     *
+     * @param type    이더넷 타입 값 (0 ~ 0xFFFF)
+     * @param handler 해당 타입의 프레임 데이터를 수신할 계층
      */
-    private EthernetFrame createFrame(int layerNumberTo) {
-        SettingApp setting = (SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, layerNumberTo);
-        EthernetFrame frame = new EthernetFrame();
-        frame.setSource(setting.getMyMACAddress());
-        return frame;
+    public synchronized void registerHandler(int type, Layer handler) {
+        if (type < 0 || type > 0xFFFF) {
+            throw new IllegalArgumentException("illegal ethernet type: " + type);
+        }
+        handlers = handlers.with(type, handler, getCounters().counter(String.format("Type%04X", type)));
     }
 
     /**
-     * 이더넷 프레임의 송신자가 자기 자신인지 확인하는 메서드
+     * 이더넷 타입 처리 계층 제거 메서드
      *
-     * @param frame 이더넷 프레임
-     * @return {@code true} if frame is sent from me
+     * @param type 이더넷 타입 값 (0 ~ 0xFFFF)
      */
-    private boolean isMyFrame(int interfaceLayerFrom, EthernetFrame frame) {
-        return frame.getSource().equals(((SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, interfaceLayerFrom)).getMyMACAddress());
+    public synchronized void unregisterHandler(int type) {
+        if (type < 0 || type > 0xFFFF) {
+            throw new IllegalArgumentException("illegal ethernet type: " + type);
+        }
+        handlers = handlers.with(type, null, null);
+    }
+
+    /**
+     * 브로드캐스트 MAC 주소 정수 값
+     */
+    private static final long BROADCAST = MACAddress.BROADCAST.toLong();
+
+    public void send(int interfaceLayerTo, Address address, byte[] data, EthernetFrame.Type type) {
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerTo);
+        if (context == null) {
+            printError("interface not applied");
+            return;
+        }
+        EthernetFrame frame = new EthernetFrame();
+        frame.setSource(context.getMACAddress());
+        frame.setDestination((MACAddress) address);
+        frame.setType(type);
+        frame.setData(data, context.mtu());
+        byte[] bytes = frame.toBytes();
+        for (Layer layer : getUnderLayerArray()) {
+            layer.send(interfaceLayerTo, null, bytes);
+        }
     }
 
     /**
-     * 이더넷 프레임이 Broadcast 프레임인지 확인하는 메서드
+     * 현재 스레드가 처리 중인 수신 프레임의 송신자 MAC 주소 접근 메서드
+     * <p>
+     * 수신 프레임을 다른 스레드에서 이어서 처리하는 경우 처리 계층의 수신 메서드 안에서 미리 읽어 두어야 한다.
      *
-     * @param frame 이더넷 프레임
-     * @return {@code true} if frame is broadcast frame
+     * @return 송신자 MAC 주소 객체, 수신 프레임 처리 중이 아닐 경우 {@code null}
      */
-    private boolean isBroadcast(EthernetFrame frame) {
-        return frame.getDestination().equals(MACAddress.BROADCAST);
+    public static MACAddress getReceivedSource() {
+        byte[] frame = receivedFrame.get()[0];
+        return frame != null ? new MACAddress(Arrays.copyOfRange(frame, 6, 12)) : null;
     }
 
     /**
-     * 이더넷 프레임의 목적지가 자기 자신인지 확인하는 메서드
+     * 현재 스레드가 처리 중인 수신 프레임의 송신자에게 응답하는 메서드
+     * <p>
+     * 수신 프레임 바이트 배열에 응답 데이터를 덮어쓰고 MAC 주소를 바꾸어 그대로 송신하므로 새 프레임을 할당하지 않는다.
+     * 처리 계층의 수신 메서드 안에서만 호출할 수 있으며, 응답 데이터의 길이는 수신된 데이터와 같아야 한다.
      *
-     * @param frame 이더넷 프레임
-     * @return {@code true} if frame is sent to me
+     * @param interfaceLayerTo 송신에 사용될 계층 식별 번호
+     * @param data             응답 데이터 바이트 배열
+     * @return 송신한 경우 {@code true}
      */
-    private boolean isValid(int interfaceLayerFrom, EthernetFrame frame) {
-        return frame.getDestination().equals(((SettingApp) LayerManager.getInstance().get(StaticRouterMain.SETTING, interfaceLayerFrom)).getMyMACAddress());
+    public boolean reply(int interfaceLayerTo, byte[] data) {
+        byte[][] holder = receivedFrame.get();
+        byte[] frame = holder[0];
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerTo);
+        if (frame == null || context == null || frame.length != EthernetFrame.HEADER_LENGTH + data.length) {
+            return false;
+        }
+        // 프레임은 한 번만 응답에 사용
+        holder[0] = null;
+        System.arraycopy(frame, 6, frame, 0, 6);
+        MACAddress.write(context.macAddress(), frame, 6);
+        System.arraycopy(data, 0, frame, EthernetFrame.HEADER_LENGTH, data.length);
+        replyCount.increment();
+        for (Layer layer : getUnderLayerArray()) {
+            layer.send(interfaceLayerTo, null, frame);
+        }
+        return true;
     }
 
-    public void send(int interfaceLayerTo, Address address, byte[] data, EthernetFrame.Type type) {
-        EthernetFrame frame = createFrame(interfaceLayerTo);
-        frame.setDestination((MACAddress) address);
-        frame.setType(type);
-        frame.setData(data);
-        getUnderLayerList().forEach(layer -> layer.send(interfaceLayerTo, null, frame.toBytes()));
+    /**
+     * 앞에 이더넷 헤더 공간이 비어 있는 프레임 송신 메서드
+     * <p>
+     * 상위 계층이 헤더 공간을 두고 만든 배열에 헤더만 기록하여 그대로 송신하므로 데이터를 다시 복사하지 않는다.
+     *
+     * @param interfaceLayerTo 송신에 사용될 계층 식별 번호
+     * @param address          수신자 MAC 주소 객체
+     * @param frame            앞 {@link EthernetFrame#HEADER_LENGTH} 바이트가 비어 있는 프레임 바이트 배열
+     * @param type             이더넷 타입
+     */
+    public void sendFrame(int interfaceLayerTo, Address address, byte[] frame, EthernetFrame.Type type) {
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerTo);
+        if (context == null) {
+            printError("interface not applied");
+            return;
+        }
+        MACAddress.write(((MACAddress) address).toLong(), frame, 0);
+        MACAddress.write(context.macAddress(), frame, 6);
+        frame[12] = (byte) (type.value() >>> 8);
+        frame[13] = (byte) type.value();
+        for (Layer layer : getUnderLayerArray()) {
+            layer.send(interfaceLayerTo, null, frame);
+        }
     }
 
     @Override
@@ -87,34 +188,124 @@ public class EthernetLayer extends LayerAdapter {
      */
     @Override
     public void receive(int interfaceLayerFrom, byte[] data) {
-        // 수신된 바이트 배열을 프레임 객체로 캐스팅
-        EthernetFrame frame = new EthernetFrame(data);
-
-        if (!isMyFrame(interfaceLayerFrom, frame)) {
-            if (isBroadcast(frame)) {
-                // 브로드캐스트 프레임
-                if (frame.getType().equals(EthernetFrame.Type.IP)) {
-                    // IP 패킷일 경우
-                    getUpperLayer(StaticRouterMain.IP, getLayerNumber()).receive(interfaceLayerFrom, frame.getData());
-                } else if (frame.getType().equals(EthernetFrame.Type.ARP)) {
-                    // ARP 패킷일 경우
-                    getUpperLayer(StaticRouterMain.ARP, getLayerNumber()).receive(interfaceLayerFrom, frame.getData());
+        if (data.length < EthernetFrame.HEADER_LENGTH) {
+            return;
+        }
+
+        // 처리 계층이 없는 타입은 프레임 객체를 생성하지 않고 무시
+        HandlerTable table = handlers;
+        int slot = table.find(EthernetFrame.getType(data));
+        if (slot < 0) {
+            unknownTypeCount.increment();
+            return;
+        }
+        Layer handler = table.layers[slot];
+
+        InterfaceContext context = LayerManager.getInstance().getInterfaceContext(interfaceLayerFrom);
+        if (context == null) {
+            return;
+        }
+
+        long source = MACAddress.toLong(data, 6);
+        long destination = MACAddress.toLong(data, 0);
+        if (source == context.macAddress() || (destination != BROADCAST && destination != context.macAddress())) {
+            notForMeCount.increment();
+            return;
+        }
+        if (destination == BROADCAST) {
+            broadcastCount.increment();
+        }
+
+        // 브로드캐스트 프레임이거나 수신자가 자기 자신이므로 유효
+        table.counts[slot].increment();
+        byte[][] holder = receivedFrame.get();
+        holder[0] = data;
+        try {
+            handler.receive(interfaceLayerFrom, Arrays.copyOfRange(data, EthernetFrame.HEADER_LENGTH, data.length));
+        } finally {
+            holder[0] = null;
+        }
+    }
+
+    /**
+     * 이더넷 타입 처리 계층 테이블 클래스
+     * <p>
+     * 선형 탐사 방식의 불변 해시 테이블이며, 등록되는 타입이 몇 개뿐이므로 항상 절반 이하로 채워진다.
+     */
+    private static final class HandlerTable {
+
+        private static final HandlerTable EMPTY = new HandlerTable(new int[0], new Layer[0], new LongAdder[0]);
+
+        /**
+         * 슬롯별 이더넷 타입, 빈 슬롯은 -1
+         */
+        private final int[] types;
+        private final Layer[] layers;
+        private final LongAdder[] counts;
+        private final int mask;
+
+        private HandlerTable(int[] types, Layer[] layers, LongAdder[] counts) {
+            int capacity = Math.max(4, Integer.highestOneBit(Math.max(types.length, 1) * 4 - 1));
+            this.types = new int[capacity];
+            this.layers = new Layer[capacity];
+            this.counts = new LongAdder[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(this.types, -1);
+            for (int index = 0; index < types.length; index++) {
+                int slot = types[index] & mask;
+                while (this.types[slot] >= 0) {
+                    slot = (slot + 1) & mask;
+                }
+                this.types[slot] = types[index];
+                this.layers[slot] = layers[index];
+                this.counts[slot] = counts[index];
+            }
+        }
+
+        /**
+         * 이더넷 타입의 슬롯 검색 메서드
+         *
+         * @param type 이더넷 타입 값
+         * @return 슬롯 번호, 등록되지 않은 타입일 경우 -1
+         */
+        private int find(int type) {
+            for (int slot = type & mask; ; slot = (slot + 1) & mask) {
+                int value = types[slot];
+                if (value == type) {
+                    return slot;
+                }
+                if (value < 0) {
+                    return -1;
                 }
-            } else if (isValid(interfaceLayerFrom, frame)) {
-                // 수신자가 자기 자신이므로 유효
-                if (frame.getType().equals(EthernetFrame.Type.IP)) {
-                    // IP 패킷일 경우
-                    getUpperLayer(StaticRouterMain.IP, getLayerNumber()).receive(interfaceLayerFrom, frame.getData());
-                } else if (frame.getType().equals(EthernetFrame.Type.ARP)) {
-                    // ARP 패킷일 경우
-                    getUpperLayer(StaticRouterMain.ARP, getLayerNumber()).receive(interfaceLayerFrom, frame.getData());
+            }
+        }
+
+        /**
+         * 처리 계층을 추가, 교체 또는 제거한 새 테이블 생성 메서드
+         *
+         * @param type    이더넷 타입 값
+         * @param handler 처리 계층, 제거할 경우 {@code null}
+         * @param count   수신 카운터
+         * @return 새 테이블 객체
+         */
+        private HandlerTable with(int type, Layer handler, LongAdder count) {
+            int size = 0;
+            int[] newTypes = new int[types.length + 1];
+            Layer[] newLayers = new Layer[types.length + 1];
+            LongAdder[] newCounts = new LongAdder[types.length + 1];
+            for (int slot = 0; slot < types.length; slot++) {
+                if (types[slot] >= 0 && types[slot] != type) {
+                    newTypes[size] = types[slot];
+                    newLayers[size] = layers[slot];
+                    newCounts[size++] = counts[slot];
                 }
             }
+            if (handler != null) {
+                newTypes[size] = type;
+                newLayers[size] = handler;
+                newCounts[size++] = count;
+            }
+            return new HandlerTable(Arrays.copyOf(newTypes, size), Arrays.copyOf(newLayers, size), Arrays.copyOf(newCounts, size));
         }
-//        else {
-//            if (isBroadcast(frame) && frame.getType().equals(EthernetFrame.Type.ARP)) {
-//                getUpperLayer(StaticRouterMain.ARP, getLayerNumber()).receive(interfaceLayerFrom, frame.getData());
-//            }
-//        }
     }
 }
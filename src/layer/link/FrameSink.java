@@ -0,0 +1,27 @@
+package layer.link;
+
+/**
+ * 프레임 송신 장치 인터페이스
+ * <p>
+ * {@link NILayer} 의 송신 스레드가 송신 큐에서 꺼낸 프레임을 내보내는 대상이며, 네트워크 인터페이스에서는 Pcap 객체를 감싼다.
+ * 장치 없이 계층 구성을 측정하거나 시험할 때는 {@link NILayer#setSink(FrameSink)} 로 다른 구현을 연결한다.
+ */
+public interface FrameSink {
+
+    /**
+     * 프레임 송신 메서드
+     *
+     * @param data 송신할 프레임 바이트 배열
+     * @return 송신한 경우 {@code true}
+     */
+    boolean send(byte[] data);
+
+    /**
+     * 마지막 송신 실패 원인 반환 메서드
+     *
+     * @return 오류 메시지 문자열
+     */
+    default String getError() {
+        return "send failed";
+    }
+}
@@ -3,36 +3,194 @@ package layer.link;
 import data.address.Address;
 import data.address.IPAddress;
 import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
 import layer.Layer;
 import layer.LayerAdapter;
+import layer.controller.LatencyHistogram;
+import layer.controller.LogWriter;
+import layer.internet.FlowHash;
+import layer.link.capture.PcapRingWriter;
 import org.jnetpcap.*;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
 
 public class NILayer extends LayerAdapter {
 
-    private static final Set<PcapIf> interfaceSet = new HashSet<>();
+    /**
+     * jNetPcap 라이브러리 로드 여부
+     */
+    private static boolean libraryLoaded = false;
+
+    /**
+     * {@link Pcap#findAllDevs(List, StringBuilder)} 로 검색한 모든 장치 List
+     */
+    private static List<PcapIf> deviceList;
+
+    /**
+     * MAC 주소가 있는 모든 장치의 Wrapper List
+     */
+    private static List<PcapIfWrapper> interfaceList;
+
+    /**
+     * 송신 큐 크기 (프레임 개수)
+     */
+    private static final int EGRESS_QUEUE_CAPACITY = 4096;
+
+    /**
+     * 캡처 길이에 포함하는 802.1Q VLAN 태그 길이
+     */
+    private static final int VLAN_TAG_LENGTH = 4;
+
+    /**
+     * pcap 타임스탬프를 신뢰하는 최대 수신 지연 (마이크로초)
+     */
+    private static final long MAX_CAPTURE_DELAY_MICROS = TimeUnit.SECONDS.toMicros(1);
+
+    /**
+     * 수신 프레임을 나누어 처리할 작업 스레드 개수, 1 일 경우 수신 스레드에서 바로 처리
+     */
+    private static final int RECEIVE_WORKERS = Math.max(1, Integer.getInteger("ni.rx.workers", 1));
+
+    /**
+     * 작업 스레드별 수신 링 크기 (프레임 개수)
+     */
+    private static final int RECEIVE_RING_CAPACITY = Integer.getInteger("ni.rx.ring", 1024);
+
+    /**
+     * 작업 스레드가 링이 빈 경우 대기하기 전에 다시 확인하는 횟수
+     */
+    private static final int RECEIVE_SPIN_COUNT = 100;
+
+    /**
+     * 현재 스레드가 처리 중인 프레임의 수신 시각 ({@link System#nanoTime()}), 없을 경우 0
+     */
+    private static final ThreadLocal<long[]> receiveTime = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final StringBuilder errorStringBuilder = new StringBuilder();
+    private final BlockingQueue<byte[]> egressQueue = new ArrayBlockingQueue<>(EGRESS_QUEUE_CAPACITY);
+    private final LongAdder receiveCount = getCounters().counter("Received");
+    private final LongAdder transmitCount = getCounters().counter("Transmitted");
+    private final LongAdder sendErrorCount = getCounters().counter("SendErrors");
+    private final LongAdder egressDropCount = getCounters().counter("EgressDrops");
+    private final LongAdder steeringDropCount = getCounters().counter("SteeringDrops");
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private volatile LatencyHistogram.Snapshot latencySnapshot = latency.snapshot();
+    private volatile Pcap pcapObject;
+    private volatile FrameSink sink;
+    private PcapIf pcapInterface;
+    private Thread thread;
+    private Thread transmitThread;
+
+    /**
+     * 작업 스레드별 수신 링, 작업 스레드를 사용하지 않거나 시작되지 않은 경우 {@code null}
+     */
+    private volatile SpscRing[] receiveRings;
+    private Thread[] workerThreads;
+    private volatile PcapRingWriter capture;
+    private volatile long firstForwardTime;
+
+    /**
+     * 네트워크 인터페이스 계층 객체 생성자
+     *
+     * @param layerName   계층 이름 문자열
+     * @param layerNumber 계층 식별 번호
+     */
+    public NILayer(String layerName, int layerNumber) {
+        super(layerName, layerNumber);
+        getCounters().gauge("LatencyCount", () -> latencySnapshot.count());
+        getCounters().gauge("LatencyP50Nanos", () -> latencySnapshot.percentile(50));
+        getCounters().gauge("LatencyP99Nanos", () -> latencySnapshot.percentile(99));
+        getCounters().gauge("LatencyP999Nanos", () -> latencySnapshot.percentile(99.9));
+        getCounters().gauge("LatencyMaxNanos", () -> latencySnapshot.max());
+        getCounters().gauge("SteeringBacklog", this::getSteeringBacklog);
+        getCounters().gauge("CaptureDrops", () -> {
+            PcapRingWriter capture = this.capture;
+            return capture != null ? capture.getDropCount() : 0;
+        });
+        getCounters().gauge("CaptureRotationErrors", () -> {
+            PcapRingWriter capture = this.capture;
+            return capture != null ? capture.getRotationErrorCount() : 0;
+        });
+    }
 
-    static {
-        ////////////////////////////////////////////////////////////////////////
-        //////////////////////// jNetPcap Library Setup ////////////////////////
-        ////////////////////////////////////////////////////////////////////////
+    /**
+     * 현재 스레드가 처리 중인 프레임의 수신 시각 접근 메서드
+     *
+     * @return 수신 시각 ({@link System#nanoTime()}), 수신 프레임 처리 중이 아닐 경우 0
+     */
+    public static long getReceiveTime() {
+        return receiveTime.get()[0];
+    }
+
+    /**
+     * 현재 스레드가 처리 중인 프레임의 수신 시각 설정 메서드
+     * <p>
+     * 수신 프레임을 다른 스레드에서 이어서 처리하는 경우 해당 스레드에서 수신 시각을 다시 설정한다.
+     *
+     * @param nanoTime 수신 시각 ({@link System#nanoTime()}), 0 일 경우 지연 시간을 기록하지 않음
+     */
+    public static void setReceiveTime(long nanoTime) {
+        receiveTime.get()[0] = nanoTime;
+    }
+
+    /**
+     * 송신 지연 시간 히스토그램 접근 메서드
+     *
+     * @return 수신부터 이 인터페이스로 송신되기까지의 지연 시간 히스토그램
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latency;
+    }
+
+    /**
+     * 송신 지연 시간 히스토그램을 스냅샷으로 교체하고 출력하는 메서드
+     * <p>
+     * 스냅샷은 JMX 의 {@code Latency*} 속성으로 공개된다.
+     *
+     * @return 이번 주기의 스냅샷
+     */
+    public LatencyHistogram.Snapshot rollLatency() {
+        LatencyHistogram.Snapshot snapshot = latency.snapshotAndReset();
+        latencySnapshot = snapshot;
+        if (snapshot.count() > 0) {
+            print("latency " + snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * jNetPcap 네이티브 라이브러리 로드 메서드
+     * <p>
+     * 처음 호출될 때만 라이브러리를 준비하고 로드한다.
+     * {@link Pcap} 클래스가 스스로 {@code System.loadLibrary} 를 호출하므로 라이브러리는 실행 폴더에 위치해야 한다.
+     * JAR 항목의 CRC 를 파일 옆에 기록해 두고, 내용이 같으면 다시 복사하지 않는다.
+     */
+    public static synchronized void loadLibrary() {
+        if (libraryLoaded) {
+            return;
+        }
         try {
             String jNetPcap;
             String jNetPcapResource;
             String osName = System.getProperty("os.name").toLowerCase();
 
-            System.out.println("[NILayer] operating system : " + osName);
-
             if (osName.contains("win")) {
                 jNetPcap = "jnetpcap.dll";
                 jNetPcapResource = "native/windows/" + jNetPcap;
@@ -45,141 +203,292 @@ public class NILayer extends LayerAdapter {
 
             // Native Library File
             File jNetPcapFile = new File(jNetPcap);
-            // Try Copy Library from JAR to Launch Folder
-            try (InputStream inputStream = NILayer.class.getClassLoader().getResourceAsStream(jNetPcapResource)) {
-                if (inputStream != null) {
-                    jNetPcapFile.mkdirs();
-                    Files.copy(inputStream, jNetPcapFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
-                }
-            } catch (NullPointerException | IOException e) {
+            // Copy Library from JAR to Launch Folder only if its content changed
+            try {
+                extractLibrary(jNetPcapResource, jNetPcapFile);
+            } catch (IOException e) {
                 e.printStackTrace();
             }
 
             // Load Library
             System.load(jNetPcapFile.getAbsolutePath());
+            libraryLoaded = true;
 
             System.out.println("[NILayer] file loaded: " + jNetPcapFile.getName());
         } catch (UnsatisfiedLinkError e) {
             e.printStackTrace();
             System.exit(1);
         }
-        ////////////////////////////////////////////////////////////////////////
-        parseInterfaceSet();
     }
 
-    private final StringBuilder errorStringBuilder = new StringBuilder();
-    private Pcap pcapObject;
-    private PcapIf pcapInterface;
-    private Thread thread;
+    /**
+     * 네이티브 라이브러리 리소스를 파일로 복사하는 메서드
+     * <p>
+     * 리소스의 CRC32 값을 {@code <파일 이름>.crc} 에 기록하며, 기록된 값과 같으면 복사를 생략한다.
+     * JAR 내부 리소스의 경우 JAR 항목에 저장된 CRC 를 사용하므로 압축을 풀지 않고 비교할 수 있다.
+     *
+     * @param resource 라이브러리 리소스 경로
+     * @param file     복사될 라이브러리 파일
+     */
+    private static void extractLibrary(String resource, File file) throws IOException {
+        URL url = NILayer.class.getClassLoader().getResource(resource);
+        if (url == null) {
+            // JAR 로 실행되지 않은 경우 실행 폴더의 라이브러리 사용
+            return;
+        }
+
+        long crc;
+        URLConnection connection = url.openConnection();
+        if (connection instanceof JarURLConnection jarConnection && jarConnection.getJarEntry().getCrc() != -1) {
+            crc = jarConnection.getJarEntry().getCrc();
+        } else {
+            CRC32 crc32 = new CRC32();
+            try (InputStream inputStream = connection.getInputStream()) {
+                byte[] buffer = new byte[64 * 1024];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    crc32.update(buffer, 0, read);
+                }
+            }
+            crc = crc32.getValue();
+        }
+
+        String stamp = Long.toHexString(crc);
+        Path stampPath = Path.of(file.getPath() + ".crc");
+        if (file.exists() && Files.exists(stampPath) && stamp.equals(Files.readString(stampPath).trim())) {
+            // 이미 같은 내용의 라이브러리가 복사되어 있음
+            return;
+        }
+
+        try (InputStream inputStream = url.openStream()) {
+            Files.copy(inputStream, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.writeString(stampPath, stamp);
+    }
 
     /**
-     * 네트워크 인터페이스 계층 객체 생성자
+     * 모든 네트워크 장치를 검색하는 메서드
+     * <p>
+     * 검색 결과는 캐시되며, 장치별 하드웨어 주소 조회는 하지 않는다.
      *
-     * @param layerName   계층 이름 문자열
-     * @param layerNumber 계층 식별 번호
+     * @return 검색된 장치 List
      */
-    public NILayer(String layerName, int layerNumber) {
-        super(layerName, layerNumber);
+    private static synchronized List<PcapIf> getDeviceList() {
+        if (deviceList == null) {
+            loadLibrary();
+
+            List<PcapIf> list = new ArrayList<>();
+            StringBuilder errorStringBuilder = new StringBuilder();
+            int result = Pcap.findAllDevs(list, errorStringBuilder);
+            System.out.println("[NILayer] number of interface: " + list.size());
+
+            // 오류 확인
+            if (result != Pcap.OK || list.isEmpty()) {
+                System.err.println("network interface not found\n" + errorStringBuilder);
+                System.exit(1);
+            }
+            deviceList = list;
+        }
+        return deviceList;
     }
 
     /**
      * 이용 가능한 네트워크 인터페이스 리스트를 반환하는 메서드
+     * <p>
+     * 처음 호출될 때 모든 장치의 하드웨어 주소를 병렬로 조회하고, 이후에는 캐시된 결과를 반환한다.
      *
-     * @return 이용 가능한 네트워크 인터페이스 리스트
-     */
-    public static List<PcapIf> getInterfaceList() {
-        List<PcapIf> list = new ArrayList<>(interfaceSet);
-        list.sort((PcapIf o1, PcapIf o2) -> {
-            String s1 = o1.getDescription() != null ? o1.getDescription() : o1.getName();
-            String s2 = o2.getDescription() != null ? o2.getDescription() : o2.getName();
-            return s1.compareTo(s2);
-        });
-        return list;
+     * @return MAC 주소가 있는 네트워크 인터페이스 리스트
+     */
+    public static synchronized List<PcapIfWrapper> getInterfaceList() {
+        if (interfaceList == null) {
+            List<PcapIfWrapper> list = new ArrayList<>(getDeviceList().parallelStream()
+                    .map(PcapIfWrapper::probe)
+                    .filter(Objects::nonNull)
+                    .toList());
+            list.sort(Comparator.comparing(PcapIfWrapper::toString));
+            interfaceList = Collections.unmodifiableList(list);
+        }
+        return interfaceList;
     }
 
-    private static void parseInterfaceSet() {
-        // 지역 변수 선언
-        List<PcapIf> interfaceList = new ArrayList<>();
-        StringBuilder errorStringBuilder = new StringBuilder();
-
-        // 모든 장치 검색 및 리스트 추가
-        int result = Pcap.findAllDevs(interfaceList, errorStringBuilder);
-        System.out.println("[NILayer] number of interface: " + interfaceList.size());
+    /**
+     * 이름 또는 설명이 일치하는 네트워크 인터페이스를 찾는 메서드
+     * <p>
+     * 설정된 장치에 대해서만 하드웨어 주소를 병렬로 조회한다.
+     *
+     * @param devices 네트워크 장치 이름 또는 설명 Collection
+     * @return 장치 이름 또는 설명을 Key 로 하는 네트워크 인터페이스 Map, 찾지 못한 장치는 포함되지 않음
+     */
+    public static Map<String, PcapIfWrapper> findInterfaces(Collection<String> devices) {
+        List<PcapIf> list = getDeviceList();
+        Map<String, PcapIfWrapper> interfaceMap = new ConcurrentHashMap<>();
+        devices.parallelStream().distinct().forEach(device -> list.stream()
+                .filter(pcapIf -> device.equals(pcapIf.getName()) || device.equals(pcapIf.getDescription()))
+                .findFirst()
+                .map(PcapIfWrapper::probe)
+                .ifPresent(wrapper -> interfaceMap.put(device, wrapper)));
+        return interfaceMap;
+    }
 
-        // 가용한 장치들 중에서 MAC 주소가 있는 장치들 추리기
-        interfaceList.forEach(pcapInterface -> {
-            byte[] hardwareAddress = null;
-            try {
-                hardwareAddress = pcapInterface.getHardwareAddress();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-            if (hardwareAddress == null) {
-                System.err.println("no h/w address found \"" + pcapInterface.getDescription() + "\"");
-            } else {
-                interfaceSet.add(pcapInterface);
-                System.out.println(pcapInterface.getDescription());
-                pcapInterface.getAddresses().forEach(pcapAddr -> {
-                    if (pcapAddr.getAddr().getFamily() == PcapSockAddr.AF_INET) {
-                        System.out.println(pcapAddr);
-                    }
-                });
-                StringBuilder hexBuilder = new StringBuilder();
-                for (int index = 0; index < hardwareAddress.length; index++) {
-                    if (index % 8 == 0) {
-                        hexBuilder.append("[NILayer] ");
-                    }
-                    hexBuilder.append(String.format("%02X", hardwareAddress[index]));
-                    if (index + 1 < hardwareAddress.length) {
-                        hexBuilder.append((index + 1) % 8 != 0 ? " " : "\n");
-                    }
-                }
-                System.out.println(hexBuilder);
-            }
-        });
-        // 오류 확인
-        if (result != Pcap.OK || interfaceSet.isEmpty()) {
-            System.err.println("network interface not found\n" + errorStringBuilder);
-            System.exit(1);
-        }
+    /**
+     * 기본 MTU 로 네트워크 인터페이스를 설정하는 메서드
+     *
+     * @param pcapInterface 설정할 네트워크 인터페이스
+     */
+    public void setInterface(PcapIf pcapInterface) {
+        setInterface(pcapInterface, EthernetFrame.MTU);
     }
 
     /**
      * 네트워크 인터페이스 설정 메서드
      *
      * @param pcapInterface 설정할 네트워크 인터페이스
+     * @param mtu           인터페이스 MTU, 캡처 길이 계산에 사용
      */
-    public void setInterface(PcapIf pcapInterface) {
+    public void setInterface(PcapIf pcapInterface, int mtu) {
         // 네트워크 인터페이스 초기화
         resetInterface();
+        loadLibrary();
 
         // 네트워크 인터페이스 설정
         this.pcapInterface = pcapInterface;
 
         // 패킷 캡처 설정
-        pcapCapturePacket();
+        pcapCapturePacket(mtu);
+
+        // 패킷 수신 스레드 및 송신 스레드 설정
+        thread = new Thread(new ReceiveThread(pcapObject, this), this + "-rx");
+        setTransmitThread(pcapObject != null ? pcapSink(pcapObject) : null);
+    }
+
+    /**
+     * 네트워크 인터페이스 없이 송신 장치를 설정하는 메서드
+     * <p>
+     * 송신 큐, 송신 스레드, 카운터는 네트워크 인터페이스와 같이 동작하며, 수신 프레임은 {@link #dispatch(byte[], long)} 로 넣는다.
+     *
+     * @param sink 송신 큐에서 꺼낸 프레임을 내보낼 송신 장치
+     */
+    public void setSink(FrameSink sink) {
+        resetInterface();
+        setTransmitThread(sink);
+    }
+
+    private void setTransmitThread(FrameSink sink) {
+        this.sink = sink;
+        transmitThread = new Thread(new TransmitThread(sink, this), this + "-tx");
+        transmitThread.setDaemon(true);
+    }
+
+    /**
+     * Pcap 객체로 송신하는 송신 장치 생성 메서드
+     *
+     * @param pcapObject 송신할 Pcap 객체
+     * @return 송신 장치 객체
+     */
+    private static FrameSink pcapSink(Pcap pcapObject) {
+        return new FrameSink() {
+            @Override
+            public boolean send(byte[] data) {
+                return pcapObject.sendPacket(ByteBuffer.wrap(data)) == Pcap.OK;
+            }
+
+            @Override
+            public String getError() {
+                return pcapObject.getErr();
+            }
+        };
+    }
+
+    /**
+     * 송수신 프레임 캡처 설정 메서드
+     *
+     * @param capture 프레임을 기록할 pcap 링 기록 객체, {@code null} 일 경우 캡처 중단
+     */
+    public void setCapture(PcapRingWriter capture) {
+        this.capture = capture;
+    }
+
+    /**
+     * 첫 IP 프레임 송신 시각 접근 메서드
+     *
+     * @return 첫 IP 프레임을 송신한 {@link System#nanoTime()} 값, 송신한 적이 없을 경우 0
+     */
+    public long getFirstForwardTime() {
+        return firstForwardTime;
+    }
+
+    /**
+     * 송신 큐가 가득 차서 버려진 프레임 개수 접근 메서드
+     *
+     * @return 버려진 프레임 개수
+     */
+    public long getEgressDropCount() {
+        return egressDropCount.sum();
+    }
 
-        // 패킷 수신 스레드 설정
-        thread = new Thread(new ReceiveThread(pcapObject, this));
+    /**
+     * 작업 스레드의 수신 링에 쌓인 프레임 개수 반환 메서드
+     *
+     * @return 모든 수신 링에 쌓인 프레임 개수
+     */
+    private long getSteeringBacklog() {
+        SpscRing[] rings = receiveRings;
+        long backlog = 0;
+        if (rings != null) {
+            for (SpscRing ring : rings) {
+                backlog += ring.size();
+            }
+        }
+        return backlog;
     }
 
     /**
      * 설정된 네트워크 인터페이스 초기화 메서드
-     * 실행중인 수신 스레드를 중단하고 정리
+     * 실행중인 수신 스레드, 작업 스레드, 송신 스레드를 중단하고 송신 큐를 비운다
      */
     public void resetInterface() {
         if (thread != null) {
             thread.interrupt();
             thread = null;
         }
+        if (workerThreads != null) {
+            receiveRings = null;
+            for (Thread workerThread : workerThreads) {
+                workerThread.interrupt();
+            }
+            workerThreads = null;
+        }
+        if (transmitThread != null) {
+            transmitThread.interrupt();
+            transmitThread = null;
+        }
+        egressQueue.clear();
         pcapInterface = null;
         pcapObject = null;
+        sink = null;
     }
 
     /**
-     * 패킷 캡처 스레드 시작 메서드
+     * 패킷 캡처 스레드, 작업 스레드 및 송신 스레드 시작 메서드
+     * <p>
+     * 작업 스레드는 {@code ni.rx.workers} 시스템 속성이 2 이상일 때만 생성된다.
      */
     public void startCapture() {
+        if (transmitThread != null) {
+            transmitThread.start();
+        }
+        if (RECEIVE_WORKERS > 1 && workerThreads == null) {
+            SpscRing[] rings = new SpscRing[RECEIVE_WORKERS];
+            Thread[] threads = new Thread[RECEIVE_WORKERS];
+            for (int index = 0; index < RECEIVE_WORKERS; index++) {
+                rings[index] = new SpscRing(RECEIVE_RING_CAPACITY);
+                threads[index] = new Thread(new WorkerThread(rings[index], this), this + "-rx" + index);
+                threads[index].setDaemon(true);
+                threads[index].start();
+            }
+            workerThreads = threads;
+            receiveRings = rings;
+        }
         if (thread != null) {
             thread.start();
         }
@@ -187,29 +496,107 @@ public class NILayer extends LayerAdapter {
 
     /**
      * Pcap 라이브러리를 이용한 네트워크 프레임 캡처 설정 메서드
+     * <p>
+     * 캡처 길이는 MTU 크기의 프레임이 잘리지 않는 최소 길이로 설정하여 캡처 버퍼에서 프레임이 차지하는 공간을 MTU 에 맞춘다.
+     * MTU 보다 긴 프레임은 잘린 채로 수신되어 상위 계층에서 버려진다.
+     *
+     * @param mtu 인터페이스 MTU
      */
-    private void pcapCapturePacket() {
-        int snapLength = 64 * 1024; // Capture all packets, no truncation
+    private void pcapCapturePacket(int mtu) {
+        int snapLength = EthernetFrame.HEADER_LENGTH + VLAN_TAG_LENGTH + mtu; // MTU 크기까지 자르지 않고 캡처
         int flags = Pcap.MODE_PROMISCUOUS; // capture all packets
         int timeout = 10 * 1000; // 10 seconds in millis
         pcapObject = Pcap.openLive(pcapInterface.getName(), snapLength, flags, timeout, errorStringBuilder);
     }
 
+    /**
+     * 프레임 송신 메서드
+     * <p>
+     * 프레임을 인터페이스의 송신 큐에 넣고 바로 반환하므로 수신 스레드가 다른 인터페이스의 송신을 기다리지 않는다.
+     * 송신 큐가 가득 찬 경우 프레임은 버려진다.
+     */
     @Override
     public void send(int interfaceLayerTo, Address address, byte[] data) {
         if (this.getLayerNumber() != interfaceLayerTo) {
             return;
         }
-        ByteBuffer byteBuffer = ByteBuffer.wrap(data);
-        if (pcapObject.sendPacket(byteBuffer) != Pcap.OK) {
+        if (sink == null) {
+            printError("interface not set");
+            return;
+        }
+        if (!egressQueue.offer(data)) {
+            egressDropCount.increment();
+            return;
+        }
+        long receivedTime = getReceiveTime();
+        if (receivedTime != 0) {
+            latency.record(System.nanoTime() - receivedTime);
+        }
+    }
+
+    /**
+     * 프레임을 네트워크 인터페이스로 송신하는 메서드
+     *
+     * @param sink 송신 장치 객체
+     * @param data 송신할 프레임 바이트 배열
+     */
+    private void transmit(FrameSink sink, byte[] data) {
+        PcapRingWriter capture = this.capture;
+        if (capture != null) {
+            capture.write(data);
+        }
+        if (!sink.send(data)) {
             // 전송 실패시 오류 출력
-            printError(pcapObject.getErr());
+            sendErrorCount.increment();
+            printError(sink.getError());
+            return;
+        }
+        transmitCount.increment();
+        if (firstForwardTime == 0 && data.length > 14 && data[12] == 0x08 && data[13] == 0x00) {
+            // 시작 시간 측정을 위한 첫 IP 프레임 송신 시각 기록
+            firstForwardTime = System.nanoTime();
         }
     }
 
     @Override
     public void receive(int interfaceLayerFrom, byte[] data) {
-        getUpperLayerList().forEach(layer -> layer.receive(interfaceLayerFrom, data));
+        receiveCount.increment();
+        for (Layer layer : getUpperLayerArray()) {
+            layer.receive(interfaceLayerFrom, data);
+        }
+    }
+
+    /**
+     * 수신 프레임 분배 메서드
+     * <p>
+     * 작업 스레드가 없으면 호출한 스레드에서 바로 처리하고, 있으면 IPv4 프레임의 흐름 해시로 작업 스레드를 선택하여 그 링에 넣는다.
+     * 같은 흐름의 프레임은 항상 같은 작업 스레드에서 수신 순서대로 처리되며, IPv4 가 아닌 프레임은 첫 작업 스레드가 처리한다.
+     * 작업 스레드의 링이 가득 찬 경우 프레임은 버려진다.
+     * 링은 생산자가 하나일 때만 안전하므로 인터페이스의 수신 스레드 하나에서만 호출해야 한다.
+     *
+     * @param data        수신된 프레임 바이트 배열
+     * @param receiveTime 수신 시각 ({@link System#nanoTime()})
+     */
+    public void dispatch(byte[] data, long receiveTime) {
+        SpscRing[] rings = receiveRings;
+        if (rings == null) {
+            setReceiveTime(receiveTime);
+            try {
+                receive(getLayerNumber(), data);
+            } finally {
+                setReceiveTime(0);
+            }
+            return;
+        }
+        int worker = 0;
+        if (data.length >= EthernetFrame.HEADER_LENGTH + 20 && data[12] == 0x08 && data[13] == 0x00) {
+            int length = Math.min(((data[16] & 0xFF) << 8) | (data[17] & 0xFF), data.length - EthernetFrame.HEADER_LENGTH);
+            // 하위 비트로 선택하여 상위 비트로 선택하는 ECMP 경로와 상관관계를 갖지 않게 함
+            worker = Integer.remainderUnsigned(FlowHash.compute(data, EthernetFrame.HEADER_LENGTH, length), rings.length);
+        }
+        if (!rings[worker].offer(data, receiveTime)) {
+            steeringDropCount.increment();
+        }
     }
 
     /**
@@ -217,28 +604,36 @@ public class NILayer extends LayerAdapter {
      */
     private static class ReceiveThread implements Runnable {
         private final Pcap pcapObject;
-        private final Layer layer;
+        private final NILayer layer;
         private byte[] data;
 
-        public ReceiveThread(Pcap pcapObject, Layer layer) {
+        public ReceiveThread(Pcap pcapObject, NILayer layer) {
             this.pcapObject = pcapObject;
             this.layer = layer;
         }
 
         @Override
         public void run() {
-            System.out.printf("[%s] %s started\n", layer.getLayerName(), Thread.currentThread().getName());
+            layer.print(LogWriter.Level.INFO, "%s started", Thread.currentThread().getName());
             // 핸들러 설정
             ByteBufferHandler<String> byteBufferHandler = (header, buffer, user) -> {
                 data = new byte[buffer.capacity()];
                 buffer.get(data);
-                layer.receive(layer.getLayerNumber(), data);
+                PcapRingWriter capture = layer.capture;
+                if (capture != null) {
+                    capture.write(header.timestampInMicros(), data, 0, data.length);
+                }
+                // 커널 캡처 시각부터의 지연을 반영한 수신 시각
+                Instant now = Instant.now();
+                long delayMicros = now.getEpochSecond() * 1_000_000L + now.getNano() / 1_000 - header.timestampInMicros();
+                long nanoTime = System.nanoTime();
+                layer.dispatch(data, delayMicros > 0 && delayMicros < MAX_CAPTURE_DELAY_MICROS ? nanoTime - delayMicros * 1_000 : nanoTime);
             };
             // 스레드 중단 요청을 받기 전까지 계속 캡처 후 설정된 계층으로 데이터 송신
             while (!Thread.interrupted()) {
                 try {
                     if (pcapObject == null) {
-                        System.err.printf("[%s] %s pcapObject is null\n", layer.getLayerName(), Thread.currentThread().getName());
+                        layer.print(LogWriter.Level.ERROR, "%s pcapObject is null", Thread.currentThread().getName());
                         return;
                     }
                     pcapObject.loop(1, byteBufferHandler, "");
@@ -247,7 +642,83 @@ public class NILayer extends LayerAdapter {
                     e.printStackTrace();
                 }
             }
-            System.out.printf("[%s] %s interrupted\n", layer.getLayerName(), Thread.currentThread().getName());
+            layer.print(LogWriter.Level.INFO, "%s interrupted", Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * 수신 프레임 작업 스레드 클래스
+     * <p>
+     * 수신 스레드가 분배한 프레임을 링에서 꺼내어 상위 계층으로 전달한다.
+     * 링이 비면 잠시 다시 확인한 뒤 프레임이 추가될 때까지 대기한다.
+     */
+    private static class WorkerThread implements Runnable {
+        private final SpscRing ring;
+        private final NILayer layer;
+
+        public WorkerThread(SpscRing ring, NILayer layer) {
+            this.ring = ring;
+            this.layer = layer;
+        }
+
+        @Override
+        public void run() {
+            layer.print(LogWriter.Level.INFO, "%s started", Thread.currentThread().getName());
+            SpscRing.Handler handler = (frame, receiveTime) -> {
+                setReceiveTime(receiveTime);
+                try {
+                    layer.receive(layer.getLayerNumber(), frame);
+                } catch (Exception e) {
+                    // Exception 출력 후 무시
+                    e.printStackTrace();
+                } finally {
+                    setReceiveTime(0);
+                }
+            };
+            int idle = 0;
+            while (!Thread.interrupted()) {
+                if (ring.drain(handler, 64) > 0) {
+                    idle = 0;
+                } else if (++idle < RECEIVE_SPIN_COUNT) {
+                    Thread.onSpinWait();
+                } else {
+                    ring.await(TimeUnit.MILLISECONDS.toNanos(1));
+                }
+            }
+            layer.print(LogWriter.Level.INFO, "%s interrupted", Thread.currentThread().getName());
+        }
+    }
+
+    /**
+     * 프레임 송신 스레드 클래스
+     * <p>
+     * 인터페이스의 송신 큐에 쌓인 프레임을 한 번에 꺼내어 순서대로 송신한다.
+     */
+    private static class TransmitThread implements Runnable {
+        private final FrameSink sink;
+        private final NILayer layer;
+
+        public TransmitThread(FrameSink sink, NILayer layer) {
+            this.sink = sink;
+            this.layer = layer;
+        }
+
+        @Override
+        public void run() {
+            layer.print(LogWriter.Level.INFO, "%s started", Thread.currentThread().getName());
+            List<byte[]> batch = new ArrayList<>(64);
+            try {
+                while (!Thread.interrupted()) {
+                    batch.add(layer.egressQueue.take());
+                    layer.egressQueue.drainTo(batch, 63);
+                    for (byte[] data : batch) {
+                        layer.transmit(sink, data);
+                    }
+                    batch.clear();
+                }
+            } catch (InterruptedException ignored) {
+            }
+            layer.print(LogWriter.Level.INFO, "%s interrupted", Thread.currentThread().getName());
         }
     }
 
@@ -260,21 +731,18 @@ public class NILayer extends LayerAdapter {
         private final IPAddress destination;
 
         public PcapIfWrapper(PcapIf pcapIf) {
+            this(pcapIf, getHardwareAddress(pcapIf));
+        }
+
+        private PcapIfWrapper(PcapIf pcapIf, byte[] hardwareAddress) {
             this.pcapIf = pcapIf;
 
             IPAddress tempIP = null;
             IPAddress tempMask = null;
             IPAddress tempDest = null;
-            MACAddress tempMAC;
 
             // MAC Address
-            try {
-                tempMAC = new MACAddress(pcapIf.getHardwareAddress());
-            } catch (IOException e) {
-                e.printStackTrace();
-                tempMAC = MACAddress.ZERO;
-            }
-            macAddress = tempMAC;
+            macAddress = hardwareAddress != null ? new MACAddress(hardwareAddress) : MACAddress.ZERO;
 
             // IP Address
             for (PcapAddr pcapAddr : pcapIf.getAddresses()) {
@@ -295,6 +763,36 @@ public class NILayer extends LayerAdapter {
             destination = tempDest;
         }
 
+        /**
+         * 장치의 하드웨어 주소를 조회하는 메서드
+         *
+         * @param pcapIf 조회할 장치
+         * @return 하드웨어 주소 바이트 배열, 없을 경우 {@code null}
+         */
+        private static byte[] getHardwareAddress(PcapIf pcapIf) {
+            try {
+                return pcapIf.getHardwareAddress();
+            } catch (IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        /**
+         * 하드웨어 주소가 있는 장치만 Wrapper 로 생성하는 메서드
+         *
+         * @param pcapIf 조회할 장치
+         * @return 장치 Wrapper, 하드웨어 주소가 없을 경우 {@code null}
+         */
+        private static PcapIfWrapper probe(PcapIf pcapIf) {
+            byte[] hardwareAddress = getHardwareAddress(pcapIf);
+            if (hardwareAddress == null) {
+                System.err.println("no h/w address found \"" + pcapIf.getDescription() + "\"");
+                return null;
+            }
+            return new PcapIfWrapper(pcapIf, hardwareAddress);
+        }
+
         public PcapIf get() {
             return pcapIf;
         }
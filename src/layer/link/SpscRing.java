@@ -0,0 +1,135 @@
+package layer.link;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 단일 생산자 단일 소비자 프레임 링 버퍼 클래스
+ * <p>
+ * 생산자(수신 스레드)와 소비자(작업 스레드)가 각각 하나일 때만 안전하며, 잠금이나 CAS 없이 두 위치 값의 순서만으로 동기화한다.
+ * 생산자는 소비자 위치를 캐시해 두고 링이 가득 찬 것처럼 보일 때만 다시 읽는다.
+ * 프레임과 함께 수신 시각을 저장하여 작업 스레드에서도 지연 시간을 측정할 수 있게 한다.
+ */
+final class SpscRing {
+
+    /**
+     * 프레임 처리 인터페이스
+     */
+    @FunctionalInterface
+    interface Handler {
+        void handle(byte[] frame, long receiveTime);
+    }
+
+    private final byte[][] frames;
+    private final long[] receiveTimes;
+    private final int mask;
+
+    /**
+     * 소비자가 다음에 꺼낼 위치
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 생산자가 다음에 넣을 위치
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 생산자가 마지막으로 읽은 소비자 위치
+     */
+    private long cachedHead;
+
+    /**
+     * 링이 비어 대기 중인 소비자 스레드, 없을 경우 {@code null}
+     */
+    private volatile Thread waiter;
+
+    /**
+     * 링 버퍼 객체 생성자
+     *
+     * @param capacity 프레임 개수, 2의 거듭제곱으로 올림
+     */
+    SpscRing(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+        frames = new byte[size][];
+        receiveTimes = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * 프레임 추가 메서드 (생산자 전용)
+     *
+     * @param frame       프레임 바이트 배열
+     * @param receiveTime 수신 시각 ({@link System#nanoTime()})
+     * @return 추가한 경우 {@code true}, 링이 가득 찬 경우 {@code false}
+     */
+    boolean offer(byte[] frame, long receiveTime) {
+        long position = tail.getPlain();
+        if (position - cachedHead >= frames.length) {
+            cachedHead = head.getAcquire();
+            if (position - cachedHead >= frames.length) {
+                return false;
+            }
+        }
+        int index = (int) position & mask;
+        frames[index] = frame;
+        receiveTimes[index] = receiveTime;
+        // 대기 여부를 읽기 전에 위치를 게시해야 하므로 volatile 쓰기 사용
+        tail.set(position + 1);
+
+        Thread thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * 쌓인 프레임을 순서대로 처리하는 메서드 (소비자 전용)
+     *
+     * @param handler 프레임 처리 객체
+     * @param limit   한 번에 처리할 최대 프레임 개수
+     * @return 처리한 프레임 개수
+     */
+    int drain(Handler handler, int limit) {
+        long position = head.getPlain();
+        long available = Math.min(tail.getAcquire() - position, limit);
+        for (long count = 0; count < available; count++) {
+            int index = (int) position & mask;
+            byte[] frame = frames[index];
+            frames[index] = null;
+            position++;
+            try {
+                handler.handle(frame, receiveTimes[index]);
+            } finally {
+                // 처리 중 예외가 발생해도 슬롯은 반환
+                head.setRelease(position);
+            }
+        }
+        return (int) available;
+    }
+
+    /**
+     * 링이 빈 경우 프레임이 추가될 때까지 대기하는 메서드 (소비자 전용)
+     *
+     * @param nanos 최대 대기 시간 (나노초)
+     */
+    void await(long nanos) {
+        waiter = Thread.currentThread();
+        // 대기 등록 후 다시 확인하여 등록 직전에 추가된 프레임을 놓치지 않음
+        if (tail.get() == head.getPlain()) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        waiter = null;
+    }
+
+    /**
+     * 링에 쌓인 프레임 개수 반환 메서드
+     *
+     * @return 프레임 개수 (근사값)
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+}
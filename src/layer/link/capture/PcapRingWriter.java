@@ -0,0 +1,353 @@
+package layer.link.capture;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import layer.controller.LogWriter;
+
+/**
+ * 메모리 매핑된 pcap 파일 링 기록 클래스
+ * <p>
+ * 미리 할당된 고정 크기 작업 파일({@code .ring})들을 순환하며 프레임을 기록한다.
+ * 기록 위치는 CAS 로 예약한 뒤 매핑된 버퍼의 절대 위치에 복사하므로 기록 경로에 잠금이 없다.
+ * 파일이 가득 차거나 설정된 시간이 지나면 다음 파일로 교체(rotation)되며,
+ * 교체된 작업 파일의 기록된 부분만 같은 번호의 {@code .pcap} 파일로 복사한다.
+ * 매핑된 파일을 자르지 않으므로 운영체제와 관계없이 작업 파일의 크기와 미리 할당된 공간이 유지되고,
+ * 완성된 pcap 파일에는 이전 순환의 레코드가 남지 않는다.
+ * 교체에 실패하면 오류를 기록하고, 재시도 주기가 지날 때까지 프레임을 버리며 개수를 센다.
+ */
+public class PcapRingWriter implements Closeable {
+
+    /**
+     * pcap 전역 헤더 길이
+     */
+    private static final int GLOBAL_HEADER_LENGTH = 24;
+
+    /**
+     * pcap 레코드 헤더 길이
+     */
+    private static final int RECORD_HEADER_LENGTH = 16;
+
+    /**
+     * 봉인된 세그먼트의 예약 위치 (항상 용량을 넘어서도록 설정)
+     */
+    private static final long SEALED = Long.MAX_VALUE / 2;
+
+    /**
+     * Ethernet 링크 타입 (LINKTYPE_ETHERNET)
+     */
+    private static final int LINKTYPE_ETHERNET = 1;
+
+    /**
+     * 교체 실패 후 다시 교체를 시도하기까지의 시간 (마이크로초)
+     */
+    private static final long RETRY_MICROS = TimeUnit.SECONDS.toMicros(1);
+
+    private final Path directory;
+    private final String prefix;
+    private final int fileCount;
+    private final int fileSize;
+    private final long rotateMicros;
+    private final int snapLength;
+
+    private volatile Segment current;
+    private int nextIndex;
+    private boolean closed;
+
+    /**
+     * 교체 실패 후 다시 시도할 시각 (epoch 마이크로초)
+     */
+    private volatile long retryMicros;
+
+    private final LongAdder dropCount = new LongAdder();
+    private final LongAdder rotationErrorCount = new LongAdder();
+
+    /**
+     * pcap 링 기록 객체 생성자
+     *
+     * @param directory     pcap 파일을 저장할 디렉터리
+     * @param prefix        pcap 파일 이름 접두사
+     * @param fileCount     링을 구성하는 파일 개수
+     * @param fileSize      파일 하나의 최대 바이트 크기
+     * @param rotateSeconds 시간 기반 교체 주기 (초), 0 이하일 경우 크기 기반 교체만 사용
+     * @param snapLength    레코드 하나에 기록할 최대 프레임 길이
+     */
+    public PcapRingWriter(Path directory, String prefix, int fileCount, int fileSize, long rotateSeconds, int snapLength) throws IOException {
+        if (fileCount < 1 || fileSize < GLOBAL_HEADER_LENGTH + RECORD_HEADER_LENGTH) {
+            throw new IllegalArgumentException("illegal ring size");
+        }
+        this.directory = directory;
+        this.prefix = prefix;
+        this.fileCount = fileCount;
+        this.fileSize = fileSize;
+        this.rotateMicros = rotateSeconds > 0 ? TimeUnit.SECONDS.toMicros(rotateSeconds) : Long.MAX_VALUE;
+        this.snapLength = snapLength;
+
+        // 링 작업 파일 미리 할당
+        Files.createDirectories(directory);
+        for (int index = 0; index < fileCount; index++) {
+            try (FileChannel channel = FileChannel.open(ringPath(index), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                if (channel.size() < fileSize) {
+                    channel.write(ByteBuffer.allocate(1), fileSize - 1);
+                }
+            }
+        }
+
+        current = openSegment(currentMicros());
+    }
+
+    /**
+     * 현재 시각을 마이크로초 단위로 반환하는 메서드
+     *
+     * @return 현재 시각 (epoch 마이크로초)
+     */
+    public static long currentMicros() {
+        return TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+    }
+
+    /**
+     * 프레임 기록 메서드
+     *
+     * @param data 기록할 프레임 바이트 배열
+     */
+    public void write(byte[] data) {
+        write(currentMicros(), data, 0, data.length);
+    }
+
+    /**
+     * 프레임 기록 메서드
+     * <p>
+     * 기록 위치를 예약하고 매핑된 버퍼에 직접 복사한다.
+     * 현재 파일에 공간이 없거나 교체 시간이 지난 경우에만 교체 경로로 진입한다.
+     *
+     * @param timestampMicros 프레임 타임스탬프 (epoch 마이크로초)
+     * @param data            기록할 프레임 바이트 배열
+     * @param offset          프레임 시작 위치
+     * @param length          프레임 길이
+     */
+    public void write(long timestampMicros, byte[] data, int offset, int length) {
+        int capturedLength = Math.min(length, snapLength);
+        int recordLength = RECORD_HEADER_LENGTH + capturedLength;
+        if (GLOBAL_HEADER_LENGTH + recordLength > fileSize) {
+            // 파일 하나에 들어갈 수 없는 레코드
+            dropCount.increment();
+            return;
+        }
+
+        while (true) {
+            Segment segment = current;
+            if (segment == null) {
+                // 닫힌 기록 객체 또는 교체 실패 후 재시도 대기
+                if (closed || timestampMicros - retryMicros < 0) {
+                    dropCount.increment();
+                    return;
+                }
+                rotate(null, timestampMicros);
+                if (current == null) {
+                    dropCount.increment();
+                    return;
+                }
+                continue;
+            }
+            if (timestampMicros - segment.startMicros < rotateMicros) {
+                long position = segment.reserve(recordLength);
+                if (position >= 0) {
+                    try {
+                        segment.putRecord((int) position, timestampMicros, data, offset, capturedLength, length);
+                    } finally {
+                        segment.written.addAndGet(recordLength);
+                    }
+                    return;
+                }
+            }
+            rotate(segment, timestampMicros);
+        }
+    }
+
+    /**
+     * 파일 교체 메서드
+     * <p>
+     * 다른 스레드가 이미 교체한 경우 아무것도 하지 않는다.
+     * 실패한 경우 오류를 기록하고 {@link #RETRY_MICROS} 뒤의 기록에서 다음 파일로 다시 시도한다.
+     *
+     * @param expected        교체 대상 세그먼트, 교체 실패 후 재시도일 경우 {@code null}
+     * @param timestampMicros 새 세그먼트의 시작 시각
+     */
+    private synchronized void rotate(Segment expected, long timestampMicros) {
+        if (closed || current != expected) {
+            return;
+        }
+        current = null;
+        try {
+            if (expected != null) {
+                expected.seal();
+            }
+            current = openSegment(timestampMicros);
+        } catch (IOException e) {
+            rotationErrorCount.increment();
+            retryMicros = timestampMicros + RETRY_MICROS;
+            LogWriter.getInstance().log(LogWriter.Level.ERROR, "PcapRingWriter", 0, "%s rotation failed (%d errors): %s",
+                    new Object[]{prefix, rotationErrorCount.sum(), e});
+        }
+    }
+
+    /**
+     * 기록하지 못하고 버린 프레임 개수 접근 메서드
+     *
+     * @return 닫힌 후 또는 교체 실패로 버려진 프레임 개수
+     */
+    public long getDropCount() {
+        return dropCount.sum();
+    }
+
+    /**
+     * 파일 교체 실패 횟수 접근 메서드
+     *
+     * @return 교체 실패 횟수
+     */
+    public long getRotationErrorCount() {
+        return rotationErrorCount.sum();
+    }
+
+    /**
+     * 링의 다음 작업 파일을 매핑하고 pcap 전역 헤더를 기록하는 메서드
+     *
+     * @param timestampMicros 세그먼트 시작 시각
+     * @return 새 세그먼트 객체
+     */
+    private Segment openSegment(long timestampMicros) throws IOException {
+        int index = nextIndex;
+        nextIndex = (nextIndex + 1) % fileCount;
+
+        FileChannel channel = FileChannel.open(ringPath(index), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        buffer.order(ByteOrder.nativeOrder());
+
+        // pcap 전역 헤더
+        buffer.putInt(0, 0xA1B2C3D4);
+        buffer.putShort(4, (short) 2);
+        buffer.putShort(6, (short) 4);
+        buffer.putInt(8, 0);
+        buffer.putInt(12, 0);
+        buffer.putInt(16, snapLength);
+        buffer.putInt(20, LINKTYPE_ETHERNET);
+
+        return new Segment(channel, buffer, fileSize, timestampMicros, path(index));
+    }
+
+    private Path ringPath(int index) {
+        return directory.resolve(String.format("%s-%02d.ring", prefix, index));
+    }
+
+    private Path path(int index) {
+        return directory.resolve(String.format("%s-%02d.pcap", prefix, index));
+    }
+
+    /**
+     * 현재 파일을 봉인하고 기록을 종료하는 메서드
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Segment segment = current;
+        current = null;
+        if (segment != null) {
+            segment.seal();
+        }
+    }
+
+    /**
+     * 매핑된 pcap 파일 하나를 나타내는 클래스
+     */
+    private static class Segment {
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private final int capacity;
+        private final long startMicros;
+        private final Path target;
+        private final AtomicLong position = new AtomicLong(GLOBAL_HEADER_LENGTH);
+
+        /**
+         * 기록을 마친 바이트 길이, 봉인 시 예약된 레코드가 모두 기록되기를 기다리는 데 사용
+         */
+        private final AtomicLong written = new AtomicLong(GLOBAL_HEADER_LENGTH);
+
+        private Segment(FileChannel channel, MappedByteBuffer buffer, int capacity, long startMicros, Path target) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.capacity = capacity;
+            this.startMicros = startMicros;
+            this.target = target;
+        }
+
+        /**
+         * 레코드 기록 위치 예약 메서드
+         *
+         * @param length 예약할 바이트 길이
+         * @return 예약된 위치, 공간이 없을 경우 -1
+         */
+        private long reserve(int length) {
+            long current;
+            do {
+                current = position.get();
+                if (current + length > capacity) {
+                    return -1;
+                }
+            } while (!position.compareAndSet(current, current + length));
+            return current;
+        }
+
+        /**
+         * 예약된 위치에 pcap 레코드를 기록하는 메서드
+         */
+        private void putRecord(int position, long timestampMicros, byte[] data, int offset, int capturedLength, int originalLength) {
+            buffer.putInt(position, (int) (timestampMicros / 1_000_000L));
+            buffer.putInt(position + 4, (int) (timestampMicros % 1_000_000L));
+            buffer.putInt(position + 8, capturedLength);
+            buffer.putInt(position + 12, originalLength);
+            buffer.put(position + RECORD_HEADER_LENGTH, data, offset, capturedLength);
+        }
+
+        /**
+         * 세그먼트 봉인 메서드
+         * <p>
+         * 이후의 예약은 모두 실패하며, 이미 예약된 레코드의 기록이 끝나면 작업 파일의 기록된 부분을 pcap 파일로 복사한다.
+         * 복사는 임시 파일에 한 뒤 이름을 바꾸므로 읽는 쪽에는 완성된 파일만 보인다.
+         */
+        private void seal() throws IOException {
+            long used = position.getAndSet(SEALED);
+            while (written.get() != used) {
+                Thread.onSpinWait();
+            }
+            Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            try (FileChannel output = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                // 매핑과 같은 페이지 캐시를 읽으므로 force 없이 기록된 내용이 복사됨
+                long copied = 0;
+                while (copied < used) {
+                    long count = channel.transferTo(copied, used - copied, output);
+                    if (count <= 0) {
+                        throw new IOException("short copy to " + temporary);
+                    }
+                    copied += count;
+                }
+            } finally {
+                channel.close();
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
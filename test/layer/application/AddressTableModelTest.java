@@ -0,0 +1,126 @@
+package layer.application;
+
+import data.address.IPAddress;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.TableModelEvent;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AddressTableModelTest {
+
+    private static AddressTableModel model() {
+        return new AddressTableModel(new String[]{"IP 주소", "값"});
+    }
+
+    private static List<String> keys(AddressTableModel model) {
+        List<String> keys = new ArrayList<>();
+        for (int row = 0; row < model.getRowCount(); row++) {
+            keys.add(model.getKey(row).toString());
+        }
+        return keys;
+    }
+
+    private static void put(AddressTableModel model, String address, String value) {
+        IPAddress key = new IPAddress(address);
+        model.put(key, key, value);
+    }
+
+    @Test
+    void filtersByNetworkInAddressOrder() {
+        AddressTableModel model = model();
+        put(model, "10.0.0.9", "a");
+        put(model, "192.168.0.1", "b");
+        put(model, "10.0.0.2", "c");
+        put(model, "10.0.1.1", "d");
+        put(model, "255.255.255.255", "e");
+        model.apply();
+
+        model.setFilter(AddressFilter.parse("10.0.0.0/24"));
+        assertEquals(List.of("10.0.0.2", "10.0.0.9"), keys(model));
+        assertEquals("c", model.getValueAt(0, 1));
+
+        model.setFilter(AddressFilter.parse("10.0.1.1"));
+        assertEquals(List.of("10.0.1.1"), keys(model));
+
+        // 부호 없는 비교로 상위 주소 범위 검색
+        model.setFilter(AddressFilter.parse("128.0.0.0/1"));
+        assertEquals(List.of("192.168.0.1", "255.255.255.255"), keys(model));
+
+        model.setFilter(AddressFilter.parse("0.0.0.0/0"));
+        assertEquals(5, model.getRowCount());
+
+        model.setFilter(null);
+        assertEquals(5, model.getRowCount());
+        assertEquals(5, model.getTotalCount());
+    }
+
+    @Test
+    void firesRowEventsForMatchingChanges() {
+        AddressTableModel model = model();
+        put(model, "10.0.0.1", "a");
+        put(model, "10.0.0.5", "b");
+        put(model, "172.16.0.1", "c");
+        model.apply();
+        model.setFilter(AddressFilter.parse("10.0.0.0/24"));
+
+        List<TableModelEvent> events = new ArrayList<>();
+        model.addTableModelListener(events::add);
+
+        // 조건에 맞지 않는 변경은 통지하지 않음
+        put(model, "172.16.0.1", "x");
+        put(model, "172.16.0.2", "y");
+        model.apply();
+        assertTrue(events.isEmpty());
+
+        // 값 변경은 행 단위 변경 이벤트
+        put(model, "10.0.0.5", "z");
+        model.apply();
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.UPDATE, events.get(0).getType());
+        assertEquals(1, events.get(0).getFirstRow());
+        assertEquals(1, events.get(0).getLastRow());
+        assertEquals("z", model.getValueAt(1, 1));
+
+        // 추가는 주소 순 위치에 행 단위 삽입 이벤트
+        events.clear();
+        put(model, "10.0.0.3", "w");
+        model.apply();
+        assertEquals(1, events.size());
+        assertEquals(TableModelEvent.INSERT, events.get(0).getType());
+        assertEquals(1, events.get(0).getFirstRow());
+        assertEquals(List.of("10.0.0.1", "10.0.0.3", "10.0.0.5"), keys(model));
+
+        // 제거 후에는 색인을 다시 만들어 전체 통지
+        events.clear();
+        model.remove(new IPAddress("10.0.0.1"));
+        model.apply();
+        assertEquals(1, events.size());
+        assertEquals(Integer.MAX_VALUE, events.get(0).getLastRow());
+        assertEquals(List.of("10.0.0.3", "10.0.0.5"), keys(model));
+        assertEquals(5 - 1, model.getTotalCount());
+
+        model.setFilter(AddressFilter.parse("172.16.0.0/16"));
+        assertEquals(List.of("172.16.0.1", "172.16.0.2"), keys(model));
+    }
+
+    @Test
+    void rebuildsViewForBulkInserts() {
+        AddressTableModel model = model();
+        model.setFilter(AddressFilter.parse("10.0.0.0/8"));
+        for (int host = 200; host > 0; host--) {
+            IPAddress key = new IPAddress(0x0A000000 | host);
+            model.put(key, key, host);
+        }
+        put(model, "11.0.0.1", "x");
+        model.apply();
+
+        assertEquals(200, model.getRowCount());
+        for (int row = 0; row < 200; row++) {
+            assertEquals(new IPAddress(0x0A000000 | (row + 1)), model.getKey(row));
+        }
+    }
+
+}
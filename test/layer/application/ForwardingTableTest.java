@@ -0,0 +1,142 @@
+package layer.application;
+
+import data.address.IPAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ForwardingTableTest {
+
+    private static RouteEntry route(String destination, int length, String gateway, int interfaceNumber, int metric) {
+        boolean isGateway = !gateway.equals("0.0.0.0");
+        return new RouteEntry(new IPAddress(destination), IPAddress.netmask(length), new IPAddress(gateway),
+                true, isGateway, length == 32, interfaceNumber, metric);
+    }
+
+    private static RouteEntry down(RouteEntry entry) {
+        return new RouteEntry(entry.destination(), entry.netmask(), entry.gateway(), false, entry.isGateway(),
+                entry.isHost(), entry.interfaceNumber(), entry.metric());
+    }
+
+    private static int address(String text) {
+        return new IPAddress(text).toInt();
+    }
+
+    @Test
+    void matchesLongestPrefix() {
+        RouteEntry defaultRoute = route("0.0.0.0", 0, "10.0.0.1", 0, 1);
+        RouteEntry wide = route("192.168.0.0", 16, "10.0.0.2", 0, 1);
+        RouteEntry narrow = route("192.168.1.0", 24, "0.0.0.0", 1, 1);
+        RouteEntry host = route("192.168.1.7", 32, "10.0.0.3", 0, 1);
+        ForwardingTable table = ForwardingTable.build(List.of(defaultRoute, wide, narrow, host));
+
+        assertSame(host, table.lookup(address("192.168.1.7")));
+        assertSame(narrow, table.lookup(address("192.168.1.8")));
+        assertSame(wide, table.lookup(address("192.168.2.1")));
+        assertSame(defaultRoute, table.lookup(address("8.8.8.8")));
+        assertEquals(4, table.size());
+    }
+
+    @Test
+    void returnsNullWithoutMatch() {
+        ForwardingTable table = ForwardingTable.build(List.of(route("10.0.0.0", 8, "0.0.0.0", 0, 1)));
+        assertNull(table.lookup(address("11.0.0.1")));
+        assertNull(ForwardingTable.EMPTY.lookup(address("11.0.0.1")));
+    }
+
+    @Test
+    void replacesSamePath() {
+        RouteEntry first = route("10.0.0.0", 8, "192.168.0.1", 0, 5);
+        RouteEntry second = route("10.0.0.0", 8, "192.168.0.1", 0, 1);
+        ForwardingTable table = ForwardingTable.build(List.of(first, second));
+
+        assertEquals(1, table.size());
+        assertFalse(table.contains(first));
+        assertTrue(table.contains(second));
+    }
+
+    @Test
+    void spreadsFlowsOverEqualCostPaths() {
+        List<RouteEntry> paths = List.of(
+                route("10.0.0.0", 8, "192.168.0.1", 0, 1),
+                route("10.0.0.0", 8, "192.168.0.2", 0, 1),
+                route("10.0.0.0", 8, "192.168.0.3", 1, 1),
+                route("10.0.0.0", 8, "192.168.0.4", 1, 1));
+        ForwardingTable table = ForwardingTable.build(paths);
+        assertEquals(4, table.getAll(address("10.0.0.0"), 8).size());
+
+        Map<RouteEntry, Integer> counts = new HashMap<>();
+        Random random = new Random(1);
+        for (int count = 0; count < 40_000; count++) {
+            int hash = random.nextInt();
+            RouteEntry entry = table.lookup(address("10.1.2.3"), hash);
+            counts.merge(entry, 1, Integer::sum);
+            // 같은 흐름은 항상 같은 경로
+            assertSame(entry, table.lookup(address("10.9.9.9"), hash));
+        }
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            assertTrue(count > 9_000 && count < 11_000, "unbalanced " + counts);
+        }
+    }
+
+    @Test
+    void movesOnlyFlowsOfUnusablePath() {
+        RouteEntry a = route("10.0.0.0", 8, "192.168.0.1", 0, 1);
+        RouteEntry b = route("10.0.0.0", 8, "192.168.0.2", 0, 1);
+        RouteEntry c = route("10.0.0.0", 8, "192.168.0.3", 0, 1);
+        ForwardingTable table = ForwardingTable.build(List.of(a, b, c));
+
+        Random random = new Random(2);
+        for (int count = 0; count < 10_000; count++) {
+            int hash = random.nextInt();
+            RouteEntry before = table.lookup(address("10.0.0.1"), hash);
+            RouteEntry after = table.lookup(address("10.0.0.1"), hash, entry -> entry != b);
+            assertNotSame(b, after);
+            if (before != b) {
+                assertSame(before, after);
+            }
+        }
+    }
+
+    @Test
+    void prefersUpDirectAndLowMetric() {
+        RouteEntry gateway = route("10.0.0.0", 8, "192.168.0.1", 0, 1);
+        RouteEntry direct = route("10.0.0.0", 8, "0.0.0.0", 1, 9);
+        RouteEntry directDown = down(route("10.0.0.0", 8, "0.0.0.0", 2, 0));
+        ForwardingTable table = ForwardingTable.build(List.of(directDown, gateway, direct));
+
+        assertEquals(List.of(direct, gateway, directDown), table.getAll(address("10.0.0.0"), 8));
+        assertSame(direct, table.get(address("10.0.0.0"), 8));
+    }
+
+    @Test
+    void selectsBackupByMetric() {
+        RouteEntry primary = route("10.0.0.0", 8, "192.168.0.1", 0, 1);
+        RouteEntry backup = route("10.0.0.0", 8, "192.168.0.2", 1, 5);
+        RouteEntry last = route("10.0.0.0", 8, "192.168.0.3", 2, 10);
+        ForwardingTable table = ForwardingTable.build(List.of(last, backup, primary));
+        int target = address("10.0.0.1");
+
+        assertSame(primary, table.lookup(target, 0));
+        assertSame(backup, table.lookup(target, 0, entry -> entry != primary));
+        assertSame(last, table.lookup(target, 0, entry -> entry == last));
+    }
+
+    @Test
+    void fallsBackToShorterPrefix() {
+        RouteEntry specific = route("10.1.0.0", 16, "192.168.0.1", 0, 1);
+        RouteEntry defaultRoute = route("0.0.0.0", 0, "192.168.0.2", 1, 1);
+        ForwardingTable table = ForwardingTable.build(List.of(specific, defaultRoute));
+        int target = address("10.1.2.3");
+
+        assertSame(defaultRoute, table.lookup(target, 0, entry -> entry != specific));
+        // 사용할 수 있는 경로가 없으면 가장 긴 접두사의 엔트리
+        assertSame(specific, table.lookup(target, 0, entry -> false));
+    }
+}
@@ -0,0 +1,109 @@
+package layer.application;
+
+import data.address.IPAddress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    private Path write(String name, String text) throws IOException {
+        return Files.writeString(directory.resolve(name), text);
+    }
+
+    @Test
+    void readsTextWithCommentsAndMetric() throws IOException {
+        Path path = write("routes.txt", """
+                # destination netmask gateway flags interface [metric]
+                0.0.0.0 0.0.0.0 10.0.0.1 UG 0
+
+                192.168.1.0, 255.255.255.0, 0.0.0.0, U, 1, 5   # directly connected
+                10.0.0.7\t255.255.255.255\t10.0.0.1\tUGH\t0\t65535""");
+        List<RouteEntry> routes = RouteLoader.readText(path);
+
+        assertEquals(3, routes.size());
+        RouteEntry defaultRoute = routes.get(0);
+        assertEquals(new IPAddress("10.0.0.1"), defaultRoute.gateway());
+        assertTrue(defaultRoute.isUp() && defaultRoute.isGateway() && !defaultRoute.isHost());
+        assertEquals(1, defaultRoute.metric());
+
+        RouteEntry direct = routes.get(1);
+        assertEquals(new IPAddress("192.168.1.0"), direct.destination());
+        assertEquals(IPAddress.netmask(24), direct.netmask());
+        assertEquals(1, direct.interfaceNumber());
+        assertEquals(5, direct.metric());
+
+        RouteEntry host = routes.get(2);
+        assertTrue(host.isHost());
+        assertEquals(RouteLoader.MAX_FIELD_VALUE, host.metric());
+    }
+
+    @Test
+    void reportsLineOfError() throws IOException {
+        Path path = write("bad.txt", "0.0.0.0 0.0.0.0 10.0.0.1 UG 0\n10.0.0.0 255.0.255.0 0.0.0.0 U 0\n");
+        IOException e = assertThrows(IOException.class, () -> RouteLoader.readText(path));
+        assertTrue(e.getMessage().endsWith(":2: invalid netmask"), e.getMessage());
+    }
+
+    @Test
+    void rejectsOutOfRangeNumbers() throws IOException {
+        Path metric = write("metric.txt", "10.0.0.0 255.0.0.0 0.0.0.0 U 0 65536\n");
+        assertThrows(IOException.class, () -> RouteLoader.readText(metric));
+        // 곱셈 후 int 범위를 넘어 음수가 되는 값
+        Path overflow = write("overflow.txt", "10.0.0.0 255.0.0.0 0.0.0.0 U 4294967297\n");
+        assertThrows(IOException.class, () -> RouteLoader.readText(overflow));
+        Path empty = write("empty.txt", "10.0.0.0 255.0.0.0 0.0.0.0 U ,,,\n");
+        assertThrows(IOException.class, () -> RouteLoader.readText(empty));
+    }
+
+    @Test
+    void roundTripsBinary() throws IOException {
+        Path text = write("routes.txt", """
+                0.0.0.0 0.0.0.0 10.0.0.1 UG 0
+                10.1.0.0 255.255.0.0 10.0.0.1 UG 0 3
+                10.2.0.0 255.255.0.0 10.0.0.2 UG 1 4
+                192.168.1.0 255.255.255.0 0.0.0.0 U 1
+                192.168.1.9 255.255.255.255 0.0.0.0 UH 1 65535
+                """);
+        List<RouteEntry> routes = RouteLoader.readText(text);
+        Path binary = directory.resolve("routes.bin");
+        RouteLoader.writeBinary(binary, routes);
+
+        assertEquals(routes, RouteLoader.readBinary(binary));
+        assertEquals(routes, RouteLoader.read(binary));
+        assertEquals(routes, RouteLoader.read(text));
+    }
+
+    @Test
+    void rejectsTruncatedBinary() throws IOException {
+        Path binary = directory.resolve("routes.bin");
+        RouteLoader.writeBinary(binary, List.of(new RouteEntry(new IPAddress("10.0.0.0"), IPAddress.netmask(8),
+                IPAddress.ZERO, true, false, false, 0, 1)));
+        byte[] bytes = Files.readAllBytes(binary);
+        Files.write(binary, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> RouteLoader.readBinary(binary));
+    }
+
+    @Test
+    void refusesToWriteOutOfRangeFields() {
+        Path binary = directory.resolve("routes.bin");
+        RouteEntry metric = new RouteEntry(new IPAddress("10.0.0.0"), IPAddress.netmask(8), IPAddress.ZERO,
+                true, false, false, 0, 70000);
+        RouteEntry interfaceNumber = new RouteEntry(new IPAddress("10.0.0.0"), IPAddress.netmask(8), IPAddress.ZERO,
+                true, false, false, 0x10000, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> RouteLoader.writeBinary(binary, List.of(metric)));
+        assertThrows(IllegalArgumentException.class, () -> RouteLoader.writeBinary(binary, List.of(interfaceNumber)));
+        assertFalse(Files.exists(binary));
+    }
+}
@@ -0,0 +1,129 @@
+package layer.application;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouterSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private static final MACAddress PROXY = new MACAddress("00:11:22:33:44:55");
+    private static final MACAddress ORPHAN = new MACAddress("66:77:88:99:aa:bb");
+
+    private static RouterSnapshot snapshot() {
+        List<RouteEntry> routeList = List.of(
+                new RouteEntry(IPAddress.ZERO, IPAddress.ZERO, new IPAddress("10.0.0.1"), true, true, false, 0, 1),
+                new RouteEntry(new IPAddress("192.168.1.0"), IPAddress.netmask(24), IPAddress.ZERO, true, false, false, 1, 5),
+                new RouteEntry(new IPAddress("10.0.0.7"), IPAddress.netmask(32), new IPAddress("10.0.0.1"), true, true, true, 0, 65535));
+
+        Map<IPAddress, MACAddress> cacheTable = new HashMap<>();
+        cacheTable.put(new IPAddress("10.0.0.1"), new MACAddress("02:00:00:00:00:01"));
+        cacheTable.put(new IPAddress("255.255.255.254"), new MACAddress("ff:ff:ff:ff:ff:fe"));
+
+        Map<IPAddress, MACAddress> proxyMACTable = new HashMap<>();
+        proxyMACTable.put(new IPAddress("192.168.1.50"), PROXY);
+        proxyMACTable.put(new IPAddress("192.168.1.51"), ORPHAN);
+        Map<MACAddress, Integer> proxyInterfaceTable = new HashMap<>();
+        proxyInterfaceTable.put(PROXY, 1);
+
+        return new RouterSnapshot(1234567890123L, routeList, cacheTable, proxyMACTable, proxyInterfaceTable);
+    }
+
+    @Test
+    void restoresWrittenSnapshot() throws IOException {
+        RouterSnapshot snapshot = snapshot();
+        Path path = directory.resolve("router.snapshot");
+        snapshot.write(path);
+
+        RouterSnapshot read = RouterSnapshot.read(path);
+        assertEquals(snapshot.getCreatedTime(), read.getCreatedTime());
+        assertEquals(snapshot.getRouteList(), read.getRouteList());
+        assertEquals(snapshot.getCacheTable(), read.getCacheTable());
+
+        // 인터페이스가 없는 프록시는 기록되지 않음
+        assertEquals(Map.of(new IPAddress("192.168.1.50"), PROXY), read.getProxyMACTable());
+        assertEquals(Map.of(PROXY, 1), read.getProxyInterfaceTable());
+
+        // 임시 파일이 남지 않음
+        assertFalse(Files.exists(directory.resolve("router.snapshot.tmp")));
+    }
+
+    @Test
+    void restoresEmptySnapshot() throws IOException {
+        Path path = directory.resolve("empty.snapshot");
+        new RouterSnapshot(0, new ArrayList<>(), new HashMap<>(), new HashMap<>(), new HashMap<>()).write(path);
+
+        RouterSnapshot read = RouterSnapshot.read(path);
+        assertTrue(read.getRouteList().isEmpty());
+        assertTrue(read.getCacheTable().isEmpty());
+        assertTrue(read.getProxyMACTable().isEmpty());
+    }
+
+    @Test
+    void overwritesPreviousSnapshot() throws IOException {
+        Path path = directory.resolve("router.snapshot");
+        Files.write(path, new byte[100_000]);
+        snapshot().write(path);
+
+        assertEquals(3, RouterSnapshot.read(path).getRouteList().size());
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path path = directory.resolve("router.snapshot");
+        snapshot().write(path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        for (int length : new int[]{0, 31, 32, bytes.length - 1}) {
+            Path truncated = Files.write(directory.resolve("truncated-" + length), Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> RouterSnapshot.read(truncated), "length " + length);
+        }
+    }
+
+    @Test
+    void rejectsBadMagicAndVersion() throws IOException {
+        Path path = directory.resolve("router.snapshot");
+        snapshot().write(path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        byte[] magic = bytes.clone();
+        magic[0] = 'X';
+        Path badMagic = Files.write(directory.resolve("magic"), magic);
+        IOException e = assertThrows(IOException.class, () -> RouterSnapshot.read(badMagic));
+        assertTrue(e.getMessage().endsWith(": not a snapshot file"), e.getMessage());
+
+        byte[] version = bytes.clone();
+        ByteBuffer.wrap(version).putShort(4, (short) (RouterSnapshot.VERSION + 1));
+        Path badVersion = Files.write(directory.resolve("version"), version);
+        e = assertThrows(IOException.class, () -> RouterSnapshot.read(badVersion));
+        assertTrue(e.getMessage().endsWith(": unsupported version " + (RouterSnapshot.VERSION + 1)), e.getMessage());
+    }
+
+    @Test
+    void rejectsNegativeCount() throws IOException {
+        Path path = directory.resolve("router.snapshot");
+        snapshot().write(path);
+        byte[] bytes = Files.readAllBytes(path);
+
+        ByteBuffer.wrap(bytes).putInt(20, -1);
+        Path negative = Files.write(directory.resolve("negative"), bytes);
+        IOException e = assertThrows(IOException.class, () -> RouterSnapshot.read(negative));
+        assertTrue(e.getMessage().endsWith(": truncated snapshot file"), e.getMessage());
+    }
+
+}
@@ -0,0 +1,39 @@
+package layer.application;
+
+import data.address.IPAddress;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoutingTableTest {
+
+    @Test
+    void tracksGatewaysOfEntries() {
+        RoutingTable table = new RoutingTable();
+        IPAddress gateway = new IPAddress("192.168.0.1");
+        RouteEntry indirect = new RouteEntry(new IPAddress("10.0.0.0"), IPAddress.netmask(8), gateway,
+                true, true, false, 0, 1);
+        RouteEntry direct = new RouteEntry(new IPAddress("192.168.0.0"), IPAddress.netmask(24), IPAddress.ZERO,
+                true, false, false, 0, 1);
+
+        table.add(direct);
+        assertFalse(table.isGateway(IPAddress.ZERO));
+        assertFalse(table.isGateway(gateway));
+
+        table.add(indirect);
+        assertTrue(table.isGateway(gateway));
+        assertSame(table.snapshot().entries(), table.entries());
+
+        assertTrue(table.remove(indirect));
+        assertFalse(table.isGateway(gateway));
+    }
+
+    @Test
+    void rejectsOutOfRangeEntries() {
+        RoutingTable table = new RoutingTable();
+        RouteEntry entry = new RouteEntry(new IPAddress("10.0.0.0"), IPAddress.netmask(8), IPAddress.ZERO,
+                true, false, false, 0, RouteLoader.MAX_FIELD_VALUE + 1);
+        assertThrows(IllegalArgumentException.class, () -> table.add(entry));
+        assertEquals(0, table.size());
+    }
+}
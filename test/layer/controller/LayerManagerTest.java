@@ -0,0 +1,33 @@
+package layer.controller;
+
+import data.address.IPAddress;
+import data.address.MACAddress;
+import data.unit.frame.EthernetFrame;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LayerManagerTest {
+
+    @Test
+    void findsAddressOfAnyInterface() {
+        LayerManager manager = LayerManager.getInstance();
+        int first = new IPAddress("172.31.0.1").toInt();
+        int second = new IPAddress("172.31.1.1").toInt();
+        manager.putInterfaceContext(new InterfaceContext(6, new MACAddress("02:00:00:00:00:06"), new IPAddress(first),
+                IPAddress.netmask(24), EthernetFrame.MIN_MTU, null));
+        manager.putInterfaceContext(new InterfaceContext(7, new MACAddress("02:00:00:00:00:07"), new IPAddress(second),
+                IPAddress.netmask(24), EthernetFrame.MIN_MTU, null));
+        try {
+            assertTrue(manager.isInterfaceAddress(first));
+            assertTrue(manager.isInterfaceAddress(second));
+            assertFalse(manager.isInterfaceAddress(new IPAddress("172.31.2.1").toInt()));
+
+            manager.removeInterfaceContext(7);
+            assertFalse(manager.isInterfaceAddress(second));
+        } finally {
+            manager.removeInterfaceContext(6);
+            manager.removeInterfaceContext(7);
+        }
+    }
+}
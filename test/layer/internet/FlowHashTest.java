@@ -0,0 +1,44 @@
+package layer.internet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlowHashTest {
+
+    private static int hash(byte[] packet) {
+        return FlowHash.compute(packet, 0, packet.length);
+    }
+
+    @Test
+    void mixesPortsOfUnfragmentedPackets() {
+        byte[] packet = Packets.ipv4(1, FlowHash.UDP, 64, 1);
+        int before = hash(packet);
+        packet[21] ^= 1;
+        assertNotEquals(before, hash(packet));
+        // 포트 뒤의 데이터는 해시에 영향 없음
+        int ports = hash(packet);
+        packet[20 + 8] ^= 1;
+        assertEquals(ports, hash(packet));
+    }
+
+    @Test
+    void hashesAllFragmentsOfPacketAlike() {
+        byte[] packet = Packets.ipv4(2, FlowHash.TCP, 4000, 2);
+        byte[][] fragments = Fragmenter.fragment(packet, 1500, 0);
+        assertNotNull(fragments);
+        for (byte[] fragment : fragments) {
+            assertEquals(hash(fragments[0]), hash(fragment));
+        }
+
+        // 포트 번호가 다른 패킷의 첫 조각도 같은 해시
+        byte[] other = packet.clone();
+        other[20] ^= 1;
+        assertEquals(hash(fragments[0]), hash(Fragmenter.fragment(other, 1500, 0)[0]));
+    }
+
+    @Test
+    void ignoresShortPackets() {
+        assertEquals(0, FlowHash.compute(new byte[19], 0, 19));
+    }
+}
@@ -0,0 +1,104 @@
+package layer.internet;
+
+import data.unit.frame.EthernetFrame;
+import layer.controller.CounterSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FragmenterTest {
+
+    private static final int HEADROOM = 14;
+
+    @Test
+    void splitsIntoValidFragments() {
+        byte[] packet = Packets.ipv4(1, FlowHash.UDP, 4000, 1);
+        byte[][] fragments = Fragmenter.fragment(packet, 1500, HEADROOM);
+        assertNotNull(fragments);
+        assertEquals(3, fragments.length);
+
+        int expectedOffset = 0;
+        for (int index = 0; index < fragments.length; index++) {
+            byte[] fragment = Arrays.copyOfRange(fragments[index], HEADROOM, fragments[index].length);
+            int length = ICMP.getShort(fragment, 2);
+            int flags = ICMP.getShort(fragment, 6);
+            boolean last = index == fragments.length - 1;
+
+            assertEquals(Math.max(length, EthernetFrame.MIN_DATA_LENGTH), fragment.length);
+            assertTrue(length <= 1500);
+            assertEquals(0, ICMP.checksum(fragment, 0, 20), "header checksum");
+            assertEquals(ICMP.getShort(packet, 4), ICMP.getShort(fragment, 4), "identification");
+            assertEquals(expectedOffset, (flags & Fragmenter.OFFSET_MASK) * 8);
+            assertEquals(!last, (flags & Fragmenter.MORE_FRAGMENTS) != 0);
+            if (!last) {
+                assertEquals(0, (length - 20) % 8, "non-last fragment data must be a multiple of 8");
+            }
+            assertArrayEquals(Arrays.copyOfRange(packet, 20 + expectedOffset, 20 + expectedOffset + length - 20),
+                    Arrays.copyOfRange(fragment, 20, length));
+            expectedOffset += length - 20;
+        }
+        assertEquals(4000, expectedOffset);
+    }
+
+    @Test
+    void keepsOffsetAndMoreFlagOfFragment() {
+        byte[] packet = Packets.ipv4(2, FlowHash.UDP, 4000, 2);
+        byte[] middle = Packets.fragment(packet, 1480, 1480, true);
+        byte[][] fragments = Fragmenter.fragment(middle, 576, 0);
+        assertNotNull(fragments);
+
+        int last = ICMP.getShort(fragments[fragments.length - 1], 6);
+        assertEquals(Fragmenter.MORE_FRAGMENTS, last & Fragmenter.MORE_FRAGMENTS);
+        assertEquals(1480 / 8, ICMP.getShort(fragments[0], 6) & Fragmenter.OFFSET_MASK);
+    }
+
+    @Test
+    void copiesOnlyCopiedOptions() {
+        byte[] plain = Packets.ipv4(3, FlowHash.UDP, 2000, 3);
+        byte[] packet = new byte[plain.length + 8];
+        System.arraycopy(plain, 0, packet, 0, 20);
+        System.arraycopy(plain, 20, packet, 28, 2000);
+        packet[0] = 0x47;
+        ICMP.putShort(packet, 2, packet.length);
+        // Record Route (복사 안 함) 와 복사 플래그가 설정된 4 바이트 옵션
+        packet[20] = 7;
+        packet[21] = 4;
+        packet[24] = (byte) 0x94;
+        packet[25] = 4;
+
+        byte[][] fragments = Fragmenter.fragment(packet, 1000, 0);
+        assertNotNull(fragments);
+        assertEquals(28, (fragments[0][0] & 0xF) * 4);
+        assertEquals(24, (fragments[1][0] & 0xF) * 4);
+        assertEquals((byte) 0x94, fragments[1][20]);
+    }
+
+    @Test
+    void rejectsTooSmallMtu() {
+        byte[] packet = Packets.ipv4(4, FlowHash.UDP, 100, 4);
+        assertNull(Fragmenter.fragment(packet, 27, 0));
+    }
+
+    @Test
+    void padsSmallFragmentsToMinimumFrame() {
+        // 마지막 조각의 데이터는 8 바이트
+        byte[] packet = Packets.ipv4(5, FlowHash.UDP, 1488, 5);
+        byte[][] fragments = Fragmenter.fragment(packet, 1500, HEADROOM);
+        assertNotNull(fragments);
+        assertEquals(2, fragments.length);
+
+        byte[] last = fragments[1];
+        assertEquals(EthernetFrame.HEADER_LENGTH + EthernetFrame.MIN_DATA_LENGTH, last.length);
+        assertEquals(28, ICMP.getShort(last, HEADROOM + 2));
+        for (int index = HEADROOM + 28; index < last.length; index++) {
+            assertEquals(0, last[index]);
+        }
+
+        // 채운 부분은 재조립에 영향 없음
+        Reassembler reassembler = new Reassembler(1 << 20, 30_000, CounterSet.register("test", "fragmenter-padding"));
+        assertNull(reassembler.add(Arrays.copyOfRange(fragments[0], HEADROOM, fragments[0].length)));
+        assertArrayEquals(packet, reassembler.add(Arrays.copyOfRange(last, HEADROOM, last.length)));
+    }
+}
@@ -0,0 +1,123 @@
+package layer.internet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ICMPTest {
+
+    private static byte[] echoRequest(int payloadLength) {
+        byte[] packet = Packets.ipv4(10, ICMP.PROTOCOL, 8 + payloadLength, payloadLength);
+        packet[8] = 3;
+        ICMP.putShort(packet, 10, 0);
+        ICMP.putShort(packet, 10, ICMP.checksum(packet, 0, 20));
+        packet[20] = ICMP.ECHO_REQUEST;
+        packet[21] = 0;
+        ICMP.putShort(packet, 22, 0);
+        ICMP.putShort(packet, 22, ICMP.checksum(packet, 20, packet.length - 20));
+        return packet;
+    }
+
+    @Test
+    void computesInternetChecksum() {
+        // RFC 1071 의 예
+        byte[] data = {0x00, 0x01, (byte) 0xF2, 0x03, (byte) 0xF4, (byte) 0xF5, (byte) 0xF6, (byte) 0xF7};
+        assertEquals(~0xDDF2 & 0xFFFF, ICMP.checksum(data, 0, data.length));
+    }
+
+    @Test
+    void padsOddLength() {
+        byte[] data = {0x12, 0x34, 0x56};
+        assertEquals(~(0x1234 + 0x5600) & 0xFFFF, ICMP.checksum(data, 0, 3));
+    }
+
+    @Test
+    void verifiesToZero() {
+        byte[] packet = Packets.ipv4(1, FlowHash.UDP, 32, 1);
+        assertEquals(0, ICMP.checksum(packet, 0, 20));
+    }
+
+    @Test
+    void adjustsChecksumIncrementally() {
+        Random random = new Random(1);
+        for (int count = 0; count < 1000; count++) {
+            byte[] packet = Packets.ipv4(random.nextInt(0x10000), FlowHash.UDP, 0, random.nextLong());
+            packet[8] = (byte) (2 + random.nextInt(254));
+
+            ICMP.putShort(packet, 10, 0);
+            ICMP.putShort(packet, 10, ICMP.checksum(packet, 0, 20));
+            int ttlWord = ICMP.getShort(packet, 8);
+            packet[8]--;
+            ICMP.putShort(packet, 10, ICMP.adjustChecksum(ICMP.getShort(packet, 10), ttlWord, ttlWord - 0x100));
+
+            assertEquals(0, ICMP.checksum(packet, 0, 20) % 0xFFFF, "incremental checksum must verify");
+        }
+    }
+
+    @Test
+    void quotesHeaderInError() {
+        byte[] packet = Packets.ipv4(2, FlowHash.UDP, 64, 2);
+        byte[] error = ICMP.createError(packet, ICMP.DESTINATION_UNREACHABLE, ICMP.HOST_UNREACHABLE, 0, 0xC0A80101);
+
+        assertEquals(0, ICMP.checksum(error, 0, 20));
+        int icmpLength = ICMP.getShort(error, 2) - 20;
+        assertEquals(0, ICMP.checksum(error, 20, icmpLength));
+        assertEquals(ICMP.DESTINATION_UNREACHABLE, error[20]);
+        assertEquals(ICMP.HOST_UNREACHABLE, error[21]);
+        for (int index = 0; index < 28; index++) {
+            assertEquals(packet[index], error[28 + index], "quoted byte " + index);
+        }
+    }
+
+    @Test
+    void turnsEchoRequestIntoReply() {
+        for (int payloadLength : new int[]{0, 1, 56, 1471}) {
+            byte[] request = echoRequest(payloadLength);
+            byte[] packet = request.clone();
+            assertTrue(ICMP.toEchoReply(packet));
+
+            assertEquals(0, ICMP.checksum(packet, 0, 20), "ip checksum");
+            assertEquals(0, ICMP.checksum(packet, 20, packet.length - 20), "icmp checksum");
+            assertEquals(ICMP.getInt(request, 12), ICMP.getInt(packet, 16));
+            assertEquals(ICMP.getInt(request, 16), ICMP.getInt(packet, 12));
+            assertEquals(ICMP.DEFAULT_TTL, packet[8]);
+            assertEquals(ICMP.ECHO_REPLY, packet[20]);
+            assertEquals(0, packet[21]);
+            // 식별자, 순서 번호, 데이터는 그대로
+            assertArrayEquals(Arrays.copyOfRange(request, 24, request.length), Arrays.copyOfRange(packet, 24, packet.length));
+        }
+    }
+
+    @Test
+    void rejectsNonEchoPackets() {
+        byte[] fragment = echoRequest(64);
+        ICMP.putShort(fragment, 6, Fragmenter.MORE_FRAGMENTS);
+        ICMP.putShort(fragment, 10, 0);
+        ICMP.putShort(fragment, 10, ICMP.checksum(fragment, 0, 20));
+        assertUnchanged(fragment);
+
+        byte[] badHeader = echoRequest(8);
+        badHeader[10] ^= 1;
+        assertUnchanged(badHeader);
+
+        byte[] badData = echoRequest(8);
+        badData[30] ^= 1;
+        assertUnchanged(badData);
+
+        byte[] reply = echoRequest(8);
+        reply[20] = ICMP.ECHO_REPLY;
+        ICMP.putShort(reply, 22, ICMP.adjustChecksum(ICMP.getShort(reply, 22), ICMP.ECHO_REQUEST << 8, 0));
+        assertUnchanged(reply);
+
+        assertUnchanged(Packets.ipv4(11, FlowHash.UDP, 16, 11));
+    }
+
+    private static void assertUnchanged(byte[] packet) {
+        byte[] copy = packet.clone();
+        assertFalse(ICMP.toEchoReply(packet));
+        assertArrayEquals(copy, packet);
+    }
+}
@@ -0,0 +1,58 @@
+package layer.internet;
+
+import java.util.Random;
+
+/**
+ * 테스트용 IP 패킷 생성 클래스
+ */
+final class Packets {
+
+    private Packets() {
+    }
+
+    /**
+     * 옵션 없는 IPv4 패킷 생성 메서드
+     *
+     * @param identification 식별자
+     * @param protocol       프로토콜 번호
+     * @param dataLength     데이터 길이
+     * @param seed           데이터를 채울 난수 시드
+     * @return 체크섬이 계산된 IP 패킷 바이트 배열
+     */
+    static byte[] ipv4(int identification, int protocol, int dataLength, long seed) {
+        byte[] packet = new byte[20 + dataLength];
+        new Random(seed).nextBytes(packet);
+        packet[0] = 0x45;
+        packet[1] = 0;
+        ICMP.putShort(packet, 2, packet.length);
+        ICMP.putShort(packet, 4, identification);
+        ICMP.putShort(packet, 6, 0);
+        packet[8] = (byte) ICMP.DEFAULT_TTL;
+        packet[9] = (byte) protocol;
+        ICMP.putInt(packet, 12, 0xC0A80164);
+        ICMP.putInt(packet, 16, 0x0A000001);
+        ICMP.putShort(packet, 10, 0);
+        ICMP.putShort(packet, 10, ICMP.checksum(packet, 0, 20));
+        return packet;
+    }
+
+    /**
+     * 원본 패킷의 일부를 담은 조각 생성 메서드
+     *
+     * @param packet 옵션 없는 원본 IP 패킷
+     * @param first  조각 데이터의 시작 위치 (8 의 배수)
+     * @param length 조각 데이터 길이
+     * @param more   More Fragments 플래그
+     * @return 조각 IP 패킷 바이트 배열
+     */
+    static byte[] fragment(byte[] packet, int first, int length, boolean more) {
+        byte[] fragment = new byte[20 + length];
+        System.arraycopy(packet, 0, fragment, 0, 20);
+        System.arraycopy(packet, 20 + first, fragment, 20, length);
+        ICMP.putShort(fragment, 2, fragment.length);
+        ICMP.putShort(fragment, 6, (more ? Fragmenter.MORE_FRAGMENTS : 0) | first / 8);
+        ICMP.putShort(fragment, 10, 0);
+        ICMP.putShort(fragment, 10, ICMP.checksum(fragment, 0, 20));
+        return fragment;
+    }
+}
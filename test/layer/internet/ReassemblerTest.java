@@ -0,0 +1,156 @@
+package layer.internet;
+
+import layer.controller.CounterSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReassemblerTest {
+
+    private static final long TIMEOUT = 30_000;
+
+    private static byte[][] split(byte[] packet, int mtu) {
+        byte[][] fragments = Fragmenter.fragment(packet, mtu, 0);
+        assertNotNull(fragments);
+        return fragments;
+    }
+
+    @Test
+    void reassemblesInOrder() {
+        CounterSet counters = CounterSet.register("test", "reassembler-in-order");
+        Reassembler reassembler = new Reassembler(1 << 20, TIMEOUT, counters);
+        byte[] packet = Packets.ipv4(1, FlowHash.UDP, 4000, 1);
+        byte[][] fragments = split(packet, 1500);
+
+        for (int index = 0; index < fragments.length - 1; index++) {
+            assertNull(reassembler.add(fragments[index]));
+        }
+        assertArrayEquals(packet, reassembler.add(fragments[fragments.length - 1]));
+        assertEquals(0, reassembler.getMemory());
+        assertEquals(0, reassembler.getPendingCount());
+        assertEquals(1, counters.get("Reassembled"));
+    }
+
+    @Test
+    void reassemblesOutOfOrderWithDuplicates() {
+        Reassembler reassembler = new Reassembler(1 << 20, TIMEOUT, CounterSet.register("test", "reassembler-shuffled"));
+        byte[] packet = Packets.ipv4(2, FlowHash.TCP, 9000, 2);
+        List<byte[]> fragments = new ArrayList<>(Arrays.asList(split(packet, 576)));
+        fragments.add(fragments.get(3));
+        Collections.shuffle(fragments, new Random(2));
+
+        byte[] result = null;
+        for (byte[] fragment : fragments) {
+            assertNull(result, "completed before all fragments arrived");
+            result = reassembler.add(fragment);
+        }
+        assertArrayEquals(packet, result);
+        assertEquals(0, reassembler.getMemory());
+    }
+
+    @Test
+    void reassemblesOverlappingFragments() {
+        Reassembler reassembler = new Reassembler(1 << 20, TIMEOUT, CounterSet.register("test", "reassembler-overlap"));
+        byte[] packet = Packets.ipv4(3, FlowHash.UDP, 100, 3);
+
+        assertNull(reassembler.add(Packets.fragment(packet, 0, 48, true)));
+        assertNull(reassembler.add(Packets.fragment(packet, 64, 36, false)));
+        assertNull(reassembler.add(Packets.fragment(packet, 40, 16, true)));
+        assertArrayEquals(packet, reassembler.add(Packets.fragment(packet, 48, 24, true)));
+    }
+
+    @Test
+    void sizesBufferExactlyFromLastFragment() {
+        Reassembler reassembler = new Reassembler(1 << 20, TIMEOUT, CounterSet.register("test", "reassembler-last-first"));
+        byte[] packet = Packets.ipv4(4, FlowHash.UDP, 8000, 4);
+
+        reassembler.add(Packets.fragment(packet, 7200, 800, false));
+        long memory = reassembler.getMemory();
+        // 데이터 버퍼는 패킷 데이터 길이만큼만 할당
+        assertTrue(memory >= 8000 && memory < 8000 + 1024, "memory " + memory);
+
+        reassembler.add(Packets.fragment(packet, 0, 3600, true));
+        assertArrayEquals(packet, reassembler.add(Packets.fragment(packet, 3600, 3600, true)));
+    }
+
+    @Test
+    void chargesHolesToBudget() {
+        CounterSet counters = CounterSet.register("test", "reassembler-holes");
+        long limit = 4096;
+        Reassembler reassembler = new Reassembler(limit, TIMEOUT, counters);
+        byte[] packet = Packets.ipv4(5, FlowHash.UDP, 60000, 5);
+
+        // 8 바이트 조각을 띄엄띄엄 보내 빈 구간만 늘림
+        long previous = 0;
+        for (int first = 0; first < 1600; first += 16) {
+            reassembler.add(Packets.fragment(packet, first, 8, true));
+            long memory = reassembler.getMemory();
+            assertTrue(memory <= limit, "memory " + memory + " over limit");
+            if (memory == 0) {
+                break;
+            }
+            if (first > 0) {
+                assertTrue(memory > previous, "hole not charged at " + first);
+            }
+            previous = memory;
+        }
+        assertEquals(1, counters.get("ReassemblyDrops"));
+        assertEquals(0, reassembler.getPendingCount());
+    }
+
+    @Test
+    void evictsOldestOverLimit() {
+        CounterSet counters = CounterSet.register("test", "reassembler-evict");
+        Reassembler reassembler = new Reassembler(5000, TIMEOUT, counters);
+        byte[] first = Packets.ipv4(6, FlowHash.UDP, 4000, 6);
+        byte[] second = Packets.ipv4(7, FlowHash.UDP, 4000, 7);
+
+        assertNull(reassembler.add(split(first, 1500)[0]));
+        byte[][] fragments = split(second, 1500);
+        assertNull(reassembler.add(fragments[2]));
+        assertEquals(1, counters.get("ReassemblyEvictions"));
+        assertEquals(1, reassembler.getPendingCount());
+        assertTrue(reassembler.getMemory() <= 5000);
+
+        reassembler.add(fragments[0]);
+        assertArrayEquals(second, reassembler.add(fragments[1]));
+    }
+
+    @Test
+    void expiresIncompleteDatagrams() {
+        CounterSet counters = CounterSet.register("test", "reassembler-expire");
+        Reassembler reassembler = new Reassembler(1 << 20, TIMEOUT, counters);
+        byte[] packet = Packets.ipv4(8, FlowHash.UDP, 4000, 8);
+
+        reassembler.add(split(packet, 1500)[0]);
+        reassembler.expire(System.nanoTime());
+        assertEquals(1, reassembler.getPendingCount());
+
+        reassembler.expire(System.nanoTime() + TIMEOUT * 1_000_000 + 1);
+        assertEquals(0, reassembler.getPendingCount());
+        assertEquals(0, reassembler.getMemory());
+        assertEquals(1, counters.get("ReassemblyTimeouts"));
+    }
+
+    @Test
+    void dropsMalformedFragments() {
+        CounterSet counters = CounterSet.register("test", "reassembler-malformed");
+        Reassembler reassembler = new Reassembler(1 << 20, TIMEOUT, counters);
+        byte[] packet = Packets.ipv4(9, FlowHash.UDP, 100, 9);
+
+        // 마지막이 아닌 조각의 길이가 8 의 배수가 아님
+        assertNull(reassembler.add(Packets.fragment(packet, 0, 12, true)));
+        // 최대 패킷 길이를 넘는 조각
+        byte[] fragment = Packets.fragment(packet, 0, 16, false);
+        ICMP.putShort(fragment, 6, Fragmenter.OFFSET_MASK);
+        assertNull(reassembler.add(fragment));
+        assertEquals(2, counters.get("ReassemblyDrops"));
+        assertEquals(0, reassembler.getMemory());
+    }
+}
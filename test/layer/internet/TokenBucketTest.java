@@ -0,0 +1,61 @@
+package layer.internet;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstThenDenies() {
+        TokenBucket bucket = new TokenBucket(10, 5, 1);
+        long now = System.nanoTime();
+        for (int count = 0; count < 5; count++) {
+            assertTrue(bucket.tryAcquire(1, now), "token " + count);
+        }
+        assertFalse(bucket.tryAcquire(1, now));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        TokenBucket bucket = new TokenBucket(10, 1, 1);
+        long now = System.nanoTime();
+        assertTrue(bucket.tryAcquire(1, now));
+        assertFalse(bucket.tryAcquire(1, now + SECOND / 10 - 1));
+        assertTrue(bucket.tryAcquire(1, now + SECOND / 10));
+        assertFalse(bucket.tryAcquire(1, now + SECOND / 10));
+    }
+
+    @Test
+    void doesNotAccumulateBeyondBurst() {
+        TokenBucket bucket = new TokenBucket(10, 3, 1);
+        long later = System.nanoTime() + 60 * SECOND;
+        for (int count = 0; count < 3; count++) {
+            assertTrue(bucket.tryAcquire(1, later));
+        }
+        assertFalse(bucket.tryAcquire(1, later));
+    }
+
+    @Test
+    void separatesKeysInDifferentBuckets() {
+        TokenBucket bucket = new TokenBucket(1, 1, 1024);
+        long now = System.nanoTime();
+        int denied = 0;
+        for (int key = 0; key < 64; key++) {
+            if (!bucket.tryAcquire(key, now)) {
+                denied++;
+            }
+        }
+        // 해시가 겹친 Key 만 거부됨
+        assertTrue(denied < 8, "denied " + denied);
+    }
+
+    @Test
+    void rejectsIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucket(1, 1, 0));
+    }
+}
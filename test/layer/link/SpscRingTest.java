@@ -0,0 +1,104 @@
+package layer.link;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpscRingTest {
+
+    private static byte[] frame(int value) {
+        return new byte[]{(byte) (value >>> 24), (byte) (value >>> 16), (byte) (value >>> 8), (byte) value};
+    }
+
+    private static int value(byte[] frame) {
+        return (frame[0] & 0xFF) << 24 | (frame[1] & 0xFF) << 16 | (frame[2] & 0xFF) << 8 | frame[3] & 0xFF;
+    }
+
+    @Test
+    void drainsInOrder() {
+        SpscRing ring = new SpscRing(8);
+        for (int value = 0; value < 5; value++) {
+            assertTrue(ring.offer(frame(value), value * 10L));
+        }
+        assertEquals(5, ring.size());
+
+        List<Integer> values = new ArrayList<>();
+        List<Long> times = new ArrayList<>();
+        assertEquals(5, ring.drain((frame, time) -> {
+            values.add(value(frame));
+            times.add(time);
+        }, 16));
+        assertEquals(List.of(0, 1, 2, 3, 4), values);
+        assertEquals(List.of(0L, 10L, 20L, 30L, 40L), times);
+        assertEquals(0, ring.size());
+    }
+
+    @Test
+    void rejectsWhenFull() {
+        // 용량은 2의 거듭제곱으로 올림
+        SpscRing ring = new SpscRing(5);
+        for (int value = 0; value < 8; value++) {
+            assertTrue(ring.offer(frame(value), 0));
+        }
+        assertFalse(ring.offer(frame(8), 0));
+
+        assertEquals(1, ring.drain((frame, time) -> { }, 1));
+        assertTrue(ring.offer(frame(8), 0));
+        assertFalse(ring.offer(frame(9), 0));
+    }
+
+    @Test
+    void drainsUpToLimit() {
+        SpscRing ring = new SpscRing(16);
+        for (int value = 0; value < 10; value++) {
+            ring.offer(frame(value), 0);
+        }
+        List<Integer> values = new ArrayList<>();
+        assertEquals(4, ring.drain((frame, time) -> values.add(value(frame)), 4));
+        assertEquals(6, ring.size());
+        assertEquals(6, ring.drain((frame, time) -> values.add(value(frame)), 16));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), values);
+    }
+
+    @Test
+    void releasesSlotWhenHandlerThrows() {
+        SpscRing ring = new SpscRing(2);
+        ring.offer(frame(0), 0);
+        ring.offer(frame(1), 0);
+        assertThrows(IllegalStateException.class, () -> ring.drain((frame, time) -> {
+            throw new IllegalStateException();
+        }, 2));
+        assertEquals(1, ring.size());
+        assertTrue(ring.offer(frame(2), 0));
+    }
+
+    @Test
+    void preservesOrderAcrossThreads() throws InterruptedException {
+        SpscRing ring = new SpscRing(64);
+        int total = 200_000;
+        Thread producer = new Thread(() -> {
+            for (int value = 0; value < total; value++) {
+                while (!ring.offer(frame(value), value)) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        producer.start();
+
+        int[] expected = {0};
+        while (expected[0] < total) {
+            if (ring.drain((frame, time) -> {
+                assertEquals(expected[0], value(frame));
+                assertEquals(expected[0], time);
+                expected[0]++;
+            }, 32) == 0) {
+                ring.await(1_000_000);
+            }
+        }
+        producer.join();
+        assertEquals(0, ring.size());
+    }
+}
@@ -0,0 +1,120 @@
+package layer.link.capture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PcapRingWriterTest {
+
+    private static final int FILE_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * pcap 파일의 레코드 데이터를 읽는 메서드
+     */
+    private static List<byte[]> readRecords(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.nativeOrder());
+        assertEquals(0xA1B2C3D4, buffer.getInt(0));
+        List<byte[]> records = new ArrayList<>();
+        int position = 24;
+        while (position < buffer.capacity()) {
+            int capturedLength = buffer.getInt(position + 8);
+            assertTrue(capturedLength > 0 && position + 16 + capturedLength <= buffer.capacity(), "record at " + position);
+            byte[] data = new byte[capturedLength];
+            buffer.get(position + 16, data);
+            records.add(data);
+            position += 16 + capturedLength;
+        }
+        return records;
+    }
+
+    private static byte[] frame(int value, int length) {
+        byte[] frame = new byte[length];
+        ByteBuffer.wrap(frame).putInt(value);
+        return frame;
+    }
+
+    @Test
+    void sealsOnlyWrittenRecords() throws IOException {
+        PcapRingWriter writer = new PcapRingWriter(directory, "eth0", 2, FILE_SIZE, 0, 1500);
+        for (int value = 0; value < 3; value++) {
+            writer.write(1_000_000L + value, frame(value, 100), 0, 100);
+        }
+        writer.close();
+
+        Path sealed = directory.resolve("eth0-00.pcap");
+        assertEquals(24 + 3 * (16 + 100), Files.size(sealed));
+        assertEquals(3, readRecords(sealed).size());
+        // 작업 파일은 미리 할당된 크기 유지
+        assertEquals(FILE_SIZE, Files.size(directory.resolve("eth0-00.ring")));
+    }
+
+    @Test
+    void dropsRecordsOfEarlierLaps() throws IOException {
+        PcapRingWriter writer = new PcapRingWriter(directory, "eth0", 2, FILE_SIZE, 0, 1500);
+        // 파일 하나에 레코드 4개, 다섯 번째 세그먼트까지 링을 두 바퀴 이상 순환
+        int count = 18;
+        for (int value = 0; value < count; value++) {
+            writer.write(1_000_000L + value, frame(value, 1000), 0, 1000);
+        }
+        writer.close();
+
+        List<byte[]> last = readRecords(directory.resolve("eth0-00.pcap"));
+        assertEquals(2, last.size());
+        assertEquals(16, ByteBuffer.wrap(last.get(0)).getInt());
+        assertEquals(count - 1, ByteBuffer.wrap(last.get(1)).getInt());
+        List<byte[]> previous = readRecords(directory.resolve("eth0-01.pcap"));
+        assertEquals(4, previous.size());
+        assertEquals(12, ByteBuffer.wrap(previous.get(0)).getInt());
+        assertEquals(FILE_SIZE, Files.size(directory.resolve("eth0-00.ring")));
+        assertEquals(FILE_SIZE, Files.size(directory.resolve("eth0-01.ring")));
+        assertEquals(0, writer.getRotationErrorCount());
+    }
+
+    @Test
+    void keepsRecordsCompleteUnderConcurrentWriters() throws Exception {
+        PcapRingWriter writer = new PcapRingWriter(directory, "eth0", 3, 64 * 1024, 0, 1500);
+        List<Thread> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            int id = thread;
+            threads.add(new Thread(() -> {
+                for (int value = 0; value < 5000; value++) {
+                    byte[] frame = frame(id << 24 | value, 60 + value % 200);
+                    writer.write(PcapRingWriter.currentMicros(), frame, 0, frame.length);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        writer.close();
+
+        for (int index = 0; index < 3; index++) {
+            for (byte[] record : readRecords(directory.resolve(String.format("eth0-%02d.pcap", index)))) {
+                int value = ByteBuffer.wrap(record).getInt() & 0xFFFFFF;
+                assertEquals(60 + value % 200, record.length);
+            }
+        }
+        assertEquals(0, writer.getDropCount());
+    }
+
+    @Test
+    void dropsOversizedRecords() throws IOException {
+        PcapRingWriter writer = new PcapRingWriter(directory, "eth0", 1, 256, 0, 1500);
+        writer.write(1_000_000L, new byte[300], 0, 300);
+        writer.close();
+        assertEquals(1, writer.getDropCount());
+    }
+}